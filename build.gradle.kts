@@ -11,11 +11,25 @@ allprojects {
     description = "Lightweight and multi-threaded Minecraft server implementation"
 }
 
+// Precompiles the registry json files of the data dependency, see RegistryDataGenerator
+val registryDataGenerator: Configuration by configurations.creating
+val generateRegistryData by tasks.registering(JavaExec::class) {
+    val output = layout.buildDirectory.dir("generated/registry-data")
+    classpath = registryDataGenerator
+    mainClass.set("net.minestom.codegen.registry.RegistryDataGenerator")
+    outputs.dir(output)
+    doFirst { delete(output) }
+    argumentProviders.add(CommandLineArgumentProvider { listOf(output.get().asFile.absolutePath) })
+}
+
 sourceSets {
     main {
         java {
             srcDir(file("src/autogenerated/java"))
         }
+        resources {
+            srcDir(generateRegistryData)
+        }
     }
 }
 
@@ -41,6 +55,17 @@ tasks {
         duplicatesStrategy = DuplicatesStrategy.EXCLUDE
     }
 
+    // Opt-in features changing the packets sent, tested in their own JVM
+    val coalescedBlockChangeTest by registering(Test::class) {
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        filter { includeTestsMatching("*.BlockChangeCoalescingIntegrationTest") }
+        jvmArgs("-Dminestom.coalesced-block-change=true")
+    }
+    test {
+        dependsOn(coalescedBlockChangeTest)
+    }
+
     blossom {
         val git = "src/main/java/net/minestom/server/Git.java"
 
@@ -58,6 +83,8 @@ tasks {
 }
 
 dependencies {
+    registryDataGenerator(project(":code-generators"))
+
     // Testing Framework
     testImplementation(project(mapOf("path" to ":testing")))
     // Only here to ensure J9 module support for extensions and our classloaders
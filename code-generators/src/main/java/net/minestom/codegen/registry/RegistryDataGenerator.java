@@ -0,0 +1,181 @@
+package net.minestom.codegen.registry;
+
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Precompiles the registry json files to the binary format read by {@code net.minestom.server.registry.RegistryData}.
+ * <p>
+ * Run by the server build, the files are generated from the json resources of the data dependency
+ * and are regenerated whenever it changes, so the server does not read the json to check them.
+ * Any missing resource or write error fails the build.
+ * <p>
+ * The file starts with the {@link #MAGIC} and {@link #VERSION} ints, followed by the table of the distinct strings
+ * (var-int count, then var-int length and UTF-8 bytes of each string) and the root value.
+ * A value is a tag byte followed by its content:
+ * <ul>
+ *     <li>{@link #OBJECT}: var-int size, then the string index of each key followed by its value</li>
+ *     <li>{@link #ARRAY}: var-int size, then the values</li>
+ *     <li>{@link #STRING}: var-int string index</li>
+ *     <li>{@link #LONG}: zigzag encoded var-long</li>
+ *     <li>{@link #DOUBLE}: 8 bytes</li>
+ *     <li>{@link #TRUE} and {@link #FALSE}: no content</li>
+ * </ul>
+ */
+public final class RegistryDataGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistryDataGenerator.class);
+
+    static final int MAGIC = 0x4D524547; // MREG
+    static final int VERSION = 3;
+
+    static final byte OBJECT = 0;
+    static final byte ARRAY = 1;
+    static final byte STRING = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte TRUE = 5;
+    static final byte FALSE = 6;
+
+    // Resources loaded by the server registry
+    private static final List<String> RESOURCES = List.of(
+            "blocks.json", "items.json", "entities.json", "enchantments.json", "sounds.json",
+            "command_arguments.json", "custom_statistics.json", "potion_effects.json", "potions.json", "particles.json",
+            "tags/block_tags.json", "tags/entity_type_tags.json", "tags/fluid_tags.json",
+            "tags/gameplay_tags.json", "tags/item_tags.json");
+
+    private final File outputFolder;
+
+    public RegistryDataGenerator(@NotNull File outputFolder) {
+        this.outputFolder = outputFolder;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) throw new IllegalArgumentException("Usage: <target folder>");
+        var generator = new RegistryDataGenerator(new File(args[0]));
+        for (String name : RESOURCES) {
+            generator.generate(RegistryDataGenerator.class.getResourceAsStream("/" + name), name);
+        }
+        LOGGER.info("Finished generating registry data");
+    }
+
+    /**
+     * Precompiles a registry json file.
+     *
+     * @param resourceFile the json file, null if missing
+     * @param name         the name of the json resource, e.g. {@code tags/block_tags.json}
+     * @throws IllegalStateException if the resource is missing or the data cannot be written
+     */
+    public void generate(InputStream resourceFile, @NotNull String name) {
+        if (resourceFile == null) throw new IllegalStateException("Failed to find resource file " + name);
+        final File target = new File(outputFolder, "registry/" + name.replace(".json", ".bin"));
+        if (!target.getParentFile().exists() && !target.getParentFile().mkdirs()) {
+            throw new IllegalStateException("Output folder for registry data does not exist and could not be created.");
+        }
+        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceFile, StandardCharsets.UTF_8))) {
+            final Object root = readObject(reader);
+            // Index the strings by number of occurrences, the most used ones get the smallest var-ints
+            Map<String, Integer> occurrences = new HashMap<>();
+            collectStrings(root, occurrences);
+            List<String> strings = new ArrayList<>(occurrences.keySet());
+            strings.sort(Comparator.<String>comparingInt(occurrences::get).reversed().thenComparing(Comparator.naturalOrder()));
+            Map<String, Integer> indexes = new HashMap<>(strings.size());
+            for (int i = 0; i < strings.size(); i++) indexes.put(strings.get(i), i);
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                writeVarLong(output, strings.size());
+                for (String string : strings) {
+                    final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    writeVarLong(output, bytes.length);
+                    output.write(bytes);
+                }
+                writeValue(output, root, indexes);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("An error occured while writing registry data " + name, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectStrings(Object value, Map<String, Integer> occurrences) {
+        if (value instanceof Map<?, ?> map) {
+            for (var entry : ((Map<String, Object>) map).entrySet()) {
+                occurrences.merge(entry.getKey(), 1, Integer::sum);
+                collectStrings(entry.getValue(), occurrences);
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object element : list) collectStrings(element, occurrences);
+        } else if (value instanceof String string) {
+            occurrences.merge(string, 1, Integer::sum);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(DataOutputStream output, Object value, Map<String, Integer> indexes) throws IOException {
+        if (value instanceof Map<?, ?> map) {
+            output.writeByte(OBJECT);
+            writeVarLong(output, map.size());
+            for (var entry : ((Map<String, Object>) map).entrySet()) {
+                writeVarLong(output, indexes.get(entry.getKey()));
+                writeValue(output, entry.getValue(), indexes);
+            }
+        } else if (value instanceof List<?> list) {
+            output.writeByte(ARRAY);
+            writeVarLong(output, list.size());
+            for (Object element : list) writeValue(output, element, indexes);
+        } else if (value instanceof String string) {
+            output.writeByte(STRING);
+            writeVarLong(output, indexes.get(string));
+        } else if (value instanceof Long number) {
+            output.writeByte(LONG);
+            writeVarLong(output, (number << 1) ^ (number >> 63));
+        } else if (value instanceof Double number) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(number);
+        } else if (value instanceof Boolean bool) {
+            output.writeByte(bool ? TRUE : FALSE);
+        } else {
+            throw new IllegalArgumentException("Invalid value: " + value);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    // Same value types as the json loading of the server
+    private static Object readObject(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case BEGIN_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) list.add(readObject(reader));
+                reader.endArray();
+                yield list;
+            }
+            case BEGIN_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) map.put(reader.nextName(), readObject(reader));
+                reader.endObject();
+                yield map;
+            }
+            case STRING -> reader.nextString();
+            case NUMBER -> ToNumberPolicy.LONG_OR_DOUBLE.readNumber(reader);
+            case BOOLEAN -> reader.nextBoolean();
+            default -> throw new IllegalStateException("Invalid peek: " + reader.peek());
+        };
+    }
+}
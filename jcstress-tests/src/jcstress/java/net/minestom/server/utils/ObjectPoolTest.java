@@ -2,8 +2,11 @@ package net.minestom.server.utils;
 
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.JJ_Result;
 import org.openjdk.jcstress.infra.results.L_Result;
 
+import java.util.function.UnaryOperator;
+
 import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
 
 @JCStressTest
@@ -29,4 +32,61 @@ public class ObjectPoolTest {
     public void arbiter(L_Result r) {
         r.r1 = pool.count();
     }
+
+    @JCStressTest
+    @Outcome(id = "4, 2", expect = ACCEPTABLE)
+    @State
+    public static class Bounded {
+        // Large objects to get the minimum capacity of 4
+        private final ObjectPool<Object> pool = new ObjectPool<>(Object::new, UnaryOperator.identity(), Integer.MAX_VALUE);
+
+        public Bounded() {
+            for (int i = 0; i < 4; i++) pool.add(new Object());
+        }
+
+        @Actor
+        public void actor1() {
+            pool.add(new Object());
+        }
+
+        @Actor
+        public void actor2() {
+            pool.add(new Object());
+        }
+
+        @Arbiter
+        public void arbiter(JJ_Result r) {
+            ObjectPool.Metrics metrics = pool.metrics();
+            r.r1 = metrics.pooled();
+            r.r2 = metrics.dropped();
+        }
+    }
+
+    @JCStressTest
+    @Outcome(id = "1, 1", expect = ACCEPTABLE)
+    @State
+    public static class Borrow {
+        private final ObjectPool<Object> pool = new ObjectPool<>(Object::new, UnaryOperator.identity(), Integer.MAX_VALUE);
+
+        public Borrow() {
+            pool.add(new Object());
+        }
+
+        @Actor
+        public void actor1() {
+            pool.get();
+        }
+
+        @Actor
+        public void actor2() {
+            pool.get();
+        }
+
+        @Arbiter
+        public void arbiter(JJ_Result r) {
+            ObjectPool.Metrics metrics = pool.metrics();
+            r.r1 = metrics.hits();
+            r.r2 = metrics.misses();
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package net.minestom.server;
+
+import net.minestom.server.network.packet.client.handshake.HandshakePacket;
+import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.utils.PacketUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of a server, from the first touch of its classes to the response to a status request,
+ * with the parallel and the serial bootstrap.
+ */
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private ServerProcess process;
+
+    @TearDown
+    public void tearDown() {
+        if (process != null) process.stop();
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = "-Dminestom.terminal.disabled")
+    public int parallel() throws IOException {
+        return firstConnection();
+    }
+
+    @Benchmark
+    @Fork(value = 10, jvmArgsAppend = {"-Dminestom.terminal.disabled", "-Dminestom.parallel-bootstrap=false"})
+    public int serial() throws IOException {
+        return firstConnection();
+    }
+
+    private int firstConnection() throws IOException {
+        this.process = MinecraftServer.updateProcess();
+        process.start(new InetSocketAddress("localhost", 0));
+        final int port = process.server().getPort();
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", port))) {
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            PacketUtils.writeFramedPacket(buffer, 0x00,
+                    new HandshakePacket(MinecraftServer.PROTOCOL_VERSION, "localhost", port, 1), 0);
+            PacketUtils.writeFramedPacket(buffer, 0x00, new StatusRequestPacket(), 0);
+            channel.write(buffer.flip());
+            // Wait for the beginning of the status response
+            return channel.read(buffer.clear());
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package net.minestom.server.command;
 
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.entity.Player;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.lang.String;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -23,10 +25,12 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Measurement(time = 6)
 public class CommandBenchmark {
     Function<String, Object> parser;
+    CommandManager manager;
+    Player player;
 
     @Setup
     public void setup() {
-        var graph = Graph.merge(Set.of(
+        final Set<Command> commands = Set.of(
                 new Command("tp", "teleport") {{
                     addSyntax((sender, context) -> {}, Potion("pos"));
                     addSyntax((sender, context) -> {}, Entity("entity"), Potion("pos"));
@@ -53,8 +57,17 @@ public class CommandBenchmark {
                     addSyntax((sender, context) -> {}, Literal("double"), Double("val"));
                     addSyntax((sender, context) -> {}, Literal("float"), Float("val"));
                     addSyntax((sender, context) -> {}, Literal("long"), Long("val"));
+                }},
+                new Command("party") {{
+                    for (int i = 0; i < 32; i++) {
+                        addSyntax((sender, context) -> {}, Literal("action" + i), Word("player"));
+                    }
                 }}
-        ));
+        );
+        var graph = Graph.merge(commands);
+        this.manager = new CommandManager();
+        commands.forEach(manager::register);
+        this.player = new Player(UUID.randomUUID(), "player", null);
         final CommandParser commandParser = CommandParser.parser();
         this.parser = input -> commandParser.parse(graph, input);
     }
@@ -102,4 +115,29 @@ public class CommandBenchmark {
         bh.consume(parser.apply("parse double a1234567890"));
         bh.consume(parser.apply("parse long a1234567890"));
     }
+
+    @Benchmark
+    public void managerValidCommand(Blackhole bh) {
+        bh.consume(manager.parseCommand("foo bar"));
+    }
+
+    @Benchmark
+    public void declareCommandsPacket(Blackhole bh) {
+        bh.consume(manager.createDeclareCommandsPacket(player));
+    }
+
+    @Benchmark
+    public void declareCommandsPacketCached(Blackhole bh) {
+        bh.consume(manager.getDeclareCommandsPacket(player));
+    }
+
+    @Benchmark
+    public void literalDispatch32Children(Blackhole bh) {
+        bh.consume(parser.apply("party action31 player"));
+    }
+
+    @Benchmark
+    public void suggestionCached(Blackhole bh) {
+        bh.consume(manager.parseSuggestion("party action31 pla"));
+    }
 }
@@ -0,0 +1,59 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.entity.EntityTickEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EntityTickBenchmark {
+
+    @Param({"false", "true"})
+    public boolean listener;
+
+    private final List<Entity> entities = new ArrayList<>();
+    private long time;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        if (listener) {
+            MinecraftServer.getGlobalEventHandler().addListener(EntityTickEvent.class, event -> {
+                // Empty
+            });
+        }
+        Instance instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+        for (int x = -4; x < 4; x++) {
+            for (int z = -4; z < 4; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        for (int i = 0; i < 10_000; i++) {
+            Entity entity = new Entity(EntityType.ZOMBIE);
+            entity.setNoGravity(true);
+            entity.setInstance(instance, new Pos(i % 128 - 64, 40, (i / 128) % 128 - 64)).join();
+            this.entities.add(entity);
+        }
+        this.time = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public void tick() {
+        final long time = this.time++;
+        for (Entity entity : entities) {
+            entity.tick(time);
+        }
+    }
+}
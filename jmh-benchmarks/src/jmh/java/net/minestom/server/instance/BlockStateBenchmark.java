@@ -0,0 +1,49 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Property changes on block states, and the cold loading of the block registry.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BlockStateBenchmark {
+
+    private Block block;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        this.block = Block.OAK_STAIRS;
+    }
+
+    @Benchmark
+    public Block withProperty() {
+        this.toggle = !toggle;
+        return block.withProperty("facing", toggle ? "east" : "west");
+    }
+
+    @Benchmark
+    public Block withProperties() {
+        this.toggle = !toggle;
+        return block.withProperties(Map.of("facing", toggle ? "east" : "west", "half", "top"));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Block coldLoad() {
+        return Block.fromNamespaceId("minecraft:stone");
+    }
+}
@@ -0,0 +1,93 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.batch.AbsoluteBlockBatch;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class InstanceFillBenchmark {
+    private static final int SIZE = 64;
+
+    private Instance instance;
+    private Instance template;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        var instanceManager = MinecraftServer.getInstanceManager();
+        this.instance = instanceManager.createInstanceContainer();
+        this.template = instanceManager.createInstanceContainer();
+        for (int x = 0; x < SIZE / 16; x++) {
+            for (int z = 0; z < SIZE / 16; z++) {
+                instance.loadChunk(x, z).join();
+                template.loadChunk(x, z).join();
+            }
+        }
+        template.fill(Vec.ZERO, new Vec(SIZE, SIZE / 2, SIZE), Block.STONE);
+    }
+
+    @Benchmark
+    public void setBlockLoop() {
+        final Block block = nextBlock();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    instance.setBlock(x, y, z, block);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void batch() throws InterruptedException {
+        final Block block = nextBlock();
+        AbsoluteBlockBatch batch = new AbsoluteBlockBatch();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    batch.setBlock(x, y, z, block);
+                }
+            }
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        batch.unsafeApply(instance, latch::countDown);
+        latch.await();
+    }
+
+    @Benchmark
+    public void fill() {
+        instance.fill(Vec.ZERO, new Vec(SIZE, SIZE, SIZE), nextBlock());
+    }
+
+    @Benchmark
+    public void fillUnaligned() {
+        instance.fill(new Vec(1, 1, 1), new Vec(SIZE - 1, SIZE - 1, SIZE - 1), nextBlock());
+    }
+
+    @Benchmark
+    public void paste() {
+        instance.paste(template, Vec.ZERO, new Vec(SIZE, SIZE, SIZE), Vec.ZERO);
+    }
+
+    @Benchmark
+    public void pasteUnaligned() {
+        instance.paste(template, Vec.ZERO, new Vec(SIZE - 8, SIZE - 8, SIZE - 8), new Vec(5, 5, 5));
+    }
+
+    private Block nextBlock() {
+        // Alternate to ensure that blocks are actually modified
+        this.toggle = !toggle;
+        return toggle ? Block.STONE : Block.DIRT;
+    }
+}
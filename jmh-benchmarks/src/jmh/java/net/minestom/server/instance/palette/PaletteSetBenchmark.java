@@ -17,10 +17,14 @@ public class PaletteSetBenchmark {
     public int dimension;
 
     private Palette palette;
+    private Palette source;
 
     @Setup
     public void setup() {
         palette = Palette.newPalette(dimension, 15, 4);
+        // Separate palette, copying from the destination itself requires a clone
+        source = Palette.newPalette(dimension, 15, 4);
+        source.setAll((x, y, z) -> (x + y + z) % 8);
     }
 
     @Benchmark
@@ -67,4 +71,30 @@ public class PaletteSetBenchmark {
     public void fill() {
         palette.fill(5);
     }
+
+    @Benchmark
+    public void fillRegion() {
+        final int dimension = palette.dimension();
+        palette.fill(0, 0, 0, dimension, dimension / 2, dimension, 5);
+        palette.fill(1, dimension / 2, 1, dimension - 1, dimension, dimension - 1, 6);
+    }
+
+    @Benchmark
+    public void copyRegion() {
+        final int half = palette.dimension() / 2;
+        palette.copyFrom(source, 0, 0, 0, half, half, half, half, half, half);
+    }
+
+    @Benchmark
+    public void copyRegionPerEntry() {
+        // Same copy as copyRegion using get/set
+        final int half = palette.dimension() / 2;
+        for (int x = 0; x < half; x++) {
+            for (int y = 0; y < half; y++) {
+                for (int z = 0; z < half; z++) {
+                    palette.set(half + x, half + y, half + z, source.get(x, y, z));
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.Graphics2DFramebuffer;
+import net.minestom.server.map.framebuffers.LargeGraphics2DFramebuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FramebufferBenchmark {
+    private Graphics2DFramebuffer framebuffer;
+    private LargeGraphics2DFramebuffer wall;
+    private Framebuffer[] wallViews;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        this.framebuffer = new Graphics2DFramebuffer();
+        // 8x4 maps
+        this.wall = new LargeGraphics2DFramebuffer(8 * Framebuffer.WIDTH, 4 * Framebuffer.HEIGHT);
+        this.wallViews = new Framebuffer[8 * 4];
+        for (int i = 0; i < wallViews.length; i++) {
+            wallViews[i] = wall.createSubView((i % 8) * Framebuffer.WIDTH, (i / 8) * Framebuffer.HEIGHT);
+        }
+    }
+
+    @Benchmark
+    public void fullRedraw(Blackhole bh) {
+        final Graphics2D renderer = framebuffer.getRenderer();
+        renderer.setColor(new Color(frame++ * 0x010203 & 0xFFFFFF));
+        renderer.fillRect(0, 0, Framebuffer.WIDTH, Framebuffer.HEIGHT);
+        bh.consume(framebuffer.prepareUpdatePacket(0));
+    }
+
+    @Benchmark
+    public void partialRedraw(Blackhole bh) {
+        final Graphics2D renderer = framebuffer.getRenderer();
+        renderer.setColor(new Color(frame++ * 0x010203 & 0xFFFFFF));
+        renderer.fillRect(32, 32, 16, 16);
+        bh.consume(framebuffer.prepareUpdatePacket(0));
+    }
+
+    @Benchmark
+    public void wallPartialRedraw(Blackhole bh) {
+        final Graphics2D renderer = wall.getRenderer();
+        renderer.setColor(new Color(frame++ * 0x010203 & 0xFFFFFF));
+        renderer.fillRect(100, 100, 64, 64);
+        for (int i = 0; i < wallViews.length; i++) {
+            bh.consume(wallViews[i].prepareUpdatePacket(i));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.minestom.server.network;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound encryption of a tick worth of packets, either per packet through an intermediate buffer
+ * or in place over the whole written region.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+
+    @Param({"64", "1024", "32768"})
+    public int packetSize;
+
+    @Param({"100"})
+    public int packetCount;
+
+    private Cipher cipher;
+    private ByteBuffer packet;
+    private ByteBuffer intermediate;
+    private ByteBuffer tickBuffer;
+
+    @Setup
+    public void setup() {
+        byte[] key = new byte[16];
+        ThreadLocalRandom.current().nextBytes(key);
+        this.cipher = MojangCrypt.getCipher(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+        byte[] content = new byte[packetSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        this.packet = ByteBuffer.allocateDirect(packetSize).put(content).flip();
+        this.intermediate = ByteBuffer.allocateDirect(2_097_151);
+        this.tickBuffer = ByteBuffer.allocateDirect(packetSize * packetCount);
+    }
+
+    @Benchmark
+    public ByteBuffer intermediateBuffer() throws ShortBufferException {
+        tickBuffer.clear();
+        for (int i = 0; i < packetCount; i++) {
+            intermediate.clear();
+            cipher.update(packet.duplicate(), intermediate);
+            tickBuffer.put(intermediate.flip());
+        }
+        return tickBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer inPlace() throws ShortBufferException {
+        tickBuffer.clear();
+        for (int i = 0; i < packetCount; i++) {
+            tickBuffer.put(packet.duplicate());
+        }
+        ByteBuffer region = tickBuffer.flip();
+        cipher.update(region, region.duplicate());
+        return tickBuffer;
+    }
+}
@@ -0,0 +1,80 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.message.Messenger;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.FramedPacket;
+import net.minestom.server.network.packet.server.play.JoinGamePacket;
+import net.minestom.server.network.packet.server.play.TagsPacket;
+import net.minestom.server.utils.PacketUtils;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-join encoding cost of the shared login packets, freshly encoded or reused.
+ * {@link #joinGameUncached()} encodes a new registry codec each time, {@link #joinGame()} reuses the encoded one.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class LoginPacketsBenchmark {
+
+    private NBTCompound codec;
+    private CachedPacket tagsPacket;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.codec = createCodec();
+        this.tagsPacket = TagsPacket.DEFAULT_TAGS;
+    }
+
+    @Benchmark
+    public byte[] registryCodecEncoding() {
+        return NetworkBuffer.makeArray(buffer -> buffer.write(NetworkBuffer.NBT, codec));
+    }
+
+    @Benchmark
+    public FramedPacket joinGame() {
+        return PacketUtils.allocateTrimmedPacket(joinGamePacket(codec));
+    }
+
+    @Benchmark
+    public FramedPacket joinGameUncached() {
+        // A new codec instance is encoded again, like every join before the codec was shared
+        return PacketUtils.allocateTrimmedPacket(joinGamePacket(createCodec()));
+    }
+
+    @Benchmark
+    public FramedPacket tags() {
+        return PacketUtils.allocateTrimmedPacket(new TagsPacket(MinecraftServer.getTagManager().getTagMap()));
+    }
+
+    @Benchmark
+    public ByteBuffer tagsCached() {
+        return tagsPacket.body();
+    }
+
+    private static NBTCompound createCodec() {
+        return NBT.Compound(Map.of(
+                "minecraft:chat_type", Messenger.chatRegistry(),
+                "minecraft:dimension_type", MinecraftServer.getDimensionTypeManager().toNBT(),
+                "minecraft:worldgen/biome", MinecraftServer.getBiomeManager().toNBT()));
+    }
+
+    private static JoinGamePacket joinGamePacket(NBTCompound codec) {
+        return new JoinGamePacket(1, false, GameMode.SURVIVAL, null,
+                List.of("minecraft:overworld"), codec, "minecraft:overworld", "minecraft:overworld",
+                0, 0, 8, 8, false, true, false, false, null);
+    }
+}
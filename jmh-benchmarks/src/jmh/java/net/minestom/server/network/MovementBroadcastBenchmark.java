@@ -0,0 +1,63 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.server.play.EntityPositionPacket;
+import net.minestom.server.network.socket.Server;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.PacketUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Framing of the movement packets of a tick in a viewable buffer, through a pooled scratch buffer
+ * of {@link Server#MAX_PACKET_SIZE} bytes or directly in the destination.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MovementBroadcastBenchmark {
+
+    @Param({"100", "1000"})
+    public int entityCount;
+
+    @Param({"false", "true"})
+    public boolean compression;
+
+    private EntityPositionPacket[] packets;
+    private ByteBuffer destination;
+
+    @Setup
+    public void setup() {
+        this.packets = new EntityPositionPacket[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            packets[i] = new EntityPositionPacket(i, (short) i, (short) 0, (short) -i, true);
+        }
+        this.destination = ByteBuffer.allocateDirect(entityCount * 32);
+    }
+
+    @Benchmark
+    public ByteBuffer scratchBuffer() {
+        destination.clear();
+        for (EntityPositionPacket packet : packets) {
+            try (var hold = ObjectPool.PACKET_POOL.hold()) {
+                destination.put(PacketUtils.createFramedPacket(hold.get(), packet, compression));
+            }
+        }
+        return destination;
+    }
+
+    @Benchmark
+    public ByteBuffer direct() {
+        destination.clear();
+        for (EntityPositionPacket packet : packets) {
+            if (!PacketUtils.tryWriteFramedPacket(destination, packet, compression)) {
+                throw new IllegalStateException("Destination too small");
+            }
+        }
+        return destination;
+    }
+}
@@ -0,0 +1,77 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decoding of a stream of movement packets, with a fresh or a reused decoding state.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PacketDecodeBenchmark {
+
+    @Param({"1000"})
+    public int packetCount;
+
+    // 0 for the uncompressed format, 16 to deflate every packet
+    @Param({"0", "256", "16"})
+    public int compressionThreshold;
+
+    private final PacketProcessor processor = new PacketProcessor();
+    private BinaryBuffer stream;
+    private int streamLength;
+
+    private final Inflater inflater = new Inflater();
+    private final ByteBuffer decompressionBuffer = ByteBuffer.allocateDirect(4096);
+    private final NetworkBuffer networkBuffer = new NetworkBuffer(decompressionBuffer);
+
+    @Setup
+    public void setup() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(packetCount * 64);
+        for (int i = 0; i < packetCount; i++) {
+            if (i % 2 == 0) {
+                PacketUtils.writeFramedPacket(buffer, 0x13,
+                        new ClientPlayerPositionPacket(new Vec(i, 40, i), true), compressionThreshold);
+            } else {
+                PacketUtils.writeFramedPacket(buffer, 0x14,
+                        new ClientPlayerPositionAndRotationPacket(new Pos(i, 40, i, i, 0), true), compressionThreshold);
+            }
+        }
+        this.streamLength = buffer.position();
+        this.stream = BinaryBuffer.wrap(buffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.inflater.end();
+    }
+
+    @Benchmark
+    public void allocating(Blackhole blackhole) throws DataFormatException {
+        stream.reset(0, streamLength);
+        PacketUtils.readPackets(stream, compressionThreshold > 0, (id, payload) ->
+                blackhole.consume(processor.create(ConnectionState.PLAY, id, payload)));
+    }
+
+    @Benchmark
+    public void reused(Blackhole blackhole) throws DataFormatException {
+        stream.reset(0, streamLength);
+        PacketUtils.readPackets(stream, compressionThreshold > 0, inflater, decompressionBuffer.clear(), (id, payload) ->
+                blackhole.consume(processor.create(ConnectionState.PLAY, id, payload, networkBuffer)));
+    }
+}
@@ -0,0 +1,74 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PlayerRegistryBenchmark {
+
+    @Param({"5000"})
+    public int playerCount;
+
+    private PlayerRegistry registry;
+    private final List<Player> players = new ArrayList<>();
+    private Player target;
+    private Player joining;
+
+    @Setup
+    public void setup() {
+        this.registry = PlayerRegistry.concurrent();
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player(UUID.randomUUID(), "Player" + i, null);
+            this.players.add(player);
+            this.registry.add(player);
+        }
+        this.target = players.get(playerCount / 2);
+        this.joining = new Player(UUID.randomUUID(), "Joining", null);
+    }
+
+    @Benchmark
+    public Player usernameScan() {
+        final String username = target.getUsername();
+        for (Player player : players) {
+            if (player.getUsername().equalsIgnoreCase(username)) return player;
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Player username() {
+        return registry.getByUsername(target.getUsername());
+    }
+
+    @Benchmark
+    public Player uuid() {
+        return registry.getByUuid(target.getUuid());
+    }
+
+    @Benchmark
+    public Player entityId() {
+        return registry.getByEntityId(target.getEntityId());
+    }
+
+    @Benchmark
+    public Collection<Player> prefix() {
+        return registry.findByPrefix("player123");
+    }
+
+    @Benchmark
+    public void joinQuit() {
+        this.registry.add(joining);
+        this.registry.remove(joining);
+    }
+}
@@ -0,0 +1,36 @@
+package net.minestom.server.registry;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup loading of the registry data, from the json resources or the precompiled binary ones.
+ * Single shot to include the cold start of each fork.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocations: both produce the same maps, lists and boxed numbers,
+ * only the strings are shared by the binary format.
+ */
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RegistryLoadBenchmark {
+
+    @Param({"BLOCKS", "ITEMS", "BLOCK_TAGS"})
+    public Registry.Resource resource;
+
+    @Benchmark
+    public Map<String, Map<String, Object>> json() {
+        return Registry.loadJson(resource);
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Object>> binary() {
+        return Objects.requireNonNull(Registry.loadBinary(resource), "Missing precompiled registry data");
+    }
+}
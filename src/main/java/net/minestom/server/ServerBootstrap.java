@@ -0,0 +1,164 @@
+package net.minestom.server;
+
+import net.minestom.server.utils.PropertyUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the startup phases of a {@link ServerProcessImpl}, independent phases being executed concurrently
+ * once their dependencies are complete.
+ * <p>
+ * Registries must be initialized through their public interface (e.g. {@code Block.values()}) so that concurrent
+ * phases always initialize the classes in the same order.
+ */
+final class ServerBootstrap {
+    private static final boolean PARALLEL = PropertyUtils.getBoolean("minestom.parallel-bootstrap", true);
+
+    private final ExecutorService executor;
+    private final Map<String, CompletableFuture<?>> phases = new HashMap<>();
+    // Names of the phases in registration order
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Duration> timings = new ConcurrentHashMap<>();
+
+    ServerBootstrap() {
+        if (PARALLEL) {
+            final AtomicInteger counter = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "Ms-Bootstrap-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Schedules a phase, executed on the calling thread if the bootstrap is not parallel.
+     *
+     * @param name         the name of the phase, used for the timings
+     * @param supplier     the phase
+     * @param dependencies the names of the phases which must be completed first
+     * @return the future result of the phase
+     */
+    <T> @NotNull CompletableFuture<T> phase(@NotNull String name, @NotNull Supplier<T> supplier, @NotNull String... dependencies) {
+        register(name);
+        final CompletableFuture<T> future;
+        if (executor == null) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                result.complete(timed(name, supplier));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+            future = result;
+        } else {
+            CompletableFuture<?>[] required = new CompletableFuture[dependencies.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                final CompletableFuture<?> dependency = phases.get(dependencies[i]);
+                if (dependency == null) throw new IllegalArgumentException("Unknown phase " + dependencies[i]);
+                required[i] = dependency;
+            }
+            future = CompletableFuture.allOf(required).thenApplyAsync(ignored -> timed(name, supplier), executor);
+        }
+        this.phases.put(name, future);
+        return future;
+    }
+
+    /**
+     * Records a phase executed on the calling thread.
+     *
+     * @param name  the name of the phase
+     * @param start the {@link System#nanoTime()} at the start of the phase
+     */
+    void record(@NotNull String name, long start) {
+        register(name);
+        this.timings.put(name, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Waits for the result of a phase.
+     *
+     * @throws IOException if the phase failed with one
+     */
+    <T> T join(@NotNull CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) throw io.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the remaining phases and releases the bootstrap threads.
+     */
+    void complete() throws IOException {
+        try {
+            join(CompletableFuture.allOf(phases.values().toArray(CompletableFuture[]::new)));
+        } finally {
+            if (executor != null) executor.shutdown();
+        }
+    }
+
+    /**
+     * Cancels the remaining phases and interrupts the bootstrap threads, used when the startup failed.
+     */
+    void abort() {
+        for (CompletableFuture<?> phase : phases.values()) phase.cancel(false);
+        if (executor != null) executor.shutdownNow();
+    }
+
+    /**
+     * Gets the duration of each completed phase, in insertion order.
+     */
+    @NotNull Map<String, Duration> timings() {
+        Map<String, Duration> result = new LinkedHashMap<>();
+        for (String name : names) {
+            final Duration duration = timings.get(name);
+            if (duration != null) result.put(name, duration);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private void register(String name) {
+        if (names.contains(name)) throw new IllegalArgumentException("Duplicate phase " + name);
+        this.names.add(name);
+    }
+
+    private <T> T timed(String name, Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            this.timings.put(name, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Wraps a constructor throwing an {@link IOException}.
+     */
+    static <T> @NotNull Supplier<T> io(@NotNull IOSupplier<T> supplier) {
+        return () -> {
+            try {
+                return supplier.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    interface IOSupplier<T> {
+        T get() throws IOException;
+    }
+}
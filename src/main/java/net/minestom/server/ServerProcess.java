@@ -27,6 +27,8 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Map;
 
 @ApiStatus.Experimental
 @ApiStatus.NonExtendable
@@ -138,6 +140,17 @@ public interface ServerProcess extends Snapshotable {
      */
     @NotNull Ticker ticker();
 
+    /**
+     * Gets the duration of each startup phase, in execution order.
+     * <p>
+     * Registries and managers are initialized concurrently unless {@code minestom.parallel-bootstrap} is false,
+     * the phases executed by {@link #start(SocketAddress)} are only present once it returned.
+     *
+     * @return the duration of each phase
+     */
+    @ApiStatus.Experimental
+    @NotNull Map<String, Duration> startupTimings();
+
     void start(@NotNull SocketAddress socketAddress);
 
     void stop();
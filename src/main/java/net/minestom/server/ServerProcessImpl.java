@@ -5,25 +5,37 @@ import net.minestom.server.advancements.AdvancementManager;
 import net.minestom.server.adventure.bossbar.BossBarManager;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.entity.Entity;
-import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.entity.EntityActivation;
 import net.minestom.server.event.GlobalEventHandler;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.server.ServerTickMonitorEvent;
 import net.minestom.server.exception.ExceptionManager;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.extensions.ExtensionManager;
 import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.ChunkGenerationPool;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
+import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockManager;
+import net.minestom.server.item.Enchantment;
+import net.minestom.server.item.Material;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.TickMonitor;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.network.socket.Server;
+import net.minestom.server.particle.Particle;
+import net.minestom.server.potion.PotionEffect;
+import net.minestom.server.potion.PotionType;
 import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.*;
+import net.minestom.server.sound.SoundEvent;
+import net.minestom.server.statistic.StatisticType;
 import net.minestom.server.terminal.MinestomTerminal;
 import net.minestom.server.thread.Acquirable;
 import net.minestom.server.thread.ThreadDispatcher;
@@ -38,8 +50,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -68,33 +82,63 @@ final class ServerProcessImpl implements ServerProcess {
 
     private final ThreadDispatcher<Chunk> dispatcher;
     private final Ticker ticker;
+    private final ServerBootstrap bootstrap;
 
     private final AtomicBoolean started = new AtomicBoolean();
     private final AtomicBoolean stopped = new AtomicBoolean();
 
     public ServerProcessImpl() throws IOException {
-        this.exception = new ExceptionManager();
-        this.extension = new ExtensionManager(this);
-        this.connection = new ConnectionManager();
-        this.packetProcessor = new PacketProcessor();
-        this.packetListener = new PacketListenerManager(this);
-        this.instance = new InstanceManager();
-        this.block = new BlockManager();
-        this.command = new CommandManager();
-        this.recipe = new RecipeManager();
-        this.team = new TeamManager();
-        this.eventHandler = new GlobalEventHandler();
-        this.scheduler = new SchedulerManager();
-        this.benchmark = new BenchmarkManager();
-        this.dimension = new DimensionTypeManager();
-        this.biome = new BiomeManager();
-        this.advancement = new AdvancementManager();
-        this.bossBar = new BossBarManager();
-        this.tag = new TagManager();
-        this.server = new Server(packetProcessor);
-
-        this.dispatcher = ThreadDispatcher.singleThread();
-        this.ticker = new TickerImpl();
+        final long start = System.nanoTime();
+        final ServerBootstrap bootstrap = new ServerBootstrap();
+        boolean completed = false;
+        try {
+            // Registries, the heaviest static initializers
+            bootstrap.phase("blocks", Block::values);
+            bootstrap.phase("materials", Material::values);
+            bootstrap.phase("entity-types", EntityType::values);
+            bootstrap.phase("registries", () -> List.of(Enchantment.values(), PotionEffect.values(), PotionType.values(),
+                    Particle.values(), SoundEvent.values(), StatisticType.values()));
+            // Managers loading data
+            final var tag = bootstrap.phase("tags", TagManager::new);
+            final var dimension = bootstrap.phase("dimensions", DimensionTypeManager::new);
+            final var biome = bootstrap.phase("biomes", BiomeManager::new);
+            final var command = bootstrap.phase("commands", CommandManager::new, "blocks", "materials", "entity-types", "registries");
+            final var recipe = bootstrap.phase("recipes", RecipeManager::new, "materials");
+            final PacketProcessor packetProcessor = new PacketProcessor();
+            final var server = bootstrap.phase("network", ServerBootstrap.io(() -> new Server(packetProcessor)));
+
+            final long managersStart = System.nanoTime();
+            this.exception = new ExceptionManager();
+            this.extension = new ExtensionManager(this);
+            this.connection = new ConnectionManager();
+            this.packetProcessor = packetProcessor;
+            this.packetListener = new PacketListenerManager(this);
+            this.instance = new InstanceManager();
+            this.block = new BlockManager();
+            this.team = new TeamManager();
+            this.eventHandler = new GlobalEventHandler();
+            this.scheduler = new SchedulerManager();
+            this.benchmark = new BenchmarkManager();
+            this.advancement = new AdvancementManager();
+            this.bossBar = new BossBarManager();
+            this.dispatcher = ThreadDispatcher.singleThread();
+            this.ticker = new TickerImpl();
+            bootstrap.record("managers", managersStart);
+
+            this.command = bootstrap.join(command);
+            this.recipe = bootstrap.join(recipe);
+            this.dimension = bootstrap.join(dimension);
+            this.biome = bootstrap.join(biome);
+            this.tag = bootstrap.join(tag);
+            this.server = bootstrap.join(server);
+            bootstrap.complete();
+            completed = true;
+        } finally {
+            // Do not leak the bootstrap threads if a phase failed
+            if (!completed) bootstrap.abort();
+        }
+        bootstrap.record("construction", start);
+        this.bootstrap = bootstrap;
     }
 
     @Override
@@ -202,20 +246,30 @@ final class ServerProcessImpl implements ServerProcess {
         return ticker;
     }
 
+    @Override
+    public @NotNull Map<String, Duration> startupTimings() {
+        return bootstrap.timings();
+    }
+
     @Override
     public void start(@NotNull SocketAddress socketAddress) {
         if (!started.compareAndSet(false, true)) {
             throw new IllegalStateException("Server already started");
         }
 
+        final long start = System.nanoTime();
         extension.start();
         extension.gotoPreInit();
+        bootstrap.record("extensions-preinit", start);
 
         LOGGER.info("Starting " + MinecraftServer.getBrandName() + " server.");
 
+        final long initStart = System.nanoTime();
         extension.gotoInit();
+        bootstrap.record("extensions-init", initStart);
 
         // Init server
+        final long bindStart = System.nanoTime();
         try {
             server.init(socketAddress);
         } catch (IOException e) {
@@ -225,8 +279,12 @@ final class ServerProcessImpl implements ServerProcess {
 
         // Start server
         server.start();
+        bootstrap.record("bind", bindStart);
 
+        final long postInitStart = System.nanoTime();
         extension.gotoPostInit();
+        bootstrap.record("extensions-postinit", postInitStart);
+        bootstrap.record("start", start);
 
         LOGGER.info(MinecraftServer.getBrandName() + " server started successfully.");
 
@@ -251,6 +309,7 @@ final class ServerProcessImpl implements ServerProcess {
         benchmark.disable();
         MinestomTerminal.stop();
         dispatcher.shutdown();
+        ChunkGenerationPool.shutdownCommon();
         LOGGER.info(MinecraftServer.getBrandName() + " server stopped successfully.");
     }
 
@@ -273,6 +332,8 @@ final class ServerProcessImpl implements ServerProcess {
     }
 
     private final class TickerImpl implements Ticker {
+        private ListenerHandle<ServerTickMonitorEvent> monitorHandle;
+
         @Override
         public void tick(long nanoTime) {
             final long msTime = System.currentTimeMillis();
@@ -295,8 +356,16 @@ final class ServerProcessImpl implements ServerProcess {
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
-                EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
+                final long outboundBytes = PlayerSocketConnection.resetOutboundBytes();
+                final long tickedEntities = EntityActivation.resetTickedCount();
+                final long skippedEntities = EntityActivation.resetSkippedCount();
+                ListenerHandle<ServerTickMonitorEvent> monitorHandle = this.monitorHandle;
+                if (monitorHandle == null) this.monitorHandle = monitorHandle = eventHandler.getHandle(ServerTickMonitorEvent.class);
+                if (monitorHandle.hasListener()) {
+                    final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs, outboundBytes,
+                            tickedEntities, skippedEntities);
+                    monitorHandle.call(new ServerTickMonitorEvent(tickMonitor));
+                }
             }
         }
 
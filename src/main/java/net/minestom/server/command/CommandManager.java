@@ -1,5 +1,7 @@
 package net.minestom.server.command;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandDispatcher;
 import net.minestom.server.command.builder.CommandResult;
@@ -7,13 +9,17 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -23,6 +29,8 @@ import java.util.*;
 public final class CommandManager {
 
     public static final String COMMAND_PREFIX = "/";
+    private static final int MAX_CACHED_PACKETS = Integer.getInteger("minestom.command-packet-cache-size", 256);
+    private static final int MAX_CACHED_SUGGESTIONS = Integer.getInteger("minestom.command-suggestion-cache-size", 1024);
 
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
@@ -30,6 +38,7 @@ public final class CommandManager {
     private final CommandDispatcher dispatcher = new CommandDispatcher(this);
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Command> commands = new HashSet<>();
+    private volatile CachedGraph cachedGraph;
 
     private CommandCallback unknownCommandCallback;
 
@@ -55,6 +64,7 @@ public final class CommandManager {
         for (String name : command.getNames()) {
             commandMap.put(name, command);
         }
+        this.cachedGraph = null;
     }
 
     /**
@@ -63,11 +73,12 @@ public final class CommandManager {
      *
      * @param command the command to remove
      */
-    public void unregister(@NotNull Command command) {
+    public synchronized void unregister(@NotNull Command command) {
         commands.remove(command);
         for (String name : command.getNames()) {
             commandMap.remove(name);
         }
+        this.cachedGraph = null;
     }
 
     /**
@@ -174,6 +185,31 @@ public final class CommandManager {
         return GraphConverter.createPacket(getGraph(), player);
     }
 
+    /**
+     * Gets the {@link DeclareCommandsPacket} for a specific player, shared with all the players
+     * passing the same command conditions.
+     * <p>
+     * The packet is encoded once per distinct set of condition results and is rebuilt
+     * when a command is registered, unregistered or modified.
+     *
+     * @param player the player to get the commands packet
+     * @return the cached commands packet for {@code player}
+     */
+    @ApiStatus.Internal
+    public @NotNull SendablePacket getDeclareCommandsPacket(@NotNull Player player) {
+        final CachedGraph cache = cachedGraph();
+        final BitSet signature = GraphConverter.signature(cache.graph, player);
+        CachedPacket packet = cache.packets.get(signature);
+        if (packet == null) {
+            packet = new CachedPacket(GraphConverter.createPacket(cache.graph, player));
+            if (cache.packets.size() < MAX_CACHED_PACKETS) {
+                final CachedPacket previous = cache.packets.putIfAbsent(signature, packet);
+                if (previous != null) packet = previous;
+            }
+        }
+        return packet;
+    }
+
     public @NotNull Set<@NotNull Command> getCommands() {
         return Collections.unmodifiableSet(commands);
     }
@@ -188,9 +224,38 @@ public final class CommandManager {
         return parser.parse(getGraph(), input);
     }
 
+    /**
+     * Parses the command of a suggestion request.
+     * <p>
+     * Players typing the same commands request suggestions for the same inputs,
+     * the most recent results are therefore cached until the commands change.
+     *
+     * @param input commands string without prefix
+     * @return the parsing result
+     */
+    @ApiStatus.Internal
+    public @NotNull CommandParser.Result parseSuggestion(@NotNull String input) {
+        final CachedGraph cache = cachedGraph();
+        return cache.suggestions.get(input, s -> parser.parse(cache.graph, s));
+    }
+
     private Graph getGraph() {
-        //todo cache
-        return Graph.merge(commands);
+        return cachedGraph().graph;
+    }
+
+    private CachedGraph cachedGraph() {
+        CachedGraph cache = this.cachedGraph;
+        final long modifications = Command.modificationCount();
+        if (cache == null || cache.modifications != modifications) {
+            synchronized (this) {
+                cache = this.cachedGraph;
+                if (cache == null || cache.modifications != modifications) {
+                    cache = new CachedGraph(Graph.merge(commands), modifications);
+                    this.cachedGraph = cache;
+                }
+            }
+        }
+        return cache;
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
@@ -203,4 +268,12 @@ public final class CommandManager {
             case UNKNOWN -> CommandResult.Type.UNKNOWN;
         }, input, ParsedCommand.fromExecutable(executable), newResult.commandData());
     }
+
+    private record CachedGraph(Graph graph, long modifications, Map<BitSet, CachedPacket> packets,
+                               Cache<String, CommandParser.Result> suggestions) {
+        CachedGraph(Graph graph, long modifications) {
+            this(graph, modifications, new ConcurrentHashMap<>(),
+                    Caffeine.newBuilder().maximumSize(MAX_CACHED_SUGGESTIONS).build());
+        }
+    }
 }
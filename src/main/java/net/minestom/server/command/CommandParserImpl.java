@@ -1,11 +1,15 @@
 package net.minestom.server.command;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.command.Graph.Node;
 import net.minestom.server.command.builder.ArgumentCallback;
 import net.minestom.server.command.builder.CommandContext;
 import net.minestom.server.command.builder.CommandData;
 import net.minestom.server.command.builder.CommandExecutor;
 import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
 import net.minestom.server.command.builder.suggestion.Suggestion;
@@ -16,10 +20,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
 final class CommandParserImpl implements CommandParser {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommandParserImpl.class);
     static final CommandParserImpl PARSER = new CommandParserImpl();
+    private static final Cache<Graph, CompiledGraph> COMPILED_GRAPHS = Caffeine.newBuilder().weakKeys().build();
 
     static final class Chain {
         CommandExecutor defaultExecutor = null;
@@ -99,11 +101,12 @@ final class CommandParserImpl implements CommandParser {
 
     @Override
     public @NotNull CommandParser.Result parse(@NotNull Graph graph, @NotNull String input) {
+        final CompiledGraph compiled = COMPILED_GRAPHS.get(graph, CompiledGraph::compile);
         final CommandStringReader reader = new CommandStringReader(input);
         Chain chain = new Chain();
         Node parent = graph.root();
 
-        NodeResult result = parseNode(parent, chain, reader);
+        NodeResult result = parseNode(compiled, parent, chain, reader);
         chain = result.chain;
 
         NodeResult lastNodeResult = chain.nodeResults.peekLast();
@@ -125,12 +128,22 @@ final class CommandParserImpl implements CommandParser {
         return InvalidCommand.invalid(input, chain);
     }
 
+    private static NodeResult literalMismatch(Node node, Chain chain) {
+        // Same result as a failed parse of the literal
+        chain = chain.fork();
+        final SuggestionCallback suggestionCallback = node.argument().getSuggestionCallback();
+        final NodeResult nodeResult = new NodeResult(node, chain, new ArgumentResult.IncompatibleType<>(), suggestionCallback);
+        chain.append(nodeResult);
+        if (suggestionCallback != null) chain.suggestionCallback = suggestionCallback;
+        return nodeResult;
+    }
+
     @Contract("null, _ -> null; !null, null -> fail; !null, !null -> _")
     private static <R, T> @Nullable R nullSafeGetter(@Nullable T obj, Function<T, R> getter) {
         return obj == null ? null : getter.apply(obj);
     }
 
-    private static NodeResult parseNode(Node node, Chain chain, CommandStringReader reader) {
+    private static NodeResult parseNode(CompiledGraph compiled, Node node, Chain chain, CommandStringReader reader) {
         chain = chain.fork();
         Argument<?> argument = node.argument();
         int start = reader.cursor();
@@ -172,8 +185,26 @@ final class CommandParserImpl implements CommandParser {
         if (!reader.hasRemaining()) start--; // This is needed otherwise the reader throws an AssertionError
 
         NodeResult error = null;
-        for (Node child : node.next()) {
-            NodeResult childResult = parseNode(child, chain, reader);
+        final List<Node> children = node.next();
+        final Dispatch dispatch = compiled.dispatch(node);
+        int wordCursor = -1;
+        int[] literalMatches = null;
+        for (int i = 0; i < children.size(); i++) {
+            final Node child = children.get(i);
+            if (dispatch != null && dispatch.literal[i] && reader.hasRemaining()) {
+                // Literals are resolved with a single lookup of the next word instead of being parsed one by one
+                final int cursor = reader.cursor();
+                if (cursor != wordCursor) {
+                    wordCursor = cursor;
+                    literalMatches = dispatch.literals.get(reader.peekWord());
+                }
+                if (!Dispatch.contains(literalMatches, i)) {
+                    // The result of a mismatching literal only matters if it is the first error
+                    if (error == null && chain.size() + 1 != 2) error = literalMismatch(child, chain);
+                    continue;
+                }
+            }
+            NodeResult childResult = parseNode(compiled, child, chain, reader);
             if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
                 // Assume that there is only one successful node for a given chain of arguments
                 return childResult;
@@ -399,6 +430,12 @@ final class CommandParserImpl implements CommandParser {
             return read;
         }
 
+        String peekWord() {
+            final String input = this.input;
+            final int i = input.indexOf(' ', cursor);
+            return i == -1 ? input.substring(cursor) : input.substring(cursor, i);
+        }
+
         String readRemaining() {
             final String input = this.input;
             final String result = input.substring(cursor);
@@ -416,6 +453,66 @@ final class CommandParserImpl implements CommandParser {
         }
     }
 
+    /**
+     * Lookup tables built once per graph, mapping each word to the literal children it matches.
+     */
+    private record CompiledGraph(Map<Node, Dispatch> dispatches) {
+        static CompiledGraph compile(Graph graph) {
+            Map<Node, Dispatch> dispatches = new IdentityHashMap<>();
+            compile(graph.root(), dispatches);
+            return new CompiledGraph(dispatches);
+        }
+
+        private static void compile(Node node, Map<Node, Dispatch> dispatches) {
+            if (dispatches.containsKey(node)) return;
+            final List<Node> children = node.next();
+            final boolean[] literal = new boolean[children.size()];
+            Map<String, int[]> literals = new HashMap<>();
+            for (int i = 0; i < children.size(); i++) {
+                final Node child = children.get(i);
+                final Argument<?> argument = child.argument();
+                if (argument.getDefaultValue() == null) {
+                    if (argument.getClass() == ArgumentLiteral.class) {
+                        literal[i] = true;
+                        Dispatch.index(literals, argument.getId(), i);
+                    } else if (argument.getClass() == ArgumentWord.class && ((ArgumentWord) argument).hasRestrictions()) {
+                        literal[i] = true;
+                        for (String restriction : ((ArgumentWord) argument).getRestrictions()) {
+                            Dispatch.index(literals, restriction, i);
+                        }
+                    }
+                }
+                compile(child, dispatches);
+            }
+            if (!literals.isEmpty()) dispatches.put(node, new Dispatch(literal, Map.copyOf(literals)));
+        }
+
+        @Nullable Dispatch dispatch(Node node) {
+            return dispatches.get(node);
+        }
+    }
+
+    private record Dispatch(boolean[] literal, Map<String, int[]> literals) {
+        static void index(Map<String, int[]> literals, String word, int index) {
+            final int[] indexes = literals.get(word);
+            if (indexes == null) {
+                literals.put(word, new int[]{index});
+            } else if (indexes[indexes.length - 1] != index) {
+                final int[] copy = Arrays.copyOf(indexes, indexes.length + 1);
+                copy[indexes.length] = index;
+                literals.put(word, copy);
+            }
+        }
+
+        static boolean contains(int @Nullable [] indexes, int index) {
+            if (indexes == null) return false;
+            for (int i : indexes) {
+                if (i == index) return true;
+            }
+            return false;
+        }
+    }
+
     // ARGUMENT
 
     private static <T> ArgumentResult<T> parseArgument(Argument<T> argument, CommandStringReader reader) {
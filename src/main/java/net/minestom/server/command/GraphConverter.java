@@ -28,6 +28,28 @@ final class GraphConverter {
         return new DeclareCommandsPacket(nodes, rootId);
     }
 
+    /**
+     * Computes the outcome of every condition tested by {@link #createPacket(Graph, Player)},
+     * players with the same signature receive the same packet.
+     */
+    public static BitSet signature(Graph graph, Player player) {
+        BitSet signature = new BitSet();
+        signature(graph.root(), player, signature, new int[1]);
+        return signature;
+    }
+
+    private static void signature(Graph.Node graphNode, Player player, BitSet signature, int[] index) {
+        final Graph.Execution execution = graphNode.execution();
+        if (execution != null) {
+            final boolean result = execution.test(player);
+            signature.set(index[0]++, result);
+            if (!result) return;
+        }
+        for (Graph.Node child : graphNode.next()) {
+            signature(child, player, signature, index);
+        }
+    }
+
     private static int[] append(Graph.Node graphNode, List<DeclareCommandsPacket.Node> to,
                                 List<BiConsumer<Graph, Integer>> redirects, AtomicInteger id, @Nullable AtomicInteger redirect,
                                 @Nullable Player player, Map<Argument<?>, Integer> argToPacketId) {
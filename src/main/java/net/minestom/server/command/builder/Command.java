@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -45,6 +46,7 @@ import java.util.stream.Stream;
 public class Command {
 
     public final static Logger LOGGER = LoggerFactory.getLogger(Command.class);
+    static final AtomicLong MODIFICATIONS = new AtomicLong();
 
     private final String name;
     private final String[] aliases;
@@ -105,6 +107,7 @@ public class Command {
      */
     public void setCondition(@Nullable CommandCondition commandCondition) {
         this.condition = commandCondition;
+        MODIFICATIONS.incrementAndGet();
     }
 
     /**
@@ -121,6 +124,7 @@ public class Command {
 
     public void addSubcommand(@NotNull Command command) {
         this.subcommands.add(command);
+        MODIFICATIONS.incrementAndGet();
     }
 
     @NotNull
@@ -161,6 +165,7 @@ public class Command {
         if (!hasOptional) {
             final CommandSyntax syntax = new CommandSyntax(commandCondition, executor, args);
             this.syntaxes.add(syntax);
+            MODIFICATIONS.incrementAndGet();
             return List.of(syntax);
         } else {
             List<CommandSyntax> optionalSyntaxes = new ArrayList<>();
@@ -199,6 +204,7 @@ public class Command {
             }
 
             this.syntaxes.addAll(optionalSyntaxes);
+            MODIFICATIONS.incrementAndGet();
             return optionalSyntaxes;
         }
     }
@@ -226,6 +232,18 @@ public class Command {
         return addSyntax(executor, ArgumentType.generate(format));
     }
 
+    /**
+     * Gets the number of changes made to any command or syntax since startup.
+     * <p>
+     * Used to know when the command graph has to be rebuilt.
+     *
+     * @return the global modification count
+     */
+    @ApiStatus.Internal
+    public static long modificationCount() {
+        return MODIFICATIONS.get();
+    }
+
     /**
      * Gets the main command's name.
      *
@@ -275,6 +293,7 @@ public class Command {
      */
     public void setDefaultExecutor(@Nullable CommandExecutor executor) {
         this.defaultExecutor = executor;
+        MODIFICATIONS.incrementAndGet();
     }
 
     /**
@@ -65,6 +65,7 @@ public class CommandSyntax {
      */
     public void setCommandCondition(@Nullable CommandCondition commandCondition) {
         this.commandCondition = commandCondition;
+        Command.MODIFICATIONS.incrementAndGet();
     }
 
     /**
@@ -84,6 +85,7 @@ public class CommandSyntax {
      */
     public void setExecutor(@NotNull CommandExecutor executor) {
         this.executor = executor;
+        Command.MODIFICATIONS.incrementAndGet();
     }
 
     @Nullable
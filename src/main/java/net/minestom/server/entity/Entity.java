@@ -1,5 +1,8 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMaps;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -18,6 +21,7 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.metadata.EntityMeta;
 import net.minestom.server.entity.metadata.LivingEntityMeta;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventHandler;
 import net.minestom.server.event.EventNode;
@@ -162,6 +166,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     private boolean removed;
 
     private final Set<Entity> passengers = new CopyOnWriteArraySet<>();
+    // Passenger ids reused by the snapshots, null once the passengers changed
+    private volatile int[] snapshotPassengers;
     protected EntityType entityType; // UNSAFE to change, modify at your own risk
 
     // Network synchronization, send the absolute position of the entity each X milliseconds
@@ -169,6 +175,17 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     private Duration customSynchronizationCooldown;
     private long lastAbsoluteSynchronizationTime;
 
+    // Movement level of detail, viewer id -> band
+    private EntityUpdateLod updateLod;
+    private volatile Int2IntMap lodBands = Int2IntMaps.EMPTY_MAP;
+    private Int2IntOpenHashMap spareLodBands; // Previous bands, reused for the next update
+    private int lodPendingBands;
+
+    // Activation range, ticks until the next distance check
+    private int activationCheck;
+    private boolean dormant;
+    private int dormantTicks;
+
     protected Metadata metadata = new Metadata(this);
     protected EntityMeta entityMeta;
 
@@ -176,11 +193,16 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     // Tick related
     private long ticks;
+    // Retrieved on the first tick, entities can be created before the server
+    private ListenerHandle<EntityTickEvent> tickHandle;
+    private EntityTickEvent tickEvent;
 
     private final Acquirable<Entity> acquirable = Acquirable.of(this);
 
     public Entity(@NotNull EntityType entityType, @NotNull UUID uuid) {
         this.id = generateId();
+        // Spread the activation range checks over the interval
+        this.activationCheck = id % EntityActivation.CHECK_INTERVAL;
         this.entityType = entityType;
         this.uuid = uuid;
         this.position = Pos.ZERO;
@@ -295,6 +317,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public @NotNull CompletableFuture<Void> teleport(@NotNull Pos position, long @Nullable [] chunks) {
         Check.stateCondition(instance == null, "You need to use Entity#setInstance before teleporting an entity!");
+        wake();
         final Runnable endCallback = () -> {
             this.previousPosition = this.position;
             this.position = position;
@@ -527,6 +550,19 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.scheduler.processTick();
         if (isRemoved()) return;
 
+        if (instance.hasEntityActivations()) {
+            // Only counted when activation ranges are used
+            if (skipTick()) {
+                EntityActivation.skipped();
+                return;
+            }
+            EntityActivation.ticked();
+        } else {
+            this.dormant = false;
+        }
+
+        if (updateLod != null) updateLodBands();
+
         // Entity tick
         {
             // Cache the number of "gravity tick"
@@ -541,7 +577,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             update(time);
 
             ticks++;
-            EventDispatcher.call(new EntityTickEvent(this));
+            callTickEvent();
 
             // remove expired effects
             effectTick(time);
@@ -550,6 +586,39 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (!Cooldown.hasCooldown(time, lastAbsoluteSynchronizationTime, getSynchronizationCooldown())) {
             synchronizePosition(false);
         }
+        if (updateLod != null && lodPendingBands != 0) sendLodUpdates();
+    }
+
+    private void callTickEvent() {
+        ListenerHandle<EntityTickEvent> handle = this.tickHandle;
+        if (handle == null) this.tickHandle = handle = EventDispatcher.getHandle(EntityTickEvent.class);
+        if (!handle.hasListener()) return;
+        EntityTickEvent event = this.tickEvent;
+        if (event == null) this.tickEvent = event = new EntityTickEvent(this);
+        handle.call(event);
+    }
+
+    private boolean skipTick() {
+        final EntityActivation activation = instance.getEntityActivation(entityType);
+        if (activation == null || this instanceof Player) {
+            this.dormant = false;
+            return false;
+        }
+        if (--activationCheck <= 0) {
+            this.activationCheck = EntityActivation.CHECK_INTERVAL;
+            this.dormant = !hasPlayerInRange(activation.range());
+        }
+        if (!dormant) return false;
+        final int interval = activation.dormantInterval();
+        return interval == 0 || ++dormantTicks % interval != 0;
+    }
+
+    private boolean hasPlayerInRange(double range) {
+        // Only the players in the chunks around the entity are checked
+        final boolean[] found = new boolean[1];
+        this.instance.getEntityTracker().nearbyEntities(position, range, EntityTracker.Target.PLAYERS,
+                player -> found[0] = true);
+        return found[0];
     }
 
     private void velocityTick() {
@@ -599,7 +668,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
                 );
                 if (this.ticks % VELOCITY_UPDATE_INTERVAL == 0) {
                     if (!isPlayer && !this.lastVelocityWasZero) {
-                        sendPacketToViewers(getVelocityPacket());
+                        sendVelocityPacket();
                         this.lastVelocityWasZero = !hasVelocity;
                     }
                 }
@@ -631,7 +700,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         // Verify if velocity packet has to be sent
         if (this.ticks % VELOCITY_UPDATE_INTERVAL == 0) {
             if (!isPlayer && (hasVelocity || !lastVelocityWasZero)) {
-                sendPacketToViewers(getVelocityPacket());
+                sendVelocityPacket();
                 this.lastVelocityWasZero = !hasVelocity;
             }
         }
@@ -925,6 +994,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      * @param velocity the new entity velocity
      */
     public void setVelocity(@NotNull Vec velocity) {
+        wake();
         EntityVelocityEvent entityVelocityEvent = new EntityVelocityEvent(this, velocity);
         EventDispatcher.callCancellable(entityVelocityEvent, () -> {
             this.velocity = entityVelocityEvent.getVelocity();
@@ -1035,6 +1105,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (!currentInstance.equals(entity.getInstance()))
             entity.setInstance(currentInstance, position).join();
         this.passengers.add(entity);
+        this.snapshotPassengers = null;
         entity.vehicle = this;
         sendPacketToViewersAndSelf(getPassengersPacket());
         // Updates the position of the new passenger, and then teleports the passenger
@@ -1052,6 +1123,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public void removePassenger(@NotNull Entity entity) {
         Check.stateCondition(instance == null, "You need to set an instance using Entity#setInstance");
         if (!passengers.remove(entity)) return;
+        this.snapshotPassengers = null;
         entity.vehicle = null;
         sendPacketToViewersAndSelf(getPassengersPacket());
         entity.synchronizePosition(false);
@@ -1314,18 +1386,18 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             PacketUtils.prepareViewablePacket(chunk, new EntityTeleportPacket(getEntityId(), position, isOnGround()), this);
             this.lastAbsoluteSynchronizationTime = System.currentTimeMillis();
         } else if (positionChange && viewChange) {
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            prepareMovementPacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastSyncedPosition, isOnGround()));
             // Fix head rotation
-            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
+            prepareMovementPacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()));
         } else if (positionChange) {
             // This is a confusing fix for a confusing issue. If rotation is only sent when the entity actually changes, then spawning an entity
             // on the ground causes the entity not to update its rotation correctly. It works fine if the entity is spawned in the air. Very weird.
-            PacketUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, onGround), this);
+            prepareMovementPacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastSyncedPosition, onGround));
         } else if (viewChange) {
-            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this);
-            PacketUtils.prepareViewablePacket(chunk, new EntityRotationPacket(getEntityId(), position.yaw(), position.pitch(), onGround), this);
+            prepareMovementPacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()));
+            prepareMovementPacket(chunk, new EntityRotationPacket(getEntityId(), position.yaw(), position.pitch(), onGround));
         }
         this.lastSyncedPosition = position;
     }
@@ -1561,6 +1633,126 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.lastSyncedPosition = posCache;
     }
 
+    /**
+     * Gets if the entity is outside the {@link EntityActivation activation range} of its type
+     * and is therefore ticked less often.
+     *
+     * @return true if the entity is dormant
+     */
+    @ApiStatus.Experimental
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Activates the entity if it is {@link #isDormant() dormant}, until the next activation range check.
+     * <p>
+     * Called when the entity is teleported, receives a velocity or is damaged.
+     */
+    @ApiStatus.Experimental
+    public void wake() {
+        if (!dormant) return;
+        this.dormant = false;
+        this.activationCheck = EntityActivation.CHECK_INTERVAL;
+    }
+
+    /**
+     * Gets the level of detail of the movement updates sent to the viewers.
+     *
+     * @return the level of detail, null if all viewers receive every update
+     */
+    @ApiStatus.Experimental
+    public @Nullable EntityUpdateLod getUpdateLod() {
+        return updateLod;
+    }
+
+    /**
+     * Changes the level of detail of the movement updates sent to the viewers,
+     * far viewers receive them less often.
+     *
+     * @param updateLod the new level of detail, null to send every update to all viewers
+     */
+    @ApiStatus.Experimental
+    public void setUpdateLod(@Nullable EntityUpdateLod updateLod) {
+        this.updateLod = updateLod;
+        if (updateLod == null) {
+            this.lodBands = Int2IntMaps.EMPTY_MAP;
+            this.spareLodBands = null;
+            this.lodPendingBands = 0;
+            askSynchronization();
+        }
+    }
+
+    /**
+     * Gets the {@link EntityUpdateLod} band of a viewer as computed at the start of the tick.
+     *
+     * @param viewer the viewer
+     * @return the band of the viewer, 0 if it receives every update
+     */
+    @ApiStatus.Internal
+    public int getUpdateLodBand(@NotNull Player viewer) {
+        return lodBands.get(viewer.getEntityId());
+    }
+
+    private void updateLodBands() {
+        final EntityUpdateLod lod = this.updateLod;
+        final Int2IntMap previousBands = this.lodBands;
+        final Set<Player> viewers = getViewers();
+        // Double buffered, the published map is only modified once replaced by the other
+        Int2IntOpenHashMap bands = this.spareLodBands;
+        if (bands == null) {
+            bands = new Int2IntOpenHashMap(viewers.size());
+        } else {
+            bands.clear();
+        }
+        for (Player viewer : viewers) {
+            final int band = lod.band(position.distanceSquared(viewer.getPosition()));
+            final int previousBand = previousBands.get(viewer.getEntityId());
+            if (band == 0 && previousBand != 0) {
+                // The position known by the viewer is outdated, relative movements would be applied to it
+                viewer.sendPacket(new EntityTeleportPacket(getEntityId(), lastSyncedPosition, isOnGround()));
+                viewer.sendPacket(new EntityHeadLookPacket(getEntityId(), lastSyncedPosition.yaw()));
+            } else if (band != previousBand) {
+                // The viewer may have missed the last update of its new band
+                this.lodPendingBands |= 1 << band;
+            }
+            if (band != 0) bands.put(viewer.getEntityId(), band);
+        }
+        this.lodBands = bands;
+        this.spareLodBands = previousBands instanceof Int2IntOpenHashMap map ? map : null;
+    }
+
+    private void sendLodUpdates() {
+        final List<EntityUpdateLod.Band> bands = updateLod.bands();
+        final Chunk chunk = currentChunk;
+        for (int band = 1; band <= bands.size(); band++) {
+            final int mask = 1 << band;
+            if ((lodPendingBands & mask) == 0 || ticks % bands.get(band - 1).interval() != 0) continue;
+            PacketUtils.prepareViewablePacket(chunk, new EntityTeleportPacket(getEntityId(), position, isOnGround()), this, band);
+            PacketUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), position.yaw()), this, band);
+            if (!(this instanceof Player)) PacketUtils.prepareViewablePacket(chunk, getVelocityPacket(), this, band);
+            this.lodPendingBands &= ~mask;
+        }
+    }
+
+    private void prepareMovementPacket(Chunk chunk, ServerPacket packet) {
+        if (updateLod == null) {
+            PacketUtils.prepareViewablePacket(chunk, packet, this);
+            return;
+        }
+        // Only sent to the closest viewers, the others will be updated once their band interval elapsed
+        PacketUtils.prepareViewablePacket(chunk, packet, this, 0);
+        this.lodPendingBands = ~1;
+    }
+
+    private void sendVelocityPacket() {
+        if (updateLod == null) {
+            sendPacketToViewers(getVelocityPacket());
+            return;
+        }
+        prepareMovementPacket(currentChunk, getVelocityPacket());
+    }
+
     /**
      * Asks for a synchronization (position) to happen during next entity tick.
      */
@@ -1604,8 +1796,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     @Override
     public @NotNull EntitySnapshot updateSnapshot(@NotNull SnapshotUpdater updater) {
         final Chunk chunk = currentChunk;
-        final int[] viewersId = this.viewEngine.viewableOption.bitSet.toIntArray();
-        final int[] passengersId = ArrayUtils.mapToIntArray(passengers, Entity::getEntityId);
+        // Only rebuilt when the viewers or passengers changed since the last snapshot
+        final int[] viewersId = this.viewEngine.viewableOption.snapshotIds();
+        int[] passengersId = this.snapshotPassengers;
+        if (passengersId == null) {
+            this.snapshotPassengers = passengersId = ArrayUtils.mapToIntArray(passengers, Entity::getEntityId);
+        }
         final Entity vehicle = this.vehicle;
         return new SnapshotImpl.Entity(entityType, uuid, id, position, velocity,
                 updater.reference(instance), chunk.getChunkX(), chunk.getChunkZ(),
@@ -0,0 +1,68 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Activation range of an {@link EntityType}, set per instance using
+ * {@link net.minestom.server.instance.Instance#setEntityActivation(EntityType, EntityActivation)}.
+ * <p>
+ * Entities further than {@link #range()} from all the players of their instance become dormant:
+ * their scheduler keeps running but their physics, {@link Entity#update(long)}, tick event and effects
+ * are only processed every {@link #dormantInterval()} ticks, or never if the interval is 0.
+ * Players are never dormant.
+ * <p>
+ * The distance is checked every {@link #CHECK_INTERVAL} ticks, {@link Entity#wake()} can be used to
+ * activate an entity until the next check.
+ * <p>
+ * The ticked and skipped counters reported by {@link net.minestom.server.monitoring.TickMonitor} are static,
+ * and therefore shared by every server process of the JVM, like the acquisition time of
+ * {@link net.minestom.server.thread.Acquirable}.
+ *
+ * @param range           the distance to the nearest player from which the entity becomes dormant
+ * @param dormantInterval the number of ticks between two ticks of a dormant entity, 0 to freeze it
+ */
+@ApiStatus.Experimental
+public record EntityActivation(double range, int dormantInterval) {
+    public static final int CHECK_INTERVAL = Math.max(1, Integer.getInteger("minestom.entity-activation-check-interval", 20));
+
+    // Shared by all the server processes
+    private static final LongAdder TICKED = new LongAdder();
+    private static final LongAdder SKIPPED = new LongAdder();
+
+    public EntityActivation {
+        Check.argCondition(range < 0, "The range cannot be negative");
+        Check.argCondition(dormantInterval < 0, "The dormant interval cannot be negative");
+    }
+
+    /**
+     * Gets the number of entity ticks processed since the previous call in the instances with activation ranges,
+     * and resets it.
+     *
+     * @return the number of ticked entities
+     */
+    @ApiStatus.Internal
+    public static long resetTickedCount() {
+        return TICKED.sumThenReset();
+    }
+
+    /**
+     * Gets the number of entity ticks skipped because of dormancy since the previous call, and resets it.
+     *
+     * @return the number of skipped entities
+     */
+    @ApiStatus.Internal
+    public static long resetSkippedCount() {
+        return SKIPPED.sumThenReset();
+    }
+
+    static void ticked() {
+        TICKED.increment();
+    }
+
+    static void skipped() {
+        SKIPPED.increment();
+    }
+}
@@ -0,0 +1,63 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Level of detail of the movement updates sent to the viewers of an entity.
+ * <p>
+ * Viewers closer than the first band receive every relative movement, head rotation and velocity update.
+ * Viewers further away only receive an absolute teleport (interpolated by the client) with the current
+ * head rotation and velocity, every {@link Band#interval()} ticks of the furthest band they are in.
+ *
+ * @param bands the distance bands, sorted by increasing distance
+ * @see Entity#setUpdateLod(EntityUpdateLod)
+ */
+@ApiStatus.Experimental
+public record EntityUpdateLod(@NotNull List<@NotNull Band> bands) {
+    public EntityUpdateLod {
+        bands = List.copyOf(bands);
+        Check.argCondition(bands.isEmpty(), "At least one band is required");
+        Check.argCondition(bands.size() > 30, "Too many bands");
+        double previous = 0;
+        for (Band band : bands) {
+            Check.argCondition(band.distance() < previous, "Bands must be sorted by increasing distance");
+            previous = band.distance();
+        }
+    }
+
+    public static @NotNull EntityUpdateLod of(@NotNull Band @NotNull ... bands) {
+        return new EntityUpdateLod(List.of(bands));
+    }
+
+    /**
+     * Gets the band of a viewer.
+     *
+     * @param distanceSquared the squared distance between the entity and the viewer
+     * @return the band index starting from 1, 0 if the viewer receives all the updates
+     */
+    public int band(double distanceSquared) {
+        final List<Band> bands = this.bands;
+        int result = 0;
+        for (int i = 0; i < bands.size(); i++) {
+            final double distance = bands.get(i).distance();
+            if (distanceSquared < distance * distance) break;
+            result = i + 1;
+        }
+        return result;
+    }
+
+    /**
+     * @param distance the distance from which the viewers are in this band
+     * @param interval the number of ticks between two updates
+     */
+    public record Band(double distance, int interval) {
+        public Band {
+            Check.argCondition(distance < 0, "The distance cannot be negative");
+            Check.argCondition(interval < 1, "The interval must be positive");
+        }
+    }
+}
@@ -77,6 +77,7 @@ final class EntityView {
         synchronized (mutex) {
             if (manualViewers.add(player)) {
                 viewableOption.bitSet.add(player.getEntityId());
+                viewableOption.snapshotIds = null;
                 return true;
             }
             return false;
@@ -88,6 +89,7 @@ final class EntityView {
         synchronized (mutex) {
             if (manualViewers.remove(player)) {
                 viewableOption.bitSet.remove(player.getEntityId());
+                viewableOption.snapshotIds = null;
                 return true;
             }
             return false;
@@ -135,6 +137,8 @@ final class EntityView {
         public final Consumer<T> addition, removal;
         // Contains all the auto-entity ids that are viewable by this option.
         public final IntSet bitSet = new IntOpenHashSet();
+        // Copy of bitSet reused by the snapshots, null once the viewers changed
+        private volatile int[] snapshotIds;
         // 1 if auto, 0 if manual
         private volatile int auto = 1;
         // The custom rule used to determine if an entity is viewable.
@@ -165,10 +169,21 @@ final class EntityView {
         public void register(T entity) {
             assert Entity.getEntity(entity.getEntityId()) == entity : "Unregistered entity shouldn't be registered as viewer";
             this.bitSet.add(entity.getEntityId());
+            this.snapshotIds = null;
         }
 
         public void unregister(T entity) {
             this.bitSet.remove(entity.getEntityId());
+            this.snapshotIds = null;
+        }
+
+        /**
+         * Gets the ids of the viewers, the same array is returned until they change.
+         */
+        int[] snapshotIds() {
+            int[] ids = this.snapshotIds;
+            if (ids == null) this.snapshotIds = ids = bitSet.toIntArray();
+            return ids;
         }
 
         public void updateAuto(boolean autoViewable) {
@@ -335,6 +335,7 @@ public class LivingEntity extends Entity implements EquipmentHandler {
         if (isInvulnerable() || isImmune(type)) {
             return false;
         }
+        wake();
 
         EntityDamageEvent entityDamageEvent = new EntityDamageEvent(this, type, value, type.getSound(this));
         EventDispatcher.callCancellable(entityDamageEvent, () -> {
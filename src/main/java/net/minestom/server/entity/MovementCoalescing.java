@@ -0,0 +1,34 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Defines how consecutive movement packets received during the same tick are processed.
+ * <p>
+ * Coalesced packets ({@link ClientPlayerPacket}, {@link ClientPlayerPositionPacket},
+ * {@link ClientPlayerRotationPacket} and {@link ClientPlayerPositionAndRotationPacket}) are merged into
+ * their final state and processed once, any other packet in between ends the sequence to keep the order.
+ *
+ * @see Player#setMovementCoalescing(MovementCoalescing)
+ */
+@ApiStatus.Experimental
+public enum MovementCoalescing {
+    /**
+     * Every movement packet is processed.
+     */
+    DISABLED,
+    /**
+     * Movement packets are coalesced only when {@link PlayerMoveEvent} has no listener,
+     * the event is therefore still called for every packet.
+     */
+    WITHOUT_LISTENERS,
+    /**
+     * Movement packets are always coalesced, {@link PlayerMoveEvent} is called once with the final position.
+     */
+    ALWAYS
+}
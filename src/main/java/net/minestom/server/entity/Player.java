@@ -1,5 +1,10 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.identity.Identified;
@@ -15,6 +20,7 @@ import net.kyori.adventure.text.event.HoverEventSource;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.title.TitlePart;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerProcess;
 import net.minestom.server.advancements.AdvancementTab;
 import net.minestom.server.adventure.AdventurePacketConvertor;
 import net.minestom.server.adventure.Localizable;
@@ -30,6 +36,7 @@ import net.minestom.server.entity.fakeplayer.FakePlayer;
 import net.minestom.server.entity.metadata.PlayerMeta;
 import net.minestom.server.entity.vehicle.PlayerVehicleInformation;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.inventory.InventoryOpenEvent;
 import net.minestom.server.event.item.ItemDropEvent;
 import net.minestom.server.event.item.ItemUpdateStateEvent;
@@ -51,6 +58,10 @@ import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PlayerProvider;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.login.LoginDisconnectPacket;
@@ -110,6 +121,13 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private static final Component REMOVE_MESSAGE = Component.text("You have been removed from the server without reason.", NamedTextColor.RED);
     private static final int PACKET_PER_TICK = Integer.getInteger("minestom.packet-per-tick", 20);
     private static final int PACKET_QUEUE_SIZE = Integer.getInteger("minestom.packet-queue-size", 1000);
+    // Packets per second, 0 to disable
+    private static final int PACKET_RATE_LIMIT = Integer.getInteger("minestom.packet-rate-limit", 0);
+    private static final int MOVEMENT_RATE_LIMIT = Integer.getInteger("minestom.movement-rate-limit", 0);
+    private static final MovementCoalescing MOVEMENT_COALESCING =
+            MovementCoalescing.valueOf(System.getProperty("minestom.movement-coalescing", MovementCoalescing.DISABLED.name()));
+    private static final int CHUNK_PER_TICK = Integer.getInteger("minestom.chunk-per-tick", 16);
+    private static final int CHUNK_PENDING_BYTES = Integer.getInteger("minestom.chunk-pending-bytes", 1_048_576);
 
     private long lastKeepAlive;
     private boolean answerKeepAlive;
@@ -129,21 +147,36 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * Keeps track of what chunks are sent to the client, this defines the center of the loaded area
      * in the range of {@link MinecraftServer#getChunkViewDistance()}
      */
-    private Vec chunksLoadedByClient = Vec.ZERO;
+    private volatile Vec chunksLoadedByClient = Vec.ZERO;
+    // Loaded chunks waiting to be sent
+    private final LongSet pendingChunks = new LongOpenHashSet();
+    // The pending chunks nearest first from the queue center, only rebuilt once the center changes.
+    // May contain chunks removed from the set, skipped when polled
+    private int queueCenterX, queueCenterZ;
+    private final LongPriorityQueue pendingQueue = new LongHeapPriorityQueue((first, second) -> Integer.compare(
+            chunkDistanceSquared(first, queueCenterX, queueCenterZ), chunkDistanceSquared(second, queueCenterX, queueCenterZ)));
+    private int sentChunks; // Chunks sent during the current tick
     final IntegerBiConsumer chunkAdder = (chunkX, chunkZ) -> {
         // Load new chunks
-        this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(chunk -> {
-            try {
-                if (chunk != null) {
-                    chunk.sendChunk(this);
-                    EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
-                }
-            } catch (Exception e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-            }
+        final Instance instance = this.instance;
+        final CompletableFuture<Chunk> future = instance.loadViewedChunk(chunkX, chunkZ);
+        if (future.isDone()) {
+            // Sent once all the chunks in range have been queued
+            final Chunk chunk = future.isCompletedExceptionally() ? null : future.join();
+            if (chunk != null) queueChunk(chunk);
+            return;
+        }
+        future.thenAccept(chunk -> {
+            if (chunk == null) return;
+            queueChunk(chunk);
+            sendPendingChunks();
         });
     };
     final IntegerBiConsumer chunkRemover = (chunkX, chunkZ) -> {
+        synchronized (pendingChunks) {
+            // Not sent yet, the client does not know about it
+            if (pendingChunks.remove(ChunkUtils.getChunkIndex(chunkX, chunkZ))) return;
+        }
         // Unload old chunks
         sendPacket(new UnloadChunkPacket(chunkX, chunkZ));
         EventDispatcher.call(new PlayerChunkUnloadEvent(this, chunkX, chunkZ));
@@ -153,6 +186,13 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private int receivedTeleportId;
 
     private final MessagePassingQueue<ClientPacket> packets = new MpscUnboundedXaddArrayQueue<>(32);
+    private MovementCoalescing movementCoalescing = MOVEMENT_COALESCING;
+    private final PendingMovement pendingMovement = new PendingMovement();
+    // Packet rate of the current second, only updated by the thread receiving the packets
+    private long packetRateWindow;
+    private int packetRateCount;
+    private int movementRateCount;
+    private volatile boolean packetFlood;
     private final boolean levelFlat;
     private final PlayerSettings settings;
     private float exp;
@@ -174,6 +214,11 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private long eatingTime;
     private Hand eatingHand;
 
+    // Retrieved on the first tick, players can be created before the server
+    private ListenerHandle<PlayerTickEvent> playerTickHandle;
+    private PlayerTickEvent playerTickEvent;
+    private ListenerHandle<PlayerMoveEvent> moveHandle;
+
     // Game state (https://wiki.vg/Protocol#Change_Game_State)
     private boolean enableRespawnScreen;
     private final ChunkUpdateLimitChecker chunkUpdateLimitChecker = new ChunkUpdateLimitChecker(6);
@@ -248,13 +293,8 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     public CompletableFuture<Void> UNSAFE_init(@NotNull Instance spawnInstance) {
         this.dimensionType = spawnInstance.getDimensionType();
 
-        NBTCompound nbt = NBT.Compound(Map.of(
-                "minecraft:chat_type", Messenger.chatRegistry(),
-                "minecraft:dimension_type", MinecraftServer.getDimensionTypeManager().toNBT(),
-                "minecraft:worldgen/biome", MinecraftServer.getBiomeManager().toNBT()));
-
         final JoinGamePacket joinGamePacket = new JoinGamePacket(getEntityId(), false, gameMode, null,
-                List.of(dimensionType.getName().asString()), nbt, dimensionType.toString(), dimensionType.getName().asString(),
+                List.of(dimensionType.getName().asString()), RegistryCodec.get(), dimensionType.toString(), dimensionType.getName().asString(),
                 0, 0, MinecraftServer.getChunkViewDistance(), MinecraftServer.getChunkViewDistance(),
                 false, true, false, levelFlat, deathLocation);
         sendPacket(joinGamePacket);
@@ -299,7 +339,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         // Recipes start
         {
             RecipeManager recipeManager = MinecraftServer.getRecipeManager();
-            sendPacket(recipeManager.getDeclareRecipesPacket());
+            sendPacket(recipeManager.getCachedDeclareRecipesPacket());
 
             List<String> recipesIdentifier = new ArrayList<>();
             for (Recipe recipe : recipeManager.getRecipes()) {
@@ -344,6 +384,12 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         // Process received packets
         interpretPacketQueue();
 
+        // Send the chunks which did not fit in the previous tick
+        synchronized (pendingChunks) {
+            this.sentChunks = 0;
+        }
+        sendPendingChunks();
+
         super.update(time); // Super update (item pickup/fire management)
 
         // Experience orb pickup
@@ -387,7 +433,13 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         }
 
         // Tick event
-        EventDispatcher.call(new PlayerTickEvent(this));
+        ListenerHandle<PlayerTickEvent> tickHandle = this.playerTickHandle;
+        if (tickHandle == null) this.playerTickHandle = tickHandle = EventDispatcher.getHandle(PlayerTickEvent.class);
+        if (tickHandle.hasListener()) {
+            PlayerTickEvent tickEvent = this.playerTickEvent;
+            if (tickEvent == null) this.playerTickEvent = tickEvent = new PlayerTickEvent(this);
+            tickHandle.call(tickEvent);
+        }
     }
 
     @Override
@@ -463,17 +515,10 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         Pos respawnPosition = respawnEvent.getRespawnPosition();
 
         // The client unloads chunks when respawning, so resend all chunks next to spawn
-        ChunkUtils.forChunksInRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()), (chunkX, chunkZ) ->
-                this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(chunk -> {
-                    try {
-                        if (chunk != null) {
-                            chunk.sendChunk(this);
-                        }
-                    } catch (Exception e) {
-                        MinecraftServer.getExceptionManager().handleException(e);
-                    }
-                }));
         chunksLoadedByClient = new Vec(respawnPosition.chunkX(), respawnPosition.chunkZ());
+        clearPendingChunks();
+        ChunkUtils.forChunksInRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()), chunkAdder);
+        sendPendingChunks();
         // Client also needs all entities resent to them, since those are unloaded as well
         this.instance.getEntityTracker().nearbyEntitiesByChunkRange(respawnPosition, Math.min(MinecraftServer.getChunkViewDistance(), settings.getViewDistance()),
                 EntityTracker.Target.ENTITIES, entity -> {
@@ -502,7 +547,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().getDeclareCommandsPacket(this));
     }
 
     @Override
@@ -670,7 +715,9 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             chunksLoadedByClient = new Vec(chunkX, chunkZ);
             chunkUpdateLimitChecker.addToHistory(getChunk());
             sendPacket(new UpdateViewPositionPacket(chunkX, chunkZ));
+            clearPendingChunks();
             ChunkUtils.forChunksInRange(spawnPosition, MinecraftServer.getChunkViewDistance(), chunkAdder);
+            sendPendingChunks();
         }
 
         synchronizePosition(true); // So the player doesn't get stuck
@@ -1062,6 +1109,7 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     public void setUsernameField(@NotNull String username) {
         this.username = username;
         this.usernameComponent = Component.text(username);
+        refreshRegistration();
     }
 
     /**
@@ -1793,19 +1841,92 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
      * @param packet the packet to add in the queue
      */
     public void addPacketToQueue(@NotNull ClientPacket packet) {
+        if (!countPacket(packet)) return;
         this.packets.offer(packet);
     }
 
     @ApiStatus.Internal
     @ApiStatus.Experimental
     public void interpretPacketQueue() {
-        if (this.packets.size() >= PACKET_QUEUE_SIZE) {
+        if (packetFlood || this.packets.size() >= PACKET_QUEUE_SIZE) {
             kick(Component.text("Too Many Packets", NamedTextColor.RED));
             return;
         }
         final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         // This method is NOT thread-safe
-        this.packets.drain(packet -> manager.processClientPacket(packet, this), PACKET_PER_TICK);
+        final MovementCoalescing coalescing = this.movementCoalescing;
+        if (coalescing == MovementCoalescing.DISABLED || (coalescing == MovementCoalescing.WITHOUT_LISTENERS &&
+                getMoveHandle().hasListener())) {
+            this.packets.drain(packet -> manager.processClientPacket(packet, this), PACKET_PER_TICK);
+            return;
+        }
+        final PendingMovement movement = this.pendingMovement;
+        this.packets.drain(packet -> {
+            if (movement.merge(packet)) return;
+            // Keep the order of the movement and the other packets
+            movement.flush(manager, this);
+            manager.processClientPacket(packet, this);
+        }, PACKET_PER_TICK);
+        movement.flush(manager, this);
+    }
+
+    /**
+     * Gets the handle of {@link PlayerMoveEvent}, retrieved once per player instead of for each movement packet.
+     *
+     * @return the move event handle of the global event handler
+     */
+    @ApiStatus.Internal
+    public @NotNull ListenerHandle<PlayerMoveEvent> getMoveHandle() {
+        ListenerHandle<PlayerMoveEvent> handle = this.moveHandle;
+        if (handle == null) this.moveHandle = handle = EventDispatcher.getHandle(PlayerMoveEvent.class);
+        return handle;
+    }
+
+    /**
+     * Gets how the consecutive movement packets of this player are processed.
+     *
+     * @return the movement coalescing mode
+     */
+    @ApiStatus.Experimental
+    public @NotNull MovementCoalescing getMovementCoalescing() {
+        return movementCoalescing;
+    }
+
+    /**
+     * Changes how the consecutive movement packets of this player are processed,
+     * defaults to the {@code minestom.movement-coalescing} property.
+     *
+     * @param movementCoalescing the new movement coalescing mode
+     */
+    @ApiStatus.Experimental
+    public void setMovementCoalescing(@NotNull MovementCoalescing movementCoalescing) {
+        this.movementCoalescing = movementCoalescing;
+    }
+
+    /**
+     * Accounts for a received packet.
+     * <p>
+     * Movement packets above {@code minestom.movement-rate-limit} per second are dropped,
+     * and the player is kicked once above {@code minestom.packet-rate-limit} packets per second.
+     * Both limits are disabled by default, the client is not notified of the dropped movements.
+     *
+     * @return true if the packet should be queued
+     */
+    private boolean countPacket(ClientPacket packet) {
+        if (packetFlood) return false;
+        final long window = System.currentTimeMillis() / 1000;
+        if (window != packetRateWindow) {
+            this.packetRateWindow = window;
+            this.packetRateCount = 0;
+            this.movementRateCount = 0;
+        }
+        if (PACKET_RATE_LIMIT > 0 && ++packetRateCount > PACKET_RATE_LIMIT) {
+            // Kicked during the next tick
+            this.packetFlood = true;
+            return false;
+        }
+        return MOVEMENT_RATE_LIMIT <= 0 || !PendingMovement.isMovement(packet) ||
+                ++movementRateCount <= MOVEMENT_RATE_LIMIT;
     }
 
     /**
@@ -2080,6 +2201,12 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         super.setUuid(uuid);
         // update identity
         this.identity = Identity.identity(uuid);
+        refreshRegistration();
+    }
+
+    private void refreshRegistration() {
+        final ServerProcess process = MinecraftServer.process();
+        if (process != null) process.connection().refreshPlayer(this);
     }
 
     @Override
@@ -2097,13 +2224,96 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             final int newX = newChunk.getChunkX();
             final int newZ = newChunk.getChunkZ();
             final Vec old = chunksLoadedByClient;
+            this.chunksLoadedByClient = new Vec(newX, newZ);
             sendPacket(new UpdateViewPositionPacket(newX, newZ));
             ChunkUtils.forDifferingChunksInRange(newX, newZ, (int) old.x(), (int) old.z(),
                     MinecraftServer.getChunkViewDistance(), chunkAdder, chunkRemover);
-            this.chunksLoadedByClient = new Vec(newX, newZ);
+            sendPendingChunks();
         }
     }
 
+    private void queueChunk(@NotNull Chunk chunk) {
+        final long index = ChunkUtils.getChunkIndex(chunk);
+        synchronized (pendingChunks) {
+            if (pendingChunks.add(index)) this.pendingQueue.enqueue(index);
+        }
+    }
+
+    private void clearPendingChunks() {
+        synchronized (pendingChunks) {
+            this.pendingChunks.clear();
+            this.pendingQueue.clear();
+        }
+    }
+
+    /**
+     * Sends the queued chunks nearest to the player, as long as the connection keeps up.
+     * <p>
+     * Chunks are limited per tick and delayed while the connection still has
+     * more than {@code minestom.chunk-pending-bytes} waiting to be written to the socket.
+     */
+    private void sendPendingChunks() {
+        final long[] chunks;
+        int count;
+        synchronized (pendingChunks) {
+            if (pendingChunks.isEmpty()) return;
+            final int budget;
+            if (playerConnection instanceof PlayerSocketConnection socketConnection) {
+                budget = socketConnection.getPendingBytes() < CHUNK_PENDING_BYTES ? CHUNK_PER_TICK - sentChunks : 0;
+            } else {
+                budget = Integer.MAX_VALUE;
+            }
+            if (budget <= 0) return;
+            final Vec center = this.chunksLoadedByClient;
+            final int centerX = (int) center.x();
+            final int centerZ = (int) center.z();
+            final int range = MinecraftServer.getChunkViewDistance();
+            if (centerX != queueCenterX || centerZ != queueCenterZ) {
+                // The client moved to another chunk, order the pending chunks from there
+                this.queueCenterX = centerX;
+                this.queueCenterZ = centerZ;
+                this.pendingQueue.clear();
+                LongIterator iterator = pendingChunks.iterator();
+                while (iterator.hasNext()) this.pendingQueue.enqueue(iterator.nextLong());
+            }
+            chunks = new long[Math.min(budget, pendingChunks.size())];
+            count = 0;
+            while (count < chunks.length && !pendingQueue.isEmpty()) {
+                final long index = pendingQueue.dequeueLong();
+                // Skip chunks removed before being sent, or which left the view
+                if (!pendingChunks.remove(index)) continue;
+                if (chunkDistance(index, centerX, centerZ) > range) continue;
+                chunks[count++] = index;
+            }
+            this.sentChunks += count;
+        }
+        final Instance instance = this.instance;
+        if (instance == null) return;
+        for (int i = 0; i < count; i++) {
+            final int chunkX = ChunkUtils.getChunkCoordX(chunks[i]);
+            final int chunkZ = ChunkUtils.getChunkCoordZ(chunks[i]);
+            final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+            if (chunk == null || !chunk.isLoaded()) continue;
+            try {
+                chunk.sendChunk(this);
+                EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
+    private static int chunkDistance(long index, int centerX, int centerZ) {
+        return Math.max(Math.abs(ChunkUtils.getChunkCoordX(index) - centerX),
+                Math.abs(ChunkUtils.getChunkCoordZ(index) - centerZ));
+    }
+
+    private static int chunkDistanceSquared(long index, int centerX, int centerZ) {
+        final int deltaX = ChunkUtils.getChunkCoordX(index) - centerX;
+        final int deltaZ = ChunkUtils.getChunkCoordZ(index) - centerZ;
+        return deltaX * deltaX + deltaZ * deltaZ;
+    }
+
     @Override
     public @NotNull CompletableFuture<Void> teleport(@NotNull Pos position, long @Nullable [] chunks) {
         chunkUpdateLimitChecker.clearHistory();
@@ -2238,4 +2448,100 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
 
     }
 
+
+    /**
+     * Registry codec of the join packet, rebuilt only when one of its registries changes
+     * so that its encoding can be shared by all the joining players.
+     */
+    private record RegistryCodec(NBTCompound chat, NBTCompound dimensions, NBTCompound biomes, NBTCompound nbt) {
+        private static volatile RegistryCodec cache;
+
+        static NBTCompound get() {
+            final NBTCompound chat = Messenger.chatRegistry();
+            final NBTCompound dimensions = MinecraftServer.getDimensionTypeManager().toNBT();
+            final NBTCompound biomes = MinecraftServer.getBiomeManager().toNBT();
+            RegistryCodec codec = cache;
+            if (codec == null || codec.chat != chat || codec.dimensions != dimensions || codec.biomes != biomes) {
+                final NBTCompound nbt = NBT.Compound(Map.of(
+                        "minecraft:chat_type", chat,
+                        "minecraft:dimension_type", dimensions,
+                        "minecraft:worldgen/biome", biomes));
+                cache = codec = new RegistryCodec(chat, dimensions, biomes, nbt);
+            }
+            return codec.nbt;
+        }
+    }
+
+    /**
+     * Consecutive movement packets merged into their final state.
+     */
+    private static final class PendingMovement {
+        private ClientPacket first;
+        private int count;
+        private boolean hasPosition, hasView;
+        private double x, y, z;
+        private float yaw, pitch;
+        private boolean onGround;
+
+        static boolean isMovement(ClientPacket packet) {
+            return packet instanceof ClientPlayerPositionPacket || packet instanceof ClientPlayerPositionAndRotationPacket ||
+                    packet instanceof ClientPlayerRotationPacket || packet instanceof ClientPlayerPacket;
+        }
+
+        boolean merge(ClientPacket packet) {
+            if (packet instanceof ClientPlayerPositionPacket positionPacket) {
+                position(positionPacket.position());
+                this.onGround = positionPacket.onGround();
+            } else if (packet instanceof ClientPlayerPositionAndRotationPacket positionPacket) {
+                final Pos position = positionPacket.position();
+                position(position);
+                view(position.yaw(), position.pitch());
+                this.onGround = positionPacket.onGround();
+            } else if (packet instanceof ClientPlayerRotationPacket rotationPacket) {
+                view(rotationPacket.yaw(), rotationPacket.pitch());
+                this.onGround = rotationPacket.onGround();
+            } else if (packet instanceof ClientPlayerPacket playerPacket) {
+                this.onGround = playerPacket.onGround();
+            } else {
+                return false;
+            }
+            if (count++ == 0) this.first = packet;
+            return true;
+        }
+
+        void flush(PacketListenerManager manager, Player player) {
+            final int count = this.count;
+            if (count == 0) return;
+            final ClientPacket packet;
+            if (count == 1) {
+                packet = first;
+            } else if (hasPosition && hasView) {
+                packet = new ClientPlayerPositionAndRotationPacket(new Pos(x, y, z, yaw, pitch), onGround);
+            } else if (hasPosition) {
+                packet = new ClientPlayerPositionPacket(new Vec(x, y, z), onGround);
+            } else if (hasView) {
+                packet = new ClientPlayerRotationPacket(yaw, pitch, onGround);
+            } else {
+                packet = new ClientPlayerPacket(onGround);
+            }
+            this.first = null;
+            this.count = 0;
+            this.hasPosition = false;
+            this.hasView = false;
+            manager.processClientPacket(packet, player);
+        }
+
+        private void position(Point position) {
+            this.hasPosition = true;
+            this.x = position.x();
+            this.y = position.y();
+            this.z = position.z();
+        }
+
+        private void view(float yaw, float pitch) {
+            this.hasView = true;
+            this.yaw = yaw;
+            this.pitch = pitch;
+        }
+    }
 }
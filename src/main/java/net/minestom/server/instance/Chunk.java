@@ -87,6 +87,49 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     @Override
     public abstract void setBlock(int x, int y, int z, @NotNull Block block);
 
+    /**
+     * Fills a cuboid region of the chunk with the same block.
+     * <p>
+     * Coordinates are absolute, minimum inclusive and maximum exclusive. The region must be inside the chunk.
+     * The default implementation calls {@link #setBlock(int, int, int, Block)} for each position.
+     * <p>
+     * WARNING: this method is not thread-safe, the chunk must be synchronized.
+     *
+     * @param block the block to place
+     */
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Block block) {
+        for (int y = minY; y < maxY; y++) {
+            for (int z = minZ; z < maxZ; z++) {
+                for (int x = minX; x < maxX; x++) {
+                    setBlock(x, y, z, block);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a cuboid region of {@code source} into this chunk.
+     * <p>
+     * Coordinates are absolute, the source region must be inside {@code source} and the destination region inside this chunk.
+     * The default implementation calls {@link #setBlock(int, int, int, Block)} for each position.
+     * <p>
+     * WARNING: this method is not thread-safe, both chunks must be synchronized.
+     *
+     * @param source the chunk to copy from
+     */
+    public void copyFrom(@NotNull Chunk source,
+                         int srcX, int srcY, int srcZ,
+                         int dstX, int dstY, int dstZ,
+                         int sizeX, int sizeY, int sizeZ) {
+        for (int y = 0; y < sizeY; y++) {
+            for (int z = 0; z < sizeZ; z++) {
+                for (int x = 0; x < sizeX; x++) {
+                    setBlock(dstX + x, dstY + y, dstZ + z, source.getBlock(srcX + x, srcY + y, srcZ + z));
+                }
+            }
+        }
+    }
+
     public abstract @NotNull List<Section> getSections();
 
     public abstract @NotNull Section getSection(int section);
@@ -0,0 +1,374 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.server.thread.MinestomThread;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of threads running {@link Generator generators} for {@link InstanceContainer instance containers}.
+ * <p>
+ * Pending chunks are generated starting from the nearest to a player, consecutive chunks of the same instance
+ * are given together to {@link Generator#generateAll(Collection)}, and chunks whose load future has been cancelled
+ * are skipped. Chunks only loaded for the view of players are dropped once out of every player's view,
+ * unless an explicit {@link Instance#loadChunk(int, int)} waits for them.
+ *
+ * @see InstanceContainer#setGenerationPool(ChunkGenerationPool)
+ */
+@ApiStatus.Experimental
+public final class ChunkGenerationPool {
+    public static final int THREAD_COUNT = Integer.getInteger("minestom.generation-threads", Runtime.getRuntime().availableProcessors());
+    public static final int BATCH_SIZE = Integer.getInteger("minestom.generation-batch-size", 4);
+    private static final long REPRIORITIZE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static volatile ChunkGenerationPool common;
+
+    private final int batchSize;
+    private final List<GenerationThread> threads;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(Comparator.comparingDouble(Task::priority)
+            .thenComparingLong(Task::sequence));
+    private long sequence;
+    private long lastPrioritization;
+    private int generating;
+    private volatile boolean stopped;
+
+    // Metrics
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final LongAdder generationTime = new LongAdder();
+
+    /**
+     * Creates a new pool and starts its threads.
+     *
+     * @param threadCount the number of threads generating chunks
+     * @param batchSize   the maximum number of chunks given to a single {@link Generator#generateAll(Collection)} call
+     */
+    public ChunkGenerationPool(int threadCount, int batchSize) {
+        Check.argCondition(threadCount < 1, "The pool needs at least one thread");
+        Check.argCondition(batchSize < 1, "The batch size must be positive");
+        this.batchSize = batchSize;
+        List<GenerationThread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            GenerationThread thread = new GenerationThread();
+            thread.start();
+            threads.add(thread);
+        }
+        this.threads = List.copyOf(threads);
+    }
+
+    /**
+     * Gets the pool used by default by all instances, configured with
+     * the {@code minestom.generation-threads} and {@code minestom.generation-batch-size} properties.
+     *
+     * @return the shared generation pool
+     */
+    public static @NotNull ChunkGenerationPool common() {
+        ChunkGenerationPool pool = common;
+        if (pool == null) {
+            synchronized (ChunkGenerationPool.class) {
+                pool = common;
+                if (pool == null) common = pool = new ChunkGenerationPool(THREAD_COUNT, BATCH_SIZE);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Gets a snapshot of the pool activity.
+     *
+     * @return the current metrics
+     */
+    public @NotNull Metrics metrics() {
+        final int queued, generating;
+        this.lock.lock();
+        try {
+            queued = queue.size();
+            generating = this.generating;
+        } finally {
+            this.lock.unlock();
+        }
+        final long generated = this.generated.sum();
+        final double averageWait = generated != 0 ? waitTime.sum() / 1e6D / generated : 0;
+        final double averageGeneration = generated != 0 ? generationTime.sum() / 1e6D / generated : 0;
+        return new Metrics(queued, generating, generated, cancelled.sum(), averageWait, averageGeneration);
+    }
+
+    /**
+     * Stops the pool threads, pending chunks are cancelled.
+     * <p>
+     * The {@link #common() common pool} cannot be shut down.
+     */
+    public void shutdown() {
+        Check.stateCondition(this == common, "The common pool cannot be shut down");
+        stop();
+    }
+
+    /**
+     * Stops the {@link #common() common pool} if it has been started, called when the server stops.
+     */
+    @ApiStatus.Internal
+    public static void shutdownCommon() {
+        final ChunkGenerationPool pool;
+        synchronized (ChunkGenerationPool.class) {
+            pool = common;
+            common = null;
+        }
+        if (pool != null) pool.stop();
+    }
+
+    private void stop() {
+        this.stopped = true;
+        this.lock.lock();
+        try {
+            Task task;
+            while ((task = queue.poll()) != null) task.future.cancel(false);
+            this.notEmpty.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        this.threads.forEach(Thread::interrupt);
+    }
+
+    @NotNull CompletableFuture<Chunk> submit(@NotNull InstanceContainer instance, @NotNull Generator generator,
+                                             @NotNull Chunk chunk) {
+        CompletableFuture<Chunk> future = new CompletableFuture<>();
+        final double priority = priority(instance, chunk);
+        this.lock.lock();
+        try {
+            if (stopped) {
+                future.cancel(false);
+                return future;
+            }
+            Task task = new Task(instance, generator, chunk, future, sequence++, System.nanoTime());
+            task.priority = priority;
+            this.queue.add(task);
+            this.notEmpty.signal();
+        } finally {
+            this.lock.unlock();
+        }
+        return future;
+    }
+
+    private List<Task> takeBatch() throws InterruptedException {
+        reprioritize();
+        this.lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (stopped) return List.of();
+                this.notEmpty.await();
+            }
+            List<Task> batch = new ArrayList<>(batchSize);
+            Task task;
+            while (batch.size() < batchSize && (task = queue.peek()) != null) {
+                if (task.future.isDone()) {
+                    // Load has been cancelled
+                    this.queue.poll();
+                    this.cancelled.increment();
+                    continue;
+                }
+                if (!batch.isEmpty()) {
+                    final Task first = batch.get(0);
+                    if (first.instance != task.instance || first.generator != task.generator) break;
+                }
+                batch.add(queue.poll());
+            }
+            this.generating += batch.size();
+            return batch;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the priorities of the queued chunks since players may have moved,
+     * and cancels the chunks which are not needed anymore.
+     * <p>
+     * Only one thread updates them at a time, and the distances are computed without holding the lock.
+     */
+    private void reprioritize() {
+        final long time = System.nanoTime();
+        final Task[] tasks;
+        this.lock.lock();
+        try {
+            if (queue.isEmpty() || time - lastPrioritization < REPRIORITIZE_INTERVAL) return;
+            this.lastPrioritization = time;
+            tasks = queue.toArray(Task[]::new);
+        } finally {
+            this.lock.unlock();
+        }
+        final int viewDistance = MinecraftServer.getChunkViewDistance();
+        // Player positions are only retrieved once per instance
+        Map<InstanceContainer, long[]> playerChunks = new IdentityHashMap<>();
+        double[] priorities = new double[tasks.length];
+        List<Task> unneeded = new ArrayList<>();
+        for (int i = 0; i < tasks.length; i++) {
+            final Task task = tasks[i];
+            final long[] chunks = playerChunks.computeIfAbsent(task.instance, ChunkGenerationPool::playerChunks);
+            final int chunkX = task.chunk.getChunkX();
+            final int chunkZ = task.chunk.getChunkZ();
+            double distance = Double.MAX_VALUE;
+            boolean viewed = false;
+            for (long index : chunks) {
+                final int deltaX = ChunkUtils.getChunkCoordX(index) - chunkX;
+                final int deltaZ = ChunkUtils.getChunkCoordZ(index) - chunkZ;
+                distance = Math.min(distance, (double) deltaX * deltaX + (double) deltaZ * deltaZ);
+                viewed |= Math.abs(deltaX) <= viewDistance && Math.abs(deltaZ) <= viewDistance;
+            }
+            priorities[i] = distance;
+            if (!viewed && !task.instance.isChunkRequested(chunkX, chunkZ)) unneeded.add(task);
+        }
+        this.lock.lock();
+        try {
+            for (int i = 0; i < tasks.length; i++) tasks[i].priority = priorities[i];
+            // Rebuild the queue order, some of the tasks may have been polled in the meantime
+            List<Task> queued = new ArrayList<>(queue);
+            this.queue.clear();
+            this.queue.addAll(queued);
+        } finally {
+            this.lock.unlock();
+        }
+        // Skipped once dequeued, the chunk is loaded again if a player comes back
+        for (Task task : unneeded) task.future.cancel(false);
+    }
+
+    private void execute(List<Task> batch) {
+        final long start = System.nanoTime();
+        final Task first = batch.get(0);
+        List<Chunk> chunks = new ArrayList<>(batch.size());
+        for (Task task : batch) {
+            this.waitTime.add(start - task.submitTime);
+            chunks.add(task.chunk);
+        }
+        try {
+            first.instance.generateChunks(first.generator, chunks);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            this.generationTime.add(System.nanoTime() - start);
+            this.generated.add(batch.size());
+            this.lock.lock();
+            try {
+                this.generating -= batch.size();
+            } finally {
+                this.lock.unlock();
+            }
+            for (Task task : batch) task.future.complete(task.chunk);
+        }
+    }
+
+    /**
+     * Computes the squared chunk distance to the nearest player viewing the instance.
+     */
+    private static double priority(InstanceContainer instance, Chunk chunk) {
+        final int chunkX = chunk.getChunkX();
+        final int chunkZ = chunk.getChunkZ();
+        double distance = Double.MAX_VALUE;
+        for (long index : playerChunks(instance)) {
+            final int deltaX = ChunkUtils.getChunkCoordX(index) - chunkX;
+            final int deltaZ = ChunkUtils.getChunkCoordZ(index) - chunkZ;
+            distance = Math.min(distance, (double) deltaX * deltaX + (double) deltaZ * deltaZ);
+        }
+        return distance;
+    }
+
+    /**
+     * Gets the chunk of every player in the instance and its shared instances.
+     */
+    private static long[] playerChunks(InstanceContainer instance) {
+        final List<SharedInstance> sharedInstances = instance.getSharedInstances();
+        if (sharedInstances.isEmpty()) return playerChunks(instance.getPlayers());
+        List<Player> players = new ArrayList<>(instance.getPlayers());
+        for (SharedInstance sharedInstance : sharedInstances) players.addAll(sharedInstance.getPlayers());
+        return playerChunks(players);
+    }
+
+    private static long[] playerChunks(Collection<Player> players) {
+        long[] chunks = new long[players.size()];
+        int count = 0;
+        for (Player player : players) {
+            // The collection may have grown since its size was read
+            if (count == chunks.length) chunks = Arrays.copyOf(chunks, count * 2 + 1);
+            chunks[count++] = ChunkUtils.getChunkIndex(player.getPosition());
+        }
+        return count == chunks.length ? chunks : Arrays.copyOf(chunks, count);
+    }
+
+    /**
+     * Activity of a {@link ChunkGenerationPool}.
+     *
+     * @param queued                  the number of chunks waiting for a thread
+     * @param generating              the number of chunks currently being generated
+     * @param generated               the total number of generated chunks
+     * @param cancelled               the total number of chunks skipped because their load has been cancelled
+     * @param averageWaitTimeMs       the average time spent by a chunk in the queue
+     * @param averageGenerationTimeMs the average time spent generating a chunk
+     */
+    public record Metrics(int queued, int generating, long generated, long cancelled,
+                          double averageWaitTimeMs, double averageGenerationTimeMs) {
+    }
+
+    private static final class Task {
+        private final InstanceContainer instance;
+        private final Generator generator;
+        private final Chunk chunk;
+        private final CompletableFuture<Chunk> future;
+        private final long sequence;
+        private final long submitTime;
+        private double priority;
+
+        private Task(InstanceContainer instance, Generator generator, Chunk chunk,
+                     CompletableFuture<Chunk> future, long sequence, long submitTime) {
+            this.instance = instance;
+            this.generator = generator;
+            this.chunk = chunk;
+            this.future = future;
+            this.sequence = sequence;
+            this.submitTime = submitTime;
+        }
+
+        private double priority() {
+            return priority;
+        }
+
+        private long sequence() {
+            return sequence;
+        }
+    }
+
+    private final class GenerationThread extends MinestomThread {
+        private GenerationThread() {
+            super("Ms-Generation-" + COUNTER.getAndIncrement());
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                final List<Task> batch;
+                try {
+                    batch = takeBatch();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (!batch.isEmpty()) execute(batch);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package net.minestom.server.instance;
 
 import com.extollit.gaming.ai.path.model.ColumnarOcclusionFieldList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
@@ -9,6 +10,7 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFBlock;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
@@ -20,7 +22,6 @@ import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.MathUtils;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.NotNull;
@@ -29,6 +30,7 @@ import org.jglrxavpok.hephaistos.nbt.NBT;
 import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 
 import java.util.*;
+import java.util.function.IntPredicate;
 
 import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordinate;
 
@@ -48,6 +50,8 @@ public class DynamicChunk extends Chunk {
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
     final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
+    // Immutable copy of the chunk content, shared between persistent snapshots until the chunk is modified
+    private volatile SnapshotContent snapshotContent;
 
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
@@ -60,8 +64,7 @@ public class DynamicChunk extends Chunk {
     public void setBlock(int x, int y, int z, @NotNull Block block) {
         assertLock();
         this.lastChange = System.currentTimeMillis();
-        this.chunkCache.invalidate();
-        this.lightCache.invalidate();
+        invalidate();
         // Update pathfinder
         if (columnarSpace != null) {
             final ColumnarOcclusionFieldList columnarOcclusionFieldList = columnarSpace.occlusionFields();
@@ -88,10 +91,110 @@ public class DynamicChunk extends Chunk {
         }
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Block block) {
+        assertLock();
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        this.lastChange = System.currentTimeMillis();
+        invalidate();
+        final int relMinX = toSectionRelativeCoordinate(minX), relMaxX = relMinX + maxX - minX;
+        final int relMinZ = toSectionRelativeCoordinate(minZ), relMaxZ = relMinZ + maxZ - minZ;
+        // Fill every section intersecting the region, entirely covered sections are replaced at once
+        final int stateId = block.stateId();
+        for (int y = minY; y < maxY; ) {
+            final int sectionMinY = toSectionRelativeCoordinate(y);
+            final int amount = Math.min(CHUNK_SECTION_SIZE - sectionMinY, maxY - y);
+            getSectionAt(y).blockPalette().fill(relMinX, sectionMinY, relMinZ,
+                    relMaxX, sectionMinY + amount, relMaxZ, stateId);
+            y += amount;
+        }
+        // Update block entries
+        removeEntries(minX, minY, minZ, maxX, maxY, maxZ);
+        final BlockHandler handler = block.handler();
+        final boolean entry = handler != null || block.hasNbt() || block.registry().isBlockEntity();
+        final boolean tickable = handler != null && handler.isTickable();
+        if (entry || columnarSpace != null) {
+            final PFBlock blockDescription = columnarSpace != null ? PFBlock.get(block) : null;
+            for (int y = minY; y < maxY; y++) {
+                for (int z = minZ; z < maxZ; z++) {
+                    for (int x = minX; x < maxX; x++) {
+                        if (entry) {
+                            final int index = ChunkUtils.getBlockIndex(x, y, z);
+                            this.entries.put(index, block);
+                            if (tickable) this.tickableMap.put(index, block);
+                        }
+                        if (blockDescription != null) {
+                            columnarSpace.occlusionFields().onBlockChanged(x, y, z, blockDescription, 0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void copyFrom(@NotNull Chunk source,
+                         int srcX, int srcY, int srcZ,
+                         int dstX, int dstY, int dstZ,
+                         int sizeX, int sizeY, int sizeZ) {
+        assertLock();
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) return;
+        this.lastChange = System.currentTimeMillis();
+        invalidate();
+        // Copy palettes, the region is split whenever it crosses a source or destination section
+        final int relSrcX = toSectionRelativeCoordinate(srcX), relSrcZ = toSectionRelativeCoordinate(srcZ);
+        final int relDstX = toSectionRelativeCoordinate(dstX), relDstZ = toSectionRelativeCoordinate(dstZ);
+        for (int y = 0; y < sizeY; ) {
+            final int relSrcY = toSectionRelativeCoordinate(srcY + y);
+            final int relDstY = toSectionRelativeCoordinate(dstY + y);
+            final int amount = Math.min(sizeY - y,
+                    CHUNK_SECTION_SIZE - Math.max(relSrcY, relDstY));
+            final Palette sourcePalette = source.getSectionAt(srcY + y).blockPalette();
+            getSectionAt(dstY + y).blockPalette().copyFrom(sourcePalette,
+                    relSrcX, relSrcY, relSrcZ,
+                    relDstX, relDstY, relDstZ,
+                    sizeX, amount, sizeZ);
+            y += amount;
+        }
+        // Copy block entries
+        removeEntries(dstX, dstY, dstZ, dstX + sizeX, dstY + sizeY, dstZ + sizeZ);
+        if (source instanceof DynamicChunk dynamicChunk) {
+            for (Int2ObjectMap.Entry<Block> entry : dynamicChunk.entries.int2ObjectEntrySet()) {
+                final int index = entry.getIntKey();
+                final int x = ChunkUtils.blockIndexToChunkPositionX(index) - toSectionRelativeCoordinate(srcX);
+                final int y = ChunkUtils.blockIndexToChunkPositionY(index) - srcY;
+                final int z = ChunkUtils.blockIndexToChunkPositionZ(index) - toSectionRelativeCoordinate(srcZ);
+                if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ) continue;
+                putEntry(ChunkUtils.getBlockIndex(dstX + x, dstY + y, dstZ + z), entry.getValue());
+            }
+        } else {
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    for (int x = 0; x < sizeX; x++) {
+                        final Block block = source.getBlock(srcX + x, srcY + y, srcZ + z, Condition.CACHED);
+                        if (block != null) putEntry(ChunkUtils.getBlockIndex(dstX + x, dstY + y, dstZ + z), block);
+                    }
+                }
+            }
+        }
+        // Update pathfinder
+        if (columnarSpace != null) {
+            final ColumnarOcclusionFieldList columnarOcclusionFieldList = columnarSpace.occlusionFields();
+            for (int y = dstY; y < dstY + sizeY; y++) {
+                for (int z = dstZ; z < dstZ + sizeZ; z++) {
+                    for (int x = dstX; x < dstX + sizeX; x++) {
+                        columnarOcclusionFieldList.onBlockChanged(x, y, z, PFBlock.get(getBlock(x, y, z)), 0);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public void setBiome(int x, int y, int z, @NotNull Biome biome) {
         assertLock();
         this.chunkCache.invalidate();
+        this.snapshotContent = null;
         Section section = getSectionAt(y);
         section.biomePalette().set(
                 toSectionRelativeCoordinate(x) / 4,
@@ -177,10 +280,69 @@ public class DynamicChunk extends Chunk {
         return dynamicChunk;
     }
 
+    /**
+     * Copies the blocks between two heights, the other sections are left empty.
+     *
+     * @param minY the minimum height, inclusive
+     * @param maxY the maximum height, exclusive
+     */
+    @NotNull DynamicChunk copySections(int minY, int maxY) {
+        DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
+        Section[] copies = dynamicChunk.sections.toArray(Section[]::new);
+        for (int section = ChunkUtils.getChunkCoordinate(minY); section <= ChunkUtils.getChunkCoordinate(maxY - 1); section++) {
+            copies[section - minSection] = sections.get(section - minSection).clone();
+        }
+        dynamicChunk.sections = List.of(copies);
+        for (Int2ObjectMap.Entry<Block> entry : entries.int2ObjectEntrySet()) {
+            final int y = ChunkUtils.blockIndexToChunkPositionY(entry.getIntKey());
+            if (y >= minY && y < maxY) dynamicChunk.entries.put(entry.getIntKey(), entry.getValue());
+        }
+        return dynamicChunk;
+    }
+
     @Override
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        invalidate();
+    }
+
+    private void putEntry(int index, Block block) {
+        final BlockHandler handler = block.handler();
+        if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
+            this.entries.put(index, block);
+        }
+        if (handler != null && handler.isTickable()) {
+            this.tickableMap.put(index, block);
+        }
+    }
+
+    /**
+     * Removes the block entries inside a cuboid region, using absolute coordinates.
+     */
+    private void removeEntries(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (entries.isEmpty() && tickableMap.isEmpty()) return;
+        final int relMinX = toSectionRelativeCoordinate(minX), relMaxX = relMinX + maxX - minX;
+        final int relMinZ = toSectionRelativeCoordinate(minZ), relMaxZ = relMinZ + maxZ - minZ;
+        final IntPredicate inside = index -> {
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            return x >= relMinX && x < relMaxX && y >= minY && y < maxY && z >= relMinZ && z < relMaxZ;
+        };
+        this.entries.keySet().removeIf(inside);
+        this.tickableMap.keySet().removeIf(inside);
+    }
+
+    /**
+     * Invalidates the cached packets and snapshot content.
+     * <p>
+     * Must be called after modifying the sections without going through {@link #setBlock(int, int, int, Block)}.
+     */
+    void invalidate() {
+        this.chunkCache.invalidate();
+        this.lightCache.invalidate();
+        this.snapshotContent = null;
     }
 
     private synchronized @NotNull ChunkDataPacket createChunkPacket() {
@@ -203,10 +365,9 @@ public class DynamicChunk extends Chunk {
                     "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
         }
         // Data
-        final byte[] data = ObjectPool.PACKET_POOL.use(buffer ->
-                NetworkBuffer.makeArray(networkBuffer -> {
-                    for (Section section : sections) networkBuffer.write(section);
-                }));
+        final byte[] data = NetworkBuffer.makeArray(networkBuffer -> {
+            for (Section section : sections) networkBuffer.write(section);
+        });
         return new ChunkDataPacket(chunkX, chunkZ,
                 new ChunkData(heightmapsNBT, data, entries),
                 createLightData());
@@ -250,16 +411,26 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public @NotNull ChunkSnapshot updateSnapshot(@NotNull SnapshotUpdater updater) {
-        Section[] clonedSections = new Section[sections.size()];
-        for (int i = 0; i < clonedSections.length; i++)
-            clonedSections[i] = sections.get(i).clone();
+        SnapshotContent content = this.snapshotContent;
+        if (content == null) {
+            // Chunk has been modified since the last persistent snapshot
+            Section[] clonedSections = new Section[sections.size()];
+            for (int i = 0; i < clonedSections.length; i++)
+                clonedSections[i] = sections.get(i).clone();
+            content = new SnapshotContent(clonedSections, entries.clone());
+            // One-off snapshots do not keep a copy of the chunk alive
+            if (updater.persistent()) this.snapshotContent = content;
+        }
         var entities = instance.getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES);
         final int[] entityIds = ArrayUtils.mapToIntArray(entities, Entity::getEntityId);
         return new SnapshotImpl.Chunk(minSection, chunkX, chunkZ,
-                clonedSections, entries.clone(), entityIds, updater.reference(instance),
+                content.sections(), content.entries(), entityIds, updater.reference(instance),
                 tagHandler().readableCopy());
     }
 
+    private record SnapshotContent(Section[] sections, Int2ObjectOpenHashMap<Block> entries) {
+    }
+
     private void assertLock() {
         assert Thread.holdsLock(this) : "Chunk must be locked before access";
     }
@@ -9,7 +9,9 @@ import net.minestom.server.Tickable;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityActivation;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.ExperienceOrb;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.pathfinding.PFInstanceSpace;
@@ -17,6 +19,7 @@ import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventHandler;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.instance.InstanceTickEvent;
 import net.minestom.server.event.trait.InstanceEvent;
 import net.minestom.server.instance.block.Block;
@@ -47,6 +50,7 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -81,8 +85,10 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     // Field for tick events
     private long lastTickAge = System.currentTimeMillis();
+    private ListenerHandle<InstanceTickEvent> tickHandle;
 
     private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private final Map<EntityType, EntityActivation> entityActivations = new ConcurrentHashMap<>();
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -153,6 +159,82 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     @ApiStatus.Internal
     public abstract boolean breakBlock(@NotNull Player player, @NotNull Point blockPosition, @NotNull BlockFace blockFace);
 
+    /**
+     * Fills a cuboid region with the same block.
+     * <p>
+     * Blocks in unloaded chunks are ignored. The default implementation calls {@link #setBlock(int, int, int, Block)}
+     * for each position, {@link InstanceContainer} writes whole sections without triggering placement rules
+     * and handlers, and sends each modified chunk once to its viewers.
+     *
+     * @param start the start (min) point of the region, inclusive
+     * @param end   the end (max) point of the region, exclusive
+     * @param block the block to place
+     */
+    public void fill(@NotNull Point start, @NotNull Point end, @NotNull Block block) {
+        final DimensionType dimensionType = getDimensionType();
+        final int minY = Math.max(start.blockY(), dimensionType.getMinY());
+        final int maxY = Math.min(end.blockY(), dimensionType.getMinY() + dimensionType.getHeight());
+        for (int x = start.blockX(); x < end.blockX(); x++) {
+            for (int z = start.blockZ(); z < end.blockZ(); z++) {
+                if (!isChunkLoaded(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z))) continue;
+                for (int y = minY; y < maxY; y++) {
+                    setBlock(x, y, z, block);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a cuboid region of {@code source} into this instance.
+     * <p>
+     * Blocks in unloaded chunks are ignored. The default implementation reads the region with {@link #getBlock(int, int, int)}
+     * before calling {@link #setBlock(int, int, int, Block)} for each position, {@link InstanceContainer} copies whole
+     * sections without triggering placement rules and handlers, and sends each modified chunk once to its viewers.
+     *
+     * @param source      the instance to copy from, can be this instance
+     * @param start       the start (min) point of the source region, inclusive
+     * @param end         the end (max) point of the source region, exclusive
+     * @param destination the start point of the region in this instance
+     */
+    public void paste(@NotNull Instance source, @NotNull Point start, @NotNull Point end, @NotNull Point destination) {
+        final int offsetX = destination.blockX() - start.blockX();
+        final int offsetY = destination.blockY() - start.blockY();
+        final int offsetZ = destination.blockZ() - start.blockZ();
+        final DimensionType sourceDimension = source.getDimensionType();
+        final DimensionType dimensionType = getDimensionType();
+        // Source region, restricted to the height of both instances
+        final int minX = start.blockX(), maxX = end.blockX();
+        final int minY = Math.max(start.blockY(), Math.max(sourceDimension.getMinY(), dimensionType.getMinY() - offsetY));
+        final int maxY = Math.min(end.blockY(), Math.min(sourceDimension.getMinY() + sourceDimension.getHeight(),
+                dimensionType.getMinY() + dimensionType.getHeight() - offsetY));
+        final int minZ = start.blockZ(), maxZ = end.blockZ();
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        // Read the whole region first, the source can be this instance
+        final int sizeY = maxY - minY;
+        Block[] blocks = new Block[(maxX - minX) * sizeY * (maxZ - minZ)];
+        int index = 0;
+        for (int x = minX; x < maxX; x++) {
+            for (int z = minZ; z < maxZ; z++, index += sizeY) {
+                if (!source.isChunkLoaded(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z))) continue;
+                for (int y = 0; y < sizeY; y++) {
+                    blocks[index + y] = source.getBlock(x, minY + y, z);
+                }
+            }
+        }
+        index = 0;
+        for (int x = minX; x < maxX; x++) {
+            for (int z = minZ; z < maxZ; z++, index += sizeY) {
+                if (blocks[index] == null ||
+                        !isChunkLoaded(ChunkUtils.getChunkCoordinate(x + offsetX), ChunkUtils.getChunkCoordinate(z + offsetZ))) {
+                    continue;
+                }
+                for (int y = 0; y < sizeY; y++) {
+                    setBlock(x + offsetX, minY + y + offsetY, z + offsetZ, blocks[index + y]);
+                }
+            }
+        }
+    }
+
     /**
      * Forces the generation of a {@link Chunk}, even if no file and {@link ChunkGenerator} are defined.
      *
@@ -192,6 +274,20 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return loadOptionalChunk(point.chunkX(), point.chunkZ());
     }
 
+    /**
+     * Loads a chunk entering the view of a player, like {@link #loadOptionalChunk(int, int)}.
+     * <p>
+     * Its generation may be dropped once out of the view of every player.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return a {@link CompletableFuture} completed once the chunk has been processed, can be null if not loaded
+     */
+    @ApiStatus.Internal
+    public @NotNull CompletableFuture<@Nullable Chunk> loadViewedChunk(int chunkX, int chunkZ) {
+        return loadOptionalChunk(chunkX, chunkZ);
+    }
+
     /**
      * Schedules the removal of a {@link Chunk}, this method does not promise when it will be done.
      * <p>
@@ -530,6 +626,43 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return result;
     }
 
+    /**
+     * Changes the activation range of an entity type in this instance, applied to existing entities on their next check.
+     *
+     * @param entityType the entity type
+     * @param activation the activation range, null to always tick the entities of this type
+     */
+    @ApiStatus.Experimental
+    public void setEntityActivation(@NotNull EntityType entityType, @Nullable EntityActivation activation) {
+        if (activation != null) {
+            this.entityActivations.put(entityType, activation);
+        } else {
+            this.entityActivations.remove(entityType);
+        }
+    }
+
+    /**
+     * Gets the activation range of an entity type in this instance.
+     *
+     * @param entityType the entity type
+     * @return the activation range, null if the entities of this type are always ticked
+     */
+    @ApiStatus.Experimental
+    public @Nullable EntityActivation getEntityActivation(@NotNull EntityType entityType) {
+        final Map<EntityType, EntityActivation> activations = this.entityActivations;
+        return activations.isEmpty() ? null : activations.get(entityType);
+    }
+
+    /**
+     * Gets if an activation range is set for at least one entity type in this instance.
+     *
+     * @return true if some entities of this instance can be dormant
+     */
+    @ApiStatus.Experimental
+    public boolean hasEntityActivations() {
+        return !entityActivations.isEmpty();
+    }
+
     @Override
     public @Nullable Block getBlock(int x, int y, int z, @NotNull Condition condition) {
         final Block block = blockRetriever.getBlock(x, y, z, condition);
@@ -612,7 +745,9 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         // Tick event
         {
             // Process tick events
-            EventDispatcher.call(new InstanceTickEvent(this, time, lastTickAge));
+            ListenerHandle<InstanceTickEvent> tickHandle = this.tickHandle;
+            if (tickHandle == null) this.tickHandle = tickHandle = EventDispatcher.getHandle(InstanceTickEvent.class);
+            if (tickHandle.hasListener()) tickHandle.call(new InstanceTickEvent(this, time, lastTickAge));
             // Set last tick age
             this.lastTickAge = time;
         }
@@ -16,13 +16,10 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.palette.Palette;
-import net.minestom.server.network.packet.server.play.BlockChangePacket;
-import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.async.AsyncUtils;
-import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.chunk.ChunkCache;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
@@ -31,14 +28,14 @@ import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -50,16 +47,22 @@ import static net.minestom.server.utils.chunk.ChunkUtils.*;
  */
 public class InstanceContainer extends Instance {
     private static final AnvilLoader DEFAULT_LOADER = new AnvilLoader("world");
+    // Taken when two chunks to lock have the same identity hash code
+    private static final Object PASTE_TIE_LOCK = new Object();
 
     // the shared instances assigned to this instance
     private final List<SharedInstance> sharedInstances = new CopyOnWriteArrayList<>();
 
     // the chunk generator used, can be null
     private volatile Generator generator;
+    // the pool running the generator, null to use the common pool once needed
+    private volatile ChunkGenerationPool generationPool;
     // (chunk index -> chunk) map, contains all the chunks in the instance
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    // Loading chunks explicitly requested, others are only loaded for the view of players
+    private final Set<Long> requestedChunks = ConcurrentHashMap.newKeySet();
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
@@ -141,14 +144,7 @@ public class InstanceContainer extends Instance {
             executeNeighboursBlockPlacementRule(blockPosition);
 
             // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                var registry = block.registry();
-                if (registry.isBlockEntity()) {
-                    final NBTCompound data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
-                }
-            }
+            PacketUtils.prepareBlockChange(chunk, x, y, z);
 
             if (previousHandler != null) {
                 // Previous destroy
@@ -165,6 +161,138 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    @Override
+    public void fill(@NotNull Point start, @NotNull Point end, @NotNull Block block) {
+        final DimensionType dimensionType = getDimensionType();
+        final int minX = start.blockX(), maxX = end.blockX();
+        final int minY = Math.max(start.blockY(), dimensionType.getMinY());
+        final int maxY = Math.min(end.blockY(), dimensionType.getMinY() + dimensionType.getHeight());
+        final int minZ = start.blockZ(), maxZ = end.blockZ();
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        for (int chunkX = getChunkCoordinate(minX); chunkX <= getChunkCoordinate(maxX - 1); chunkX++) {
+            for (int chunkZ = getChunkCoordinate(minZ); chunkZ <= getChunkCoordinate(maxZ - 1); chunkZ++) {
+                final Chunk chunk = getChunk(chunkX, chunkZ);
+                if (!isLoaded(chunk) || chunk.isReadOnly()) continue;
+                final int chunkMinX = chunkX * Chunk.CHUNK_SIZE_X, chunkMinZ = chunkZ * Chunk.CHUNK_SIZE_Z;
+                synchronized (chunk) {
+                    chunk.fill(Math.max(minX, chunkMinX), minY, Math.max(minZ, chunkMinZ),
+                            Math.min(maxX, chunkMinX + Chunk.CHUNK_SIZE_X), maxY, Math.min(maxZ, chunkMinZ + Chunk.CHUNK_SIZE_Z),
+                            block);
+                }
+                chunk.sendChunk();
+            }
+        }
+        this.lastBlockChangeTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void paste(@NotNull Instance source, @NotNull Point start, @NotNull Point end, @NotNull Point destination) {
+        final int offsetX = destination.blockX() - start.blockX();
+        final int offsetY = destination.blockY() - start.blockY();
+        final int offsetZ = destination.blockZ() - start.blockZ();
+        final DimensionType sourceDimension = source.getDimensionType();
+        final DimensionType dimensionType = getDimensionType();
+        // Source region, restricted to the height of both instances
+        final int minX = start.blockX(), maxX = end.blockX();
+        final int minY = Math.max(start.blockY(), Math.max(sourceDimension.getMinY(), dimensionType.getMinY() - offsetY));
+        final int maxY = Math.min(end.blockY(), Math.min(sourceDimension.getMinY() + sourceDimension.getHeight(),
+                dimensionType.getMinY() + dimensionType.getHeight() - offsetY));
+        final int minZ = start.blockZ(), maxZ = end.blockZ();
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        final int minChunkX = getChunkCoordinate(minX), maxChunkX = getChunkCoordinate(maxX - 1);
+        final int minChunkZ = getChunkCoordinate(minZ), maxChunkZ = getChunkCoordinate(maxZ - 1);
+        // Shared source chunks which are also modified must be copied before any modification,
+        // only the pasted sections are copied
+        final boolean sameChunks = source == this ||
+                (source instanceof SharedInstance sharedInstance && sharedInstance.getInstanceContainer() == this);
+        final int minDestChunkX = getChunkCoordinate(minX + offsetX), maxDestChunkX = getChunkCoordinate(maxX - 1 + offsetX);
+        final int minDestChunkZ = getChunkCoordinate(minZ + offsetZ), maxDestChunkZ = getChunkCoordinate(maxZ - 1 + offsetZ);
+        Map<Long, Chunk> sourceCopies = new HashMap<>();
+        if (sameChunks) {
+            for (int chunkX = Math.max(minChunkX, minDestChunkX); chunkX <= Math.min(maxChunkX, maxDestChunkX); chunkX++) {
+                for (int chunkZ = Math.max(minChunkZ, minDestChunkZ); chunkZ <= Math.min(maxChunkZ, maxDestChunkZ); chunkZ++) {
+                    final Chunk sourceChunk = source.getChunk(chunkX, chunkZ);
+                    if (isLoaded(sourceChunk)) {
+                        sourceCopies.put(getChunkIndex(chunkX, chunkZ), copySections(sourceChunk, minY, maxY));
+                    }
+                }
+            }
+        }
+        Set<Chunk> modifiedChunks = new HashSet<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final boolean copied = sameChunks &&
+                        chunkX >= minDestChunkX && chunkX <= maxDestChunkX &&
+                        chunkZ >= minDestChunkZ && chunkZ <= maxDestChunkZ;
+                final Chunk sourceChunk = copied ? sourceCopies.get(getChunkIndex(chunkX, chunkZ)) : source.getChunk(chunkX, chunkZ);
+                if (copied ? sourceChunk == null : !isLoaded(sourceChunk)) continue;
+                // Destination of the part of the region inside the source chunk
+                final int startX = Math.max(minX, chunkX * Chunk.CHUNK_SIZE_X) + offsetX;
+                final int endX = Math.min(maxX, (chunkX + 1) * Chunk.CHUNK_SIZE_X) + offsetX;
+                final int startZ = Math.max(minZ, chunkZ * Chunk.CHUNK_SIZE_Z) + offsetZ;
+                final int endZ = Math.min(maxZ, (chunkZ + 1) * Chunk.CHUNK_SIZE_Z) + offsetZ;
+                // Which may be spread over multiple destination chunks
+                for (int destChunkX = getChunkCoordinate(startX); destChunkX <= getChunkCoordinate(endX - 1); destChunkX++) {
+                    for (int destChunkZ = getChunkCoordinate(startZ); destChunkZ <= getChunkCoordinate(endZ - 1); destChunkZ++) {
+                        final Chunk chunk = getChunk(destChunkX, destChunkZ);
+                        if (!isLoaded(chunk) || chunk.isReadOnly()) continue;
+                        final int destMinX = Math.max(startX, destChunkX * Chunk.CHUNK_SIZE_X);
+                        final int destMaxX = Math.min(endX, (destChunkX + 1) * Chunk.CHUNK_SIZE_X);
+                        final int destMinZ = Math.max(startZ, destChunkZ * Chunk.CHUNK_SIZE_Z);
+                        final int destMaxZ = Math.min(endZ, (destChunkZ + 1) * Chunk.CHUNK_SIZE_Z);
+                        final Runnable copy = () -> chunk.copyFrom(sourceChunk,
+                                destMinX - offsetX, minY, destMinZ - offsetZ,
+                                destMinX, minY + offsetY, destMinZ,
+                                destMaxX - destMinX, maxY - minY, destMaxZ - destMinZ);
+                        if (copied) {
+                            synchronized (chunk) {
+                                copy.run();
+                            }
+                        } else {
+                            // Read directly from the source chunk
+                            synchronizeBoth(chunk, sourceChunk, copy);
+                        }
+                        modifiedChunks.add(chunk);
+                    }
+                }
+            }
+        }
+        modifiedChunks.forEach(Chunk::sendChunk);
+        this.lastBlockChangeTime = System.currentTimeMillis();
+    }
+
+    private static Chunk copySections(Chunk chunk, int minY, int maxY) {
+        synchronized (chunk) {
+            return chunk instanceof DynamicChunk dynamicChunk ? dynamicChunk.copySections(minY, maxY) :
+                    chunk.copy(chunk.getInstance(), chunk.getChunkX(), chunk.getChunkZ());
+        }
+    }
+
+    /**
+     * Runs a task while holding the locks of two chunks, always taken in the same order
+     * since another paste may copy in the opposite direction.
+     */
+    private static void synchronizeBoth(Chunk first, Chunk second, Runnable runnable) {
+        final int firstHash = System.identityHashCode(first), secondHash = System.identityHashCode(second);
+        if (firstHash > secondHash) {
+            synchronizeBoth(second, first, runnable);
+        } else if (firstHash == secondHash) {
+            synchronized (PASTE_TIE_LOCK) {
+                synchronized (first) {
+                    synchronized (second) {
+                        runnable.run();
+                    }
+                }
+            }
+        } else {
+            synchronized (first) {
+                synchronized (second) {
+                    runnable.run();
+                }
+            }
+        }
+    }
+
     @Override
     public boolean placeBlock(@NotNull BlockHandler.Placement placement) {
         final Point blockPosition = placement.getBlockPosition();
@@ -210,11 +338,16 @@ public class InstanceContainer extends Instance {
 
     @Override
     public @NotNull CompletableFuture<Chunk> loadChunk(int chunkX, int chunkZ) {
-        return loadOrRetrieve(chunkX, chunkZ, () -> retrieveChunk(chunkX, chunkZ));
+        return loadOrRetrieve(chunkX, chunkZ, () -> requestChunk(chunkX, chunkZ));
     }
 
     @Override
     public @NotNull CompletableFuture<Chunk> loadOptionalChunk(int chunkX, int chunkZ) {
+        return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? requestChunk(chunkX, chunkZ) : AsyncUtils.empty());
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Nullable Chunk> loadViewedChunk(int chunkX, int chunkZ) {
         return loadOrRetrieve(chunkX, chunkZ, () -> hasEnabledAutoChunkLoad() ? retrieveChunk(chunkX, chunkZ) : AsyncUtils.empty());
     }
 
@@ -270,7 +403,12 @@ public class InstanceContainer extends Instance {
                         return CompletableFuture.completedFuture(chunk);
                     } else {
                         // Loader couldn't load the chunk, generate it
-                        return createChunk(chunkX, chunkZ);
+                        final CompletableFuture<Chunk> creation = createChunk(chunkX, chunkZ);
+                        // Skip the generation if the load is cancelled
+                        completableFuture.whenComplete((c, throwable) -> {
+                            if (completableFuture.isCancelled()) creation.cancel(false);
+                        });
+                        return creation;
                     }
                 })
                 // cache the retrieved chunk
@@ -280,10 +418,17 @@ public class InstanceContainer extends Instance {
                     EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
                     final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
                     assert future == completableFuture : "Invalid future: " + future;
+                    this.requestedChunks.remove(index);
                     completableFuture.complete(chunk);
                 })
                 .exceptionally(throwable -> {
-                    MinecraftServer.getExceptionManager().handleException(throwable);
+                    this.loadingChunks.remove(index, completableFuture);
+                    this.requestedChunks.remove(index);
+                    final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    if (!(cause instanceof CancellationException)) {
+                        MinecraftServer.getExceptionManager().handleException(throwable);
+                    }
+                    completableFuture.completeExceptionally(cause);
                     return null;
                 });
         if (loader.supportsParallelLoading()) {
@@ -294,6 +439,25 @@ public class InstanceContainer extends Instance {
         return completableFuture;
     }
 
+    private @NotNull CompletableFuture<@NotNull Chunk> requestChunk(int chunkX, int chunkZ) {
+        final long index = getChunkIndex(chunkX, chunkZ);
+        this.requestedChunks.add(index);
+        final CompletableFuture<Chunk> future = retrieveChunk(chunkX, chunkZ);
+        if (future.isDone()) this.requestedChunks.remove(index);
+        return future;
+    }
+
+    /**
+     * Gets if a loading chunk is waited for by an explicit load, instead of only the view of players.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return true if the chunk generation must not be dropped
+     */
+    boolean isChunkRequested(int chunkX, int chunkZ) {
+        return requestedChunks.contains(getChunkIndex(chunkX, chunkZ));
+    }
+
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
 
     protected @NotNull CompletableFuture<@NotNull Chunk> createChunk(int chunkX, int chunkZ) {
@@ -301,64 +465,72 @@ public class InstanceContainer extends Instance {
         Check.notNull(chunk, "Chunks supplied by a ChunkSupplier cannot be null.");
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
-            CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
-                var chunkUnit = GeneratorImpl.chunk(chunk);
-                try {
-                    // Generate block/biome palette
-                    generator.generate(chunkUnit);
-                    // Apply nbt/handler
-                    if (chunkUnit.modifier() instanceof GeneratorImpl.AreaModifierImpl chunkModifier) {
-                        for (var section : chunkModifier.sections()) {
-                            if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
-                                applyGenerationData(chunk, sectionModifier);
-                            }
-                        }
+            return getGenerationPool().submit(this, generator, chunk);
+        } else {
+            // No chunk generator, execute the callback with the empty chunk
+            processFork(chunk);
+            return CompletableFuture.completedFuture(chunk);
+        }
+    }
+
+    /**
+     * Generates a batch of chunks, called from the {@link ChunkGenerationPool}.
+     *
+     * @param generator the generator to use
+     * @param chunks    the chunks to generate
+     */
+    void generateChunks(@NotNull Generator generator, @NotNull List<Chunk> chunks) {
+        List<GeneratorImpl.UnitImpl> units = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) units.add(GeneratorImpl.chunk(chunk));
+        try {
+            // Generate block/biome palette
+            generator.generateAll(Collections.unmodifiableList(units));
+            for (int unitIndex = 0; unitIndex < units.size(); unitIndex++) {
+                final GeneratorImpl.UnitImpl chunkUnit = units.get(unitIndex);
+                final Chunk chunk = chunks.get(unitIndex);
+                final int chunkX = chunk.getChunkX();
+                final int chunkZ = chunk.getChunkZ();
+                // Apply nbt/handler
+                for (var section : ((GeneratorImpl.AreaModifierImpl) chunkUnit.modifier()).sections()) {
+                    if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
+                        applyGenerationData(chunk, sectionModifier);
                     }
-                    // Register forks or apply locally
-                    for (var fork : chunkUnit.forks()) {
-                        var sections = ((GeneratorImpl.AreaModifierImpl) fork.modifier()).sections();
-                        for (var section : sections) {
-                            if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
-                                if (sectionModifier.blockPalette().count() == 0)
-                                    continue;
-                                final Point start = section.absoluteStart();
-                                final Chunk forkChunk = start.chunkX() == chunkX && start.chunkZ() == chunkZ ? chunk : getChunkAt(start);
-                                if (forkChunk != null) {
-                                    applyFork(forkChunk, sectionModifier);
-                                    // Update players
-                                    if (forkChunk instanceof DynamicChunk dynamicChunk) {
-                                        dynamicChunk.chunkCache.invalidate();
-                                        dynamicChunk.lightCache.invalidate();
-                                    }
-                                    forkChunk.sendChunk();
-                                } else {
-                                    final long index = ChunkUtils.getChunkIndex(start);
-                                    this.generationForks.compute(index, (i, sectionModifiers) -> {
-                                        if (sectionModifiers == null) sectionModifiers = new ArrayList<>();
-                                        sectionModifiers.add(sectionModifier);
-                                        return sectionModifiers;
-                                    });
+                }
+                // Register forks or apply locally
+                for (var fork : chunkUnit.forks()) {
+                    var sections = ((GeneratorImpl.AreaModifierImpl) fork.modifier()).sections();
+                    for (var section : sections) {
+                        if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
+                            if (sectionModifier.blockPalette().count() == 0)
+                                continue;
+                            final Point start = section.absoluteStart();
+                            final Chunk forkChunk = start.chunkX() == chunkX && start.chunkZ() == chunkZ ? chunk : getChunkAt(start);
+                            if (forkChunk != null) {
+                                applyFork(forkChunk, sectionModifier);
+                                // Update players
+                                if (forkChunk instanceof DynamicChunk dynamicChunk) {
+                                    dynamicChunk.invalidate();
                                 }
+                                forkChunk.sendChunk();
+                            } else {
+                                final long index = ChunkUtils.getChunkIndex(start);
+                                this.generationForks.compute(index, (i, sectionModifiers) -> {
+                                    if (sectionModifiers == null) sectionModifiers = new ArrayList<>();
+                                    sectionModifiers.add(sectionModifier);
+                                    return sectionModifiers;
+                                });
                             }
                         }
                     }
-                    // Apply awaiting forks
-                    processFork(chunk);
-                } catch (Throwable e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                } finally {
-                    // End generation
-                    refreshLastBlockChangeTime();
-                    resultFuture.complete(chunk);
                 }
-            });
-            return resultFuture;
-        } else {
-            // No chunk generator, execute the callback with the empty chunk
-            processFork(chunk);
-            return CompletableFuture.completedFuture(chunk);
+            }
+            // Apply awaiting forks, including the ones from the same batch
+            chunks.forEach(this::processFork);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            // End generation
+            refreshLastBlockChangeTime();
         }
     }
 
@@ -533,6 +705,29 @@ public class InstanceContainer extends Instance {
         this.generator = generator;
     }
 
+    /**
+     * Gets the pool generating the chunks of this instance.
+     *
+     * @return the generation pool, {@link ChunkGenerationPool#common()} by default
+     */
+    @ApiStatus.Experimental
+    public @NotNull ChunkGenerationPool getGenerationPool() {
+        final ChunkGenerationPool generationPool = this.generationPool;
+        return generationPool != null ? generationPool : ChunkGenerationPool.common();
+    }
+
+    /**
+     * Changes the pool generating the chunks of this instance.
+     * <p>
+     * Chunks already queued in the previous pool are not moved.
+     *
+     * @param generationPool the new generation pool
+     */
+    @ApiStatus.Experimental
+    public void setGenerationPool(@NotNull ChunkGenerationPool generationPool) {
+        this.generationPool = generationPool;
+    }
+
     /**
      * Gets all the instance chunks.
      *
@@ -30,6 +30,16 @@ public class SharedInstance extends Instance {
         this.instanceContainer.setBlock(x, y, z, block);
     }
 
+    @Override
+    public void fill(@NotNull Point start, @NotNull Point end, @NotNull Block block) {
+        this.instanceContainer.fill(start, end, block);
+    }
+
+    @Override
+    public void paste(@NotNull Instance source, @NotNull Point start, @NotNull Point end, @NotNull Point destination) {
+        this.instanceContainer.paste(source, start, end, destination);
+    }
+
     @Override
     public boolean placeBlock(@NotNull BlockHandler.Placement placement) {
         return instanceContainer.placeBlock(placement);
@@ -50,6 +60,11 @@ public class SharedInstance extends Instance {
         return instanceContainer.loadOptionalChunk(chunkX, chunkZ);
     }
 
+    @Override
+    public @NotNull CompletableFuture<Chunk> loadViewedChunk(int chunkX, int chunkZ) {
+        return instanceContainer.loadViewedChunk(chunkX, chunkZ);
+    }
+
     @Override
     public void unloadChunk(@NotNull Chunk chunk) {
         instanceContainer.unloadChunk(chunk);
@@ -6,7 +6,6 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
 import net.minestom.server.registry.Registry;
 import net.minestom.server.tag.Tag;
-import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.collection.MergedMap;
 import net.minestom.server.utils.collection.ObjectArray;
@@ -19,23 +18,17 @@ import org.jglrxavpok.hephaistos.nbt.mutable.MutableNBTCompound;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 record BlockImpl(@NotNull Registry.BlockEntry registry,
                  byte @NotNull [] propertiesArray,
                  @Nullable NBTCompound nbt,
                  @Nullable BlockHandler handler) implements Block {
-    // Block state -> block object
-    private static final ObjectArray<Block> BLOCK_STATE_MAP = ObjectArray.singleThread();
-    // Block id -> valid property keys (order is important for lookup)
-    private static final ObjectArray<PropertyType[]> PROPERTIES_TYPE = ObjectArray.singleThread();
-    // Block id -> Map<PropertiesValues, Block>
-    private static final ObjectArray<Map<PropertiesHolder, BlockImpl>> POSSIBLE_STATES = ObjectArray.singleThread();
+    // Block state -> table of the states of its block
+    private static final ObjectArray<StateTable> STATE_TABLES = ObjectArray.singleThread();
     private static final Registry.Container<Block> CONTAINER = Registry.createContainer(Registry.Resource.BLOCKS,
             (namespace, properties) -> {
-                final int blockId = properties.getInt("id");
-                final Registry.Properties stateObject = properties.section("states");
-
                 // Retrieve properties
                 PropertyType[] propertyTypes;
                 {
@@ -53,38 +46,12 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                         propertyTypes = new PropertyType[0];
                     }
                 }
-                PROPERTIES_TYPE.set(blockId, propertyTypes);
-
-                // Retrieve block states
-                {
-                    final int propertiesCount = stateObject.size();
-                    PropertiesHolder[] propertiesKeys = new PropertiesHolder[propertiesCount];
-                    BlockImpl[] blocksValues = new BlockImpl[propertiesCount];
-                    int propertiesOffset = 0;
-                    for (var stateEntry : stateObject) {
-                        final String query = stateEntry.getKey();
-                        final var stateOverride = (Map<String, Object>) stateEntry.getValue();
-                        final var propertyMap = BlockUtils.parseProperties(query);
-                        assert propertyTypes.length == propertyMap.size();
-                        byte[] propertiesArray = new byte[propertyTypes.length];
-                        for (var entry : propertyMap.entrySet()) {
-                            final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), null);
-                            final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), null);
-                            propertiesArray[keyIndex] = valueIndex;
-                        }
-
-                        var mainProperties = Registry.Properties.fromMap(new MergedMap<>(stateOverride, properties.asMap()));
-                        final BlockImpl block = new BlockImpl(Registry.block(namespace, mainProperties),
-                                propertiesArray, null, null);
-                        BLOCK_STATE_MAP.set(block.stateId(), block);
-                        propertiesKeys[propertiesOffset] = new PropertiesHolder(propertiesArray);
-                        blocksValues[propertiesOffset++] = block;
-                    }
-                    POSSIBLE_STATES.set(blockId, ArrayUtils.toMap(propertiesKeys, blocksValues, propertiesOffset));
-                }
+                // Index block states, the blocks are only created when requested
+                final StateTable table = new StateTable(namespace, properties, propertyTypes);
+                for (int i = 0; i < table.stateCount(); i++) STATE_TABLES.set(table.minStateId + i, table);
                 // Register default state
                 final int defaultState = properties.getInt("defaultStateId");
-                return getState(defaultState);
+                return table.state(defaultState - table.minStateId);
             });
     private static final Cache<NBTCompound, NBTCompound> NBT_CACHE = Caffeine.newBuilder()
             .expireAfterWrite(Duration.ofMinutes(5))
@@ -92,9 +59,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
             .build();
 
     static {
-        PROPERTIES_TYPE.trim();
-        BLOCK_STATE_MAP.trim();
-        POSSIBLE_STATES.trim();
+        STATE_TABLES.trim();
     }
 
     static Block get(@NotNull String namespace) {
@@ -110,7 +75,8 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     }
 
     static Block getState(int stateId) {
-        return BLOCK_STATE_MAP.get(stateId);
+        final StateTable table = STATE_TABLES.get(stateId);
+        return table != null ? table.state(stateId - table.minStateId) : null;
     }
 
     static Collection<Block> values() {
@@ -119,27 +85,24 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     @Override
     public @NotNull Block withProperty(@NotNull String property, @NotNull String value) {
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
-        final byte keyIndex = findKeyIndex(propertyTypes, property, this);
-        final byte valueIndex = findValueIndex(propertyTypes[keyIndex], value, this);
-        var properties = this.propertiesArray.clone();
-        properties[keyIndex] = valueIndex;
-        return compute(properties);
+        final StateTable table = stateTable();
+        final byte keyIndex = findKeyIndex(table.propertyTypes, property, this);
+        final byte valueIndex = findValueIndex(table.propertyTypes[keyIndex], value, this);
+        final int index = table.index(stateId()) + (valueIndex - propertiesArray[keyIndex]) * table.strides[keyIndex];
+        return compute(table, index);
     }
 
     @Override
     public @NotNull Block withProperties(@NotNull Map<@NotNull String, @NotNull String> properties) {
         if (properties.isEmpty()) return this;
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
+        final StateTable table = stateTable();
         byte[] result = this.propertiesArray.clone();
         for (var entry : properties.entrySet()) {
-            final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), this);
-            final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), this);
+            final byte keyIndex = findKeyIndex(table.propertyTypes, entry.getKey(), this);
+            final byte valueIndex = findValueIndex(table.propertyTypes[keyIndex], entry.getValue(), this);
             result[keyIndex] = valueIndex;
         }
-        return compute(result);
+        return compute(table, table.index(result));
     }
 
     @Override
@@ -162,8 +125,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     @Override
     public @Unmodifiable @NotNull Map<String, String> properties() {
-        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
-        assert propertyTypes != null;
+        final PropertyType[] propertyTypes = stateTable().propertyTypes;
         final int length = propertyTypes.length;
         if (length == 0) return Map.of();
         String[] keys = new String[length];
@@ -178,7 +140,10 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     @Override
     public @NotNull Collection<@NotNull Block> possibleStates() {
-        return Collection.class.cast(possibleProperties().values());
+        final StateTable table = stateTable();
+        Block[] states = new Block[table.stateCount()];
+        for (int i = 0; i < states.length; i++) states[i] = table.state(i);
+        return List.of(states);
     }
 
     @Override
@@ -186,8 +151,8 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return tag.read(Objects.requireNonNullElse(nbt, NBTCompound.EMPTY));
     }
 
-    private Map<PropertiesHolder, BlockImpl> possibleProperties() {
-        return POSSIBLE_STATES.get(id());
+    private StateTable stateTable() {
+        return STATE_TABLES.get(stateId());
     }
 
     @Override
@@ -207,10 +172,11 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return Objects.hash(stateId(), nbt, handler);
     }
 
-    private Block compute(byte[] properties) {
-        if (Arrays.equals(propertiesArray, properties)) return this;
-        final BlockImpl block = possibleProperties().get(new PropertiesHolder(properties));
-        assert block != null;
+    private Block compute(StateTable table, int index) {
+        final int stateId = table.stateIds[index];
+        assert stateId != -1;
+        if (stateId == stateId()) return this;
+        final BlockImpl block = table.state(stateId - table.minStateId);
         return nbt == null && handler == null ? block : new BlockImpl(block.registry(), block.propertiesArray, nbt, handler);
     }
 
@@ -239,25 +205,103 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     private record PropertyType(String key, List<String> values) {
     }
 
-    private static final class PropertiesHolder {
-        private final byte[] properties;
-        private final int hashCode;
-
-        public PropertiesHolder(byte[] properties) {
+    /**
+     * States of a block, indexed by the mixed radix number of their property values (the last property varying fastest).
+     * Blocks are created on first access.
+     */
+    private static final class StateTable {
+        private final String namespace;
+        private final Registry.Properties properties;
+        private final PropertyType[] propertyTypes;
+        // Property index -> multiplier of its value index
+        private final int[] strides;
+        private final int minStateId;
+        // Properties index -> state id, -1 if missing
+        private final int[] stateIds;
+        // State offset -> properties index
+        private final int[] indexes;
+        // State offset -> registry properties of the state
+        private final Map<String, Object>[] overrides;
+        private final AtomicReferenceArray<BlockImpl> states;
+
+        @SuppressWarnings("unchecked")
+        StateTable(String namespace, Registry.Properties properties, PropertyType[] propertyTypes) {
+            this.namespace = namespace;
             this.properties = properties;
-            this.hashCode = Arrays.hashCode(properties);
+            this.propertyTypes = propertyTypes;
+            this.strides = new int[propertyTypes.length];
+            int combinations = 1;
+            for (int i = propertyTypes.length - 1; i >= 0; i--) {
+                this.strides[i] = combinations;
+                combinations *= propertyTypes[i].values().size();
+            }
+            this.stateIds = new int[combinations];
+            Arrays.fill(stateIds, -1);
+
+            final Registry.Properties stateObject = properties.section("states");
+            final int stateCount = stateObject.size();
+            int minStateId = Integer.MAX_VALUE;
+            int[] parsedStateIds = new int[stateCount];
+            int[] parsedIndexes = new int[stateCount];
+            Map<String, Object>[] parsedOverrides = new Map[stateCount];
+            int offset = 0;
+            for (var stateEntry : stateObject) {
+                final var stateOverride = (Map<String, Object>) stateEntry.getValue();
+                final var propertyMap = BlockUtils.parseProperties(stateEntry.getKey());
+                assert propertyTypes.length == propertyMap.size();
+                int index = 0;
+                for (var entry : propertyMap.entrySet()) {
+                    final byte keyIndex = findKeyIndex(propertyTypes, entry.getKey(), null);
+                    final byte valueIndex = findValueIndex(propertyTypes[keyIndex], entry.getValue(), null);
+                    index += valueIndex * strides[keyIndex];
+                }
+                final int stateId = Registry.Properties.fromMap(stateOverride).getInt("stateId");
+                minStateId = Math.min(minStateId, stateId);
+                parsedStateIds[offset] = stateId;
+                parsedIndexes[offset] = index;
+                parsedOverrides[offset++] = stateOverride;
+            }
+            this.minStateId = minStateId;
+            this.indexes = new int[stateCount];
+            this.overrides = new Map[stateCount];
+            for (int i = 0; i < stateCount; i++) {
+                final int stateOffset = parsedStateIds[i] - minStateId;
+                if (stateOffset >= stateCount) {
+                    throw new IllegalStateException("The states of " + namespace + " are not contiguous");
+                }
+                this.stateIds[parsedIndexes[i]] = parsedStateIds[i];
+                this.indexes[stateOffset] = parsedIndexes[i];
+                this.overrides[stateOffset] = parsedOverrides[i];
+            }
+            this.states = new AtomicReferenceArray<>(stateCount);
+        }
+
+        int stateCount() {
+            return states.length();
+        }
+
+        int index(int stateId) {
+            return indexes[stateId - minStateId];
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof PropertiesHolder that)) return false;
-            return Arrays.equals(properties, that.properties);
+        int index(byte[] propertiesArray) {
+            int index = 0;
+            for (int i = 0; i < propertiesArray.length; i++) index += propertiesArray[i] * strides[i];
+            return index;
         }
 
-        @Override
-        public int hashCode() {
-            return hashCode;
+        BlockImpl state(int offset) {
+            BlockImpl block = states.get(offset);
+            if (block != null) return block;
+            final int index = indexes[offset];
+            byte[] propertiesArray = new byte[propertyTypes.length];
+            for (int i = 0; i < propertyTypes.length; i++) {
+                propertiesArray[i] = (byte) (index / strides[i] % propertyTypes[i].values().size());
+            }
+            var mainProperties = Registry.Properties.fromMap(new MergedMap<>(overrides[offset], properties.asMap()));
+            block = new BlockImpl(Registry.block(namespace, mainProperties), propertiesArray, null, null);
+            // Keep a single instance per state
+            return states.compareAndSet(offset, null, block) ? block : states.get(offset);
         }
     }
 }
@@ -1,7 +1,5 @@
 package net.minestom.server.instance.palette;
 
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
-import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
@@ -54,6 +52,58 @@ final class AdaptivePalette implements Palette, Cloneable {
         this.palette = new FilledPalette(dimension, value);
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        if (minX < 0 || minY < 0 || minZ < 0) {
+            throw new IllegalArgumentException("Coordinates must be positive");
+        }
+        final int dimension = this.dimension;
+        if (maxX > dimension || maxY > dimension || maxZ > dimension) {
+            throw new IllegalArgumentException("Region must be inside the palette");
+        }
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        if (minX == 0 && minY == 0 && minZ == 0 &&
+                maxX == dimension && maxY == dimension && maxZ == dimension) {
+            fill(value);
+            return;
+        }
+        if (palette instanceof FilledPalette filledPalette && filledPalette.value() == value) return;
+        flexiblePalette().fill(minX, minY, minZ, maxX, maxY, maxZ, value);
+    }
+
+    @Override
+    public void copyFrom(@NotNull Palette source,
+                         int srcX, int srcY, int srcZ,
+                         int dstX, int dstY, int dstZ,
+                         int sizeX, int sizeY, int sizeZ) {
+        if (srcX < 0 || srcY < 0 || srcZ < 0 || dstX < 0 || dstY < 0 || dstZ < 0) {
+            throw new IllegalArgumentException("Coordinates must be positive");
+        }
+        final int dimension = this.dimension;
+        final int sourceDimension = source.dimension();
+        if (dstX + sizeX > dimension || dstY + sizeY > dimension || dstZ + sizeZ > dimension ||
+                srcX + sizeX > sourceDimension || srcY + sizeY > sourceDimension || srcZ + sizeZ > sourceDimension) {
+            throw new IllegalArgumentException("Region must be inside both palettes");
+        }
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) return;
+        if (source instanceof AdaptivePalette adaptivePalette) {
+            final SpecializedPalette sourcePalette = adaptivePalette.palette;
+            if (sourcePalette instanceof FilledPalette filledPalette) {
+                fill(dstX, dstY, dstZ, dstX + sizeX, dstY + sizeY, dstZ + sizeZ, filledPalette.value());
+                return;
+            }
+            if (sizeX == dimension && sizeY == dimension && sizeZ == dimension &&
+                    sourceDimension == dimension && adaptivePalette.maxBitsPerEntry == maxBitsPerEntry) {
+                // Whole palette, copy the backing storage
+                this.palette = sourcePalette.clone();
+                return;
+            }
+        }
+        // Overlapping regions must not read already copied entries
+        if (source == this) source = clone();
+        flexiblePalette().copyFrom(source, srcX, srcY, srcZ, dstX, dstY, dstZ, sizeX, sizeY, sizeZ);
+    }
+
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
         SpecializedPalette newPalette = new FlexiblePalette(this);
@@ -119,15 +169,14 @@ final class AdaptivePalette implements Palette, Cloneable {
             if (count == 0) {
                 return new FilledPalette(dimension, 0);
             } else {
-                // Find all entries and compress the palette
-                IntSet entries = new IntOpenHashSet(flexiblePalette.paletteToValueList.size());
-                flexiblePalette.getAll((x, y, z, value) -> entries.add(value));
+                // Distinct values are tracked by the palette (scanned in direct mode), only compress if worth it
+                final int distinctCount = flexiblePalette.distinctCount();
                 final int currentBitsPerEntry = flexiblePalette.bitsPerEntry();
                 final int bitsPerEntry;
-                if (entries.size() == 1) {
-                    return new FilledPalette(dimension, entries.iterator().nextInt());
+                if (distinctCount == 1) {
+                    return new FilledPalette(dimension, flexiblePalette.get(0, 0, 0));
                 } else if (currentBitsPerEntry > defaultBitsPerEntry &&
-                        (bitsPerEntry = MathUtils.bitsToRepresent(entries.size() - 1)) < currentBitsPerEntry) {
+                        (bitsPerEntry = Math.max(defaultBitsPerEntry, MathUtils.bitsToRepresent(distinctCount - 1))) < currentBitsPerEntry) {
                     flexiblePalette.resize((byte) bitsPerEntry);
                     return flexiblePalette;
                 }
@@ -8,7 +8,6 @@ import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntUnaryOperator;
 
 import static net.minestom.server.network.NetworkBuffer.*;
@@ -29,6 +28,10 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     IntArrayList paletteToValueList;
     // value = palette index
     private Int2IntOpenHashMap valueToPaletteMap;
+    // palette index = number of entries using it, null without palette
+    private int[] paletteCounts;
+    // number of palette indexes with at least one entry
+    private int distinctCount;
 
     FlexiblePalette(AdaptivePalette adaptivePalette, byte bitsPerEntry) {
         this.adaptivePalette = adaptivePalette;
@@ -41,8 +44,13 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         this.valueToPaletteMap.put(0, 0);
         this.valueToPaletteMap.defaultReturnValue(-1);
 
-        final int valuesPerLong = 64 / bitsPerEntry;
-        this.values = new long[(maxSize() + valuesPerLong - 1) / valuesPerLong];
+        if (hasPalette()) {
+            this.paletteCounts = new int[maxPaletteSize(bitsPerEntry)];
+            this.paletteCounts[0] = maxSize();
+            this.distinctCount = 1;
+        }
+
+        this.values = new long[arrayLength(maxSize(), bitsPerEntry)];
     }
 
     FlexiblePalette(AdaptivePalette adaptivePalette) {
@@ -74,39 +82,59 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     @Override
     public void set(int x, int y, int z, int value) {
         value = getPaletteIndex(value);
-        final int bitsPerEntry = this.bitsPerEntry;
-        final long[] values = this.values;
-        // Change to palette value
-        final int valuesPerLong = 64 / bitsPerEntry;
-        final int sectionIndex = getSectionIndex(dimension(), x, y, z);
-        final int index = sectionIndex / valuesPerLong;
-        final int bitIndex = (sectionIndex - index * valuesPerLong) * bitsPerEntry;
-
-        final long block = values[index];
-        final long clear = (1L << bitsPerEntry) - 1L;
-        final long oldBlock = block >> bitIndex & clear;
-        values[index] = block & ~(clear << bitIndex) | ((long) value << bitIndex);
-        // Check if block count needs to be updated
-        final boolean currentAir = oldBlock == 0;
-        if (currentAir != (value == 0)) this.count += currentAir ? 1 : -1;
+        write(getSectionIndex(dimension(), x, y, z), value);
     }
 
     @Override
     public void fill(int value) {
         if (value == 0) {
             Arrays.fill(values, 0);
-            this.count = 0;
+            resetCounts(0);
             return;
         }
         value = getPaletteIndex(value);
-        final int bitsPerEntry = this.bitsPerEntry;
-        final int valuesPerLong = 64 / bitsPerEntry;
-        final long[] values = this.values;
-        long block = 0;
-        for (int i = 0; i < valuesPerLong; i++)
-            block |= (long) value << i * bitsPerEntry;
-        Arrays.fill(values, block);
-        this.count = maxSize();
+        Arrays.fill(values, repeat(value, bitsPerEntry));
+        resetCounts(value);
+    }
+
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        final int paletteIndex = getPaletteIndex(value);
+        final int dimension = dimension();
+        final int length = maxX - minX;
+        if (length == dimension && minZ == 0 && maxZ == dimension) {
+            // Full layers are contiguous
+            writeRun(getSectionIndex(dimension, 0, minY, 0), (maxY - minY) * dimension * dimension, paletteIndex);
+            return;
+        }
+        for (int y = minY; y < maxY; y++) {
+            for (int z = minZ; z < maxZ; z++) {
+                writeRun(getSectionIndex(dimension, minX, y, z), length, paletteIndex);
+            }
+        }
+    }
+
+    @Override
+    public void copyFrom(@NotNull Palette source,
+                         int srcX, int srcY, int srcZ,
+                         int dstX, int dstY, int dstZ,
+                         int sizeX, int sizeY, int sizeZ) {
+        final int dimension = dimension();
+        // Consecutive entries are very likely to share the same value
+        int lastValue = 0, lastIndex = 0;
+        for (int y = 0; y < sizeY; y++) {
+            for (int z = 0; z < sizeZ; z++) {
+                final int start = getSectionIndex(dimension, dstX, dstY + y, dstZ + z);
+                for (int x = 0; x < sizeX; x++) {
+                    final int value = source.get(srcX + x, srcY + y, srcZ + z);
+                    if (value != lastValue) {
+                        lastIndex = getPaletteIndex(value);
+                        lastValue = value;
+                    }
+                    write(start + x, lastIndex);
+                }
+            }
+        }
     }
 
     @Override
@@ -115,7 +143,6 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         final int dimension = dimension();
         // Fill cache with values
         int fillValue = -1;
-        int count = 0;
         int index = 0;
         for (int y = 0; y < dimension; y++) {
             for (int z = 0; z < dimension; z++) {
@@ -129,11 +156,6 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
                             fillValue = -2;
                         }
                     }
-                    // Set value in cache
-                    if (value != 0) {
-                        value = getPaletteIndex(value);
-                        count++;
-                    }
                     cache[index++] = value;
                 }
             }
@@ -142,7 +164,6 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         // Update palette content
         if (fillValue < 0) {
             updateAll(cache);
-            this.count = count;
         } else {
             fill(fillValue);
         }
@@ -158,19 +179,21 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     @Override
     public void replaceAll(@NotNull EntryFunction function) {
         int[] cache = WRITE_CACHE.get();
-        AtomicInteger arrayIndex = new AtomicInteger();
-        AtomicInteger count = new AtomicInteger();
-        getAll((x, y, z, value) -> {
-            final int newValue = function.apply(x, y, z, value);
-            final int index = arrayIndex.getPlain();
-            arrayIndex.setPlain(index + 1);
-            cache[index] = newValue != value ? getPaletteIndex(newValue) : value;
-            if (newValue != 0) count.setPlain(count.getPlain() + 1);
-        });
-        assert arrayIndex.getPlain() == maxSize();
+        unpack(cache);
+        final int[] ids = hasPalette() ? paletteToValueList.elements() : null;
+        final int dimension = dimension();
+        int index = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int z = 0; z < dimension; z++) {
+                for (int x = 0; x < dimension; x++) {
+                    final int value = ids != null ? ids[cache[index]] : cache[index];
+                    cache[index++] = function.apply(x, y, z, value);
+                }
+            }
+        }
+        assert index == maxSize();
         // Update palette content
         updateAll(cache);
-        this.count = count.getPlain();
     }
 
     @Override
@@ -200,6 +223,7 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
             palette.values = values != null ? values.clone() : null;
             palette.paletteToValueList = paletteToValueList.clone();
             palette.valueToPaletteMap = valueToPaletteMap.clone();
+            palette.paletteCounts = paletteCounts != null ? paletteCounts.clone() : null;
             palette.count = count;
             return palette;
         } catch (CloneNotSupportedException e) {
@@ -217,6 +241,36 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         writer.write(LONG_ARRAY, values);
     }
 
+    /**
+     * Returns the number of distinct values in this palette.
+     * <p>
+     * Constant time when using a palette, direct values are scanned in place using a bitset of the possible values.
+     */
+    int distinctCount() {
+        if (paletteCounts != null) return distinctCount;
+        final long[] values = this.values;
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int magicMask = (1 << bitsPerEntry) - 1;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int size = maxSize();
+        final long[] seen = new long[((1 << bitsPerEntry) + 63) >>> 6];
+        int distinct = 0;
+        int index = 0;
+        for (long block : values) {
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            for (; index < endIndex; index++, block >>>= bitsPerEntry) {
+                final int value = (int) block & magicMask;
+                final long bit = 1L << value;
+                final int word = value >>> 6;
+                if ((seen[word] & bit) == 0) {
+                    seen[word] |= bit;
+                    distinct++;
+                }
+            }
+        }
+        return distinct;
+    }
+
     private void retrieveAll(@NotNull EntryConsumer consumer, boolean consumeEmpty) {
         if (!consumeEmpty && count == 0) return;
         final long[] values = this.values;
@@ -229,13 +283,11 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         final int[] ids = hasPalette() ? paletteToValueList.elements() : null;
         final int dimensionBitCount = MathUtils.bitsToRepresent(dimensionMinus);
         final int shiftedDimensionBitCount = dimensionBitCount << 1;
-        for (int i = 0; i < values.length; i++) {
-            final long value = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                final int paletteIndex = (int) (value >> bitIndex & magicMask);
+        int index = 0;
+        for (long block : values) {
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            for (; index < endIndex; index++, block >>>= bitsPerEntry) {
+                final int paletteIndex = (int) block & magicMask;
                 if (consumeEmpty || paletteIndex != 0) {
                     final int y = index >> shiftedDimensionBitCount;
                     final int z = index >> dimensionBitCount & dimensionMinus;
@@ -247,34 +299,215 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         }
     }
 
-    private void updateAll(int[] paletteValues) {
+    /**
+     * Replaces the whole palette content.
+     *
+     * @param cache the new values, ordered by section index
+     */
+    private void updateAll(int[] cache) {
         final int size = maxSize();
-        assert paletteValues.length >= size;
+        assert cache.length >= size;
+        if (hasPalette()) {
+            // Register every value first, as the palette may need to be resized
+            int lastValue = 0;
+            for (int i = 0; i < size; i++) {
+                final int value = cache[i];
+                if (value != lastValue) {
+                    getPaletteIndex(value);
+                    lastValue = value;
+                }
+            }
+            if (hasPalette()) {
+                final Int2IntOpenHashMap valueToPaletteMap = this.valueToPaletteMap;
+                for (int i = 0; i < size; i++) cache[i] = valueToPaletteMap.get(cache[i]);
+            }
+        }
+        pack(cache);
+        recount(cache);
+    }
+
+    /**
+     * Writes the palette index of every entry into {@code cache}.
+     */
+    private void unpack(int[] cache) {
         final int bitsPerEntry = this.bitsPerEntry;
         final int valuesPerLong = 64 / bitsPerEntry;
-        final long clear = (1L << bitsPerEntry) - 1L;
+        final int magicMask = (1 << bitsPerEntry) - 1;
+        final int size = maxSize();
+        int index = 0;
+        for (long block : values) {
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            for (; index < endIndex; index++, block >>>= bitsPerEntry) {
+                cache[index] = (int) block & magicMask;
+            }
+        }
+    }
+
+    /**
+     * Packs the palette indexes from {@code cache} into the backing array, one long at a time.
+     */
+    private void pack(int[] cache) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int size = maxSize();
         final long[] values = this.values;
+        int index = 0;
         for (int i = 0; i < values.length; i++) {
-            long block = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                block = block & ~(clear << bitIndex) | ((long) paletteValues[index] << bitIndex);
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            long block = 0;
+            for (int bitIndex = 0; index < endIndex; index++, bitIndex += bitsPerEntry) {
+                block |= (long) cache[index] << bitIndex;
             }
             values[i] = block;
         }
     }
 
+    /**
+     * Writes a palette index at the given section index.
+     */
+    private void write(int sectionIndex, int paletteIndex) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final long[] values = this.values;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int index = sectionIndex / valuesPerLong;
+        final int bitIndex = (sectionIndex - index * valuesPerLong) * bitsPerEntry;
+
+        final long block = values[index];
+        final long clear = (1L << bitsPerEntry) - 1L;
+        final int oldIndex = (int) (block >> bitIndex & clear);
+        values[index] = block & ~(clear << bitIndex) | ((long) paletteIndex << bitIndex);
+        if (oldIndex != paletteIndex) track(oldIndex, paletteIndex);
+    }
+
+    /**
+     * Writes the same palette index to consecutive section indexes.
+     * Longs fully covered by the run are replaced as a whole.
+     */
+    private void writeRun(int start, int length, int paletteIndex) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final long[] values = this.values;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long clear = (1L << bitsPerEntry) - 1L;
+        final long pattern = repeat(paletteIndex, bitsPerEntry);
+        final int end = start + length;
+        int sectionIndex = start;
+        while (sectionIndex < end) {
+            final int index = sectionIndex / valuesPerLong;
+            final int offset = sectionIndex - index * valuesPerLong;
+            final int amount = Math.min(valuesPerLong - offset, end - sectionIndex);
+            long block = values[index];
+            if (offset == 0 && amount == valuesPerLong) {
+                if (block != pattern) {
+                    for (int i = 0; i < amount; i++, block >>>= bitsPerEntry) {
+                        final int oldIndex = (int) (block & clear);
+                        if (oldIndex != paletteIndex) track(oldIndex, paletteIndex);
+                    }
+                    values[index] = pattern;
+                }
+            } else {
+                for (int i = 0; i < amount; i++) {
+                    final int bitIndex = (offset + i) * bitsPerEntry;
+                    final int oldIndex = (int) (block >> bitIndex & clear);
+                    if (oldIndex != paletteIndex) track(oldIndex, paletteIndex);
+                    block = block & ~(clear << bitIndex) | ((long) paletteIndex << bitIndex);
+                }
+                values[index] = block;
+            }
+            sectionIndex += amount;
+        }
+    }
+
+    private void track(int oldIndex, int newIndex) {
+        // Check if block count needs to be updated
+        final boolean currentAir = oldIndex == 0;
+        if (currentAir != (newIndex == 0)) this.count += currentAir ? 1 : -1;
+        final int[] paletteCounts = this.paletteCounts;
+        if (paletteCounts != null) {
+            if (--paletteCounts[oldIndex] == 0) this.distinctCount--;
+            if (paletteCounts[newIndex]++ == 0) this.distinctCount++;
+        }
+    }
+
+    private void resetCounts(int paletteIndex) {
+        this.count = paletteIndex != 0 ? maxSize() : 0;
+        final int[] paletteCounts = this.paletteCounts;
+        if (paletteCounts != null) {
+            Arrays.fill(paletteCounts, 0);
+            paletteCounts[paletteIndex] = maxSize();
+            this.distinctCount = 1;
+        }
+    }
+
+    private void recount(int[] cache) {
+        final int size = maxSize();
+        final int[] paletteCounts = this.paletteCounts;
+        int count = 0;
+        if (paletteCounts != null) {
+            Arrays.fill(paletteCounts, 0);
+            int distinctCount = 0;
+            for (int i = 0; i < size; i++) {
+                final int paletteIndex = cache[i];
+                if (paletteIndex != 0) count++;
+                if (paletteCounts[paletteIndex]++ == 0) distinctCount++;
+            }
+            this.distinctCount = distinctCount;
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (cache[i] != 0) count++;
+            }
+        }
+        this.count = count;
+    }
+
     void resize(byte newBitsPerEntry) {
         newBitsPerEntry = newBitsPerEntry > maxBitsPerEntry() ? 15 : newBitsPerEntry;
-        FlexiblePalette palette = new FlexiblePalette(adaptivePalette, newBitsPerEntry);
-        palette.paletteToValueList = paletteToValueList;
-        palette.valueToPaletteMap = valueToPaletteMap;
-        getAll(palette::set);
-        this.bitsPerEntry = palette.bitsPerEntry;
-        this.values = palette.values;
-        assert this.count == palette.count;
+        final byte currentBitsPerEntry = this.bitsPerEntry;
+        if (newBitsPerEntry == currentBitsPerEntry) return;
+        final boolean hadPalette = hasPalette();
+        // Cannot use the write cache, resizing may happen while it is in use
+        int[] cache = new int[maxSize()];
+        unpack(cache);
+        if (newBitsPerEntry < currentBitsPerEntry) {
+            // Rebuild the palette with only the values in use
+            final int[] ids = hadPalette ? paletteToValueList.elements() : null;
+            IntArrayList paletteToValueList = new IntArrayList();
+            paletteToValueList.add(0);
+            Int2IntOpenHashMap valueToPaletteMap = new Int2IntOpenHashMap();
+            valueToPaletteMap.put(0, 0);
+            valueToPaletteMap.defaultReturnValue(-1);
+            for (int i = 0; i < cache.length; i++) {
+                final int value = ids != null ? ids[cache[i]] : cache[i];
+                int paletteIndex = valueToPaletteMap.putIfAbsent(value, paletteToValueList.size());
+                if (paletteIndex == -1) {
+                    paletteIndex = paletteToValueList.size();
+                    paletteToValueList.add(value);
+                }
+                cache[i] = paletteIndex;
+            }
+            newBitsPerEntry = (byte) Math.max(newBitsPerEntry,
+                    MathUtils.bitsToRepresent(paletteToValueList.size() - 1));
+            if (newBitsPerEntry >= currentBitsPerEntry || newBitsPerEntry > maxBitsPerEntry()) return;
+            this.paletteToValueList = paletteToValueList;
+            this.valueToPaletteMap = valueToPaletteMap;
+            this.bitsPerEntry = newBitsPerEntry;
+            this.paletteCounts = new int[maxPaletteSize(newBitsPerEntry)];
+        } else {
+            this.bitsPerEntry = newBitsPerEntry;
+            if (hasPalette()) {
+                // Palette indexes are kept
+                this.paletteCounts = Arrays.copyOf(paletteCounts, maxPaletteSize(newBitsPerEntry));
+            } else {
+                // Switch to direct values
+                if (hadPalette) {
+                    final int[] ids = paletteToValueList.elements();
+                    for (int i = 0; i < cache.length; i++) cache[i] = ids[cache[i]];
+                }
+                this.paletteCounts = null;
+            }
+        }
+        this.values = new long[arrayLength(maxSize(), this.bitsPerEntry)];
+        pack(cache);
+        recount(cache);
     }
 
     private int getPaletteIndex(int value) {
@@ -308,4 +541,20 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     static int maxPaletteSize(int bitsPerEntry) {
         return 1 << bitsPerEntry;
     }
+
+    private static int arrayLength(int size, int bitsPerEntry) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        return (size + valuesPerLong - 1) / valuesPerLong;
+    }
+
+    /**
+     * Returns a long with {@code value} repeated in every entry slot.
+     */
+    private static long repeat(int value, int bitsPerEntry) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        long block = 0;
+        for (int i = 0; i < valuesPerLong; i++)
+            block |= (long) value << i * bitsPerEntry;
+        return block;
+    }
 }
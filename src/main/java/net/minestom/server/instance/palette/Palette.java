@@ -33,6 +33,32 @@ public interface Palette extends NetworkBuffer.Writer {
 
     void fill(int value);
 
+    /**
+     * Fills a cuboid region with the same value.
+     * <p>
+     * Minimum coordinates are inclusive, maximum coordinates are exclusive.
+     */
+    void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value);
+
+    /**
+     * Copies a cuboid region of {@code source} into this palette.
+     *
+     * @param source the palette to copy from
+     * @param srcX   the source region start X
+     * @param srcY   the source region start Y
+     * @param srcZ   the source region start Z
+     * @param dstX   the destination region start X
+     * @param dstY   the destination region start Y
+     * @param dstZ   the destination region start Z
+     * @param sizeX  the region size on the X axis
+     * @param sizeY  the region size on the Y axis
+     * @param sizeZ  the region size on the Z axis
+     */
+    void copyFrom(@NotNull Palette source,
+                  int srcX, int srcY, int srcZ,
+                  int dstX, int dstY, int dstZ,
+                  int sizeX, int sizeY, int sizeZ);
+
     void setAll(@NotNull EntrySupplier supplier);
 
     void replace(int x, int y, int z, @NotNull IntUnaryOperator operator);
@@ -29,6 +29,19 @@ interface SpecializedPalette extends Palette {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        default void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void copyFrom(@NotNull Palette source,
+                              int srcX, int srcY, int srcZ,
+                              int dstX, int dstY, int dstZ,
+                              int sizeX, int sizeY, int sizeZ) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         default void setAll(@NotNull EntrySupplier supplier) {
             throw new UnsupportedOperationException();
@@ -2,7 +2,7 @@ package net.minestom.server.listener;
 
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
-import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.client.play.*;
@@ -53,8 +53,14 @@ public class PlayerPositionListener {
             return;
         }
 
+        final ListenerHandle<PlayerMoveEvent> moveHandle = player.getMoveHandle();
+        if (!moveHandle.hasListener()) {
+            player.refreshPosition(packetPosition);
+            player.refreshOnGround(onGround);
+            return;
+        }
         PlayerMoveEvent playerMoveEvent = new PlayerMoveEvent(player, packetPosition, onGround);
-        EventDispatcher.call(playerMoveEvent);
+        moveHandle.call(playerMoveEvent);
         if (!currentPosition.equals(player.getPosition())) {
             // Player has been teleported in the event
             return;
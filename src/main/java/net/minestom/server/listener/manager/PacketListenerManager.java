@@ -4,6 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerProcess;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.listener.*;
 import net.minestom.server.network.packet.client.ClientPacket;
@@ -12,15 +13,26 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class PacketListenerManager {
 
     public final static Logger LOGGER = LoggerFactory.getLogger(PacketListenerManager.class);
+    // Dense index of each packet class, used to find the listeners without hashing
+    private static final AtomicInteger INDEX_COUNTER = new AtomicInteger();
+    private static final ClassValue<Integer> PACKET_INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(@NotNull Class<?> type) {
+            return INDEX_COUNTER.getAndIncrement();
+        }
+    };
+
     private final ServerProcess serverProcess;
 
-    private final Map<Class<? extends ClientPacket>, PacketListenerConsumer> listeners = new ConcurrentHashMap<>();
+    private volatile PacketListenerConsumer[] listeners = new PacketListenerConsumer[64];
+    // Retrieved on the first packet, the event handler is created after this manager
+    private ListenerHandle<PlayerPacketEvent> packetHandle;
 
     public PacketListenerManager(ServerProcess serverProcess) {
         this.serverProcess = serverProcess;
@@ -70,7 +82,9 @@ public final class PacketListenerManager {
 
         final Class clazz = packet.getClass();
 
-        PacketListenerConsumer<T> packetListenerConsumer = listeners.get(clazz);
+        final int index = PACKET_INDEXES.get(clazz);
+        final PacketListenerConsumer[] listeners = this.listeners;
+        PacketListenerConsumer<T> packetListenerConsumer = index < listeners.length ? listeners[index] : null;
 
         // Listener can be null if none has been set before, call PacketConsumer anyway
         if (packetListenerConsumer == null) {
@@ -78,10 +92,14 @@ public final class PacketListenerManager {
         }
 
         // Event
-        PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(player, packet);
-        EventDispatcher.call(playerPacketEvent);
-        if (playerPacketEvent.isCancelled()) {
-            return;
+        ListenerHandle<PlayerPacketEvent> packetHandle = this.packetHandle;
+        if (packetHandle == null) this.packetHandle = packetHandle = EventDispatcher.getHandle(PlayerPacketEvent.class);
+        if (packetHandle.hasListener()) {
+            PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(player, packet);
+            packetHandle.call(playerPacketEvent);
+            if (playerPacketEvent.isCancelled()) {
+                return;
+            }
         }
 
         // Finally execute the listener
@@ -104,8 +122,12 @@ public final class PacketListenerManager {
      * @param consumer    the new packet's listener
      * @param <T>         the type of the packet
      */
-    public <T extends ClientPacket> void setListener(@NotNull Class<T> packetClass, @NotNull PacketListenerConsumer<T> consumer) {
-        this.listeners.put(packetClass, consumer);
+    public synchronized <T extends ClientPacket> void setListener(@NotNull Class<T> packetClass, @NotNull PacketListenerConsumer<T> consumer) {
+        final int index = PACKET_INDEXES.get(packetClass);
+        PacketListenerConsumer[] listeners = this.listeners;
+        listeners = Arrays.copyOf(listeners, Math.max(listeners.length, index + 1));
+        listeners[index] = consumer;
+        this.listeners = listeners;
     }
 
 }
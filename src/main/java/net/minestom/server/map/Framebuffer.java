@@ -1,6 +1,7 @@
 package net.minestom.server.map;
 
 import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -39,6 +40,20 @@ public interface Framebuffer {
                         colors));
     }
 
+    /**
+     * Prepares the packet containing only the colors changed since the previous call.
+     * <p>
+     * Meant for animated maps, players starting to view the map still need {@link #preparePacket(int)}.
+     * Framebuffers not tracking their changes send the whole map.
+     *
+     * @param mapId the map id
+     * @return the packet to send, null if nothing changed
+     * @see FramebufferDiff
+     */
+    default @Nullable MapDataPacket prepareUpdatePacket(int mapId) {
+        return preparePacket(mapId);
+    }
+
     static int index(int x, int z) {
         return index(x, z, WIDTH);
     }
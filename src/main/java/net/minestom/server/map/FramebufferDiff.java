@@ -0,0 +1,75 @@
+package net.minestom.server.map;
+
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Keeps the map colors last sent for a {@link Framebuffer}, in order to only send
+ * the rectangle containing the changed pixels.
+ */
+public final class FramebufferDiff {
+    private final byte[] sent = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+    private boolean initialized;
+
+    /**
+     * Prepares the packet containing the smallest rectangle covering all the colors
+     * changed since the previous call.
+     * <p>
+     * The first call always returns the whole map.
+     *
+     * @param mapId  the map id
+     * @param colors the current map colors
+     * @return the packet to send, null if nothing changed
+     */
+    public synchronized @Nullable MapDataPacket preparePacket(int mapId, byte @NotNull [] colors) {
+        final byte[] sent = this.sent;
+        int minX = 0, minY = 0, maxX = Framebuffer.WIDTH - 1, maxY = Framebuffer.HEIGHT - 1;
+        if (initialized) {
+            minX = Framebuffer.WIDTH;
+            minY = Framebuffer.HEIGHT;
+            maxX = -1;
+            maxY = -1;
+            for (int y = 0; y < Framebuffer.HEIGHT; y++) {
+                final int row = y * Framebuffer.WIDTH;
+                int first = -1, last = -1;
+                for (int x = 0; x < Framebuffer.WIDTH; x++) {
+                    if (colors[row + x] != sent[row + x]) {
+                        if (first == -1) first = x;
+                        last = x;
+                    }
+                }
+                if (first == -1) continue;
+                if (minY == Framebuffer.HEIGHT) minY = y;
+                maxY = y;
+                minX = Math.min(minX, first);
+                maxX = Math.max(maxX, last);
+            }
+            if (maxY == -1) return null;
+        }
+        this.initialized = true;
+
+        final int width = maxX - minX + 1;
+        final int height = maxY - minY + 1;
+        final byte[] changed = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            final int offset = Framebuffer.index(minX, minY + y);
+            System.arraycopy(colors, offset, changed, y * width, width);
+            System.arraycopy(colors, offset, sent, offset, width);
+        }
+        return new MapDataPacket(mapId, (byte) 0, false,
+                false, List.of(),
+                new MapDataPacket.ColorContent((byte) width, (byte) height,
+                        (byte) minX, (byte) minY,
+                        changed));
+    }
+
+    /**
+     * Forgets the sent colors, the next packet will contain the whole map.
+     */
+    public synchronized void reset() {
+        this.initialized = false;
+    }
+}
@@ -71,8 +71,16 @@ public enum MapColors {
     private final int blue;
 
     private static final ConcurrentHashMap<Integer, PreciseMapColor> rgbMap = new ConcurrentHashMap<>();
-    // only used if mappingStrategy == ColorMappingStrategy.PRECISE
-    private static volatile PreciseMapColor[] rgbArray = null;
+    // only used if mappingStrategy == ColorMappingStrategy.PRECISE, color index for each 24-bit RGB value
+    private static volatile byte[] rgbArray = null;
+    // only used if mappingStrategy == ColorMappingStrategy.REDUCED, color index for each 15-bit RGB value
+    private static volatile byte[] reducedRgbArray = null;
+
+    // Every map color, by index
+    private static final PreciseMapColor[] indexedColors;
+    // Candidates for the nearest color search
+    private static final int[] candidateRgb;
+    private static final byte[] candidateIndexes;
 
     private static final ColorMappingStrategy mappingStrategy;
     private static final String MAPPING_ARGUMENT = "minestom.map.rgbmapping";
@@ -112,6 +120,22 @@ public enum MapColors {
             }
         }
         colorReduction = reduction;
+
+        final MapColors[] values = values();
+        indexedColors = new PreciseMapColor[values.length * 4];
+        candidateRgb = new int[(values.length - 1) * Multiplier.values().length];
+        candidateIndexes = new byte[candidateRgb.length];
+        int candidate = 0;
+        for (MapColors base : values) {
+            for (Multiplier m : Multiplier.values()) {
+                final PreciseMapColor color = new PreciseMapColor(base, m);
+                indexedColors[color.getIndex() & 0xFF] = color;
+                if (base == NONE)
+                    continue;
+                candidateRgb[candidate] = color.toRGB();
+                candidateIndexes[candidate++] = color.getIndex();
+            }
+        }
     }
 
     MapColors(int red, int green, int blue) {
@@ -183,24 +207,65 @@ public enum MapColors {
         }
     }
 
-    private static void fillRGBArray() {
-        rgbArray = new PreciseMapColor[0xFFFFFF + 1];
-        for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
-            rgbArray[rgb] = mapColor(rgb);
+    private static byte[] rgbArray() {
+        byte[] array = rgbArray;
+        if (array == null) {
+            synchronized (MapColors.class) {
+                array = rgbArray;
+                if (array == null) {
+                    array = new byte[0xFFFFFF + 1];
+                    for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
+                        array[rgb] = mapColorIndex(rgb);
+                    }
+                    rgbArray = array;
+                }
+            }
         }
+        return array;
     }
 
-    public static PreciseMapColor closestColor(int argb) {
-        int noAlpha = argb & 0xFFFFFF;
-        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
-            if (rgbArray == null) {
-                synchronized (MapColors.class) {
-                    if (rgbArray == null) {
-                        fillRGBArray();
+    private static byte[] reducedRgbArray() {
+        byte[] array = reducedRgbArray;
+        if (array == null) {
+            synchronized (MapColors.class) {
+                array = reducedRgbArray;
+                if (array == null) {
+                    array = new byte[1 << 15];
+                    for (int rgb15 = 0; rgb15 < array.length; rgb15++) {
+                        // Use the center of the reduced range
+                        final int red = ((rgb15 >> 10) & 0x1F) << 3 | 4;
+                        final int green = ((rgb15 >> 5) & 0x1F) << 3 | 4;
+                        final int blue = (rgb15 & 0x1F) << 3 | 4;
+                        array[rgb15] = mapColorIndex((red << 16) | (green << 8) | blue);
                     }
+                    reducedRgbArray = array;
                 }
             }
-            return rgbArray[noAlpha];
+        }
+        return array;
+    }
+
+    /**
+     * Finds the index of the map color closest to {@code argb}, using the current {@link ColorMappingStrategy}.
+     * <p>
+     * Contrary to {@link #closestColor(int)}, the {@link ColorMappingStrategy#PRECISE} and
+     * {@link ColorMappingStrategy#REDUCED} strategies do not involve any object lookup.
+     *
+     * @param argb the color to convert, alpha is ignored
+     * @return the map color index
+     */
+    public static byte closestColorIndex(int argb) {
+        return switch (mappingStrategy) {
+            case PRECISE -> rgbArray()[argb & 0xFFFFFF];
+            case REDUCED -> reducedRgbArray()[reduceColor15(argb)];
+            default -> closestColor(argb).getIndex();
+        };
+    }
+
+    public static PreciseMapColor closestColor(int argb) {
+        int noAlpha = argb & 0xFFFFFF;
+        if (mappingStrategy == ColorMappingStrategy.PRECISE || mappingStrategy == ColorMappingStrategy.REDUCED) {
+            return indexedColors[closestColorIndex(argb) & 0xFF];
         }
         if (rgbMap.isEmpty()) {
             synchronized (rgbMap) {
@@ -226,33 +291,33 @@ public enum MapColors {
         return (red << 16) | (green << 8) | blue;
     }
 
+    private static int reduceColor15(int rgb) {
+        return ((rgb >> 9) & 0x7C00) | ((rgb >> 6) & 0x3E0) | ((rgb >> 3) & 0x1F);
+    }
+
     private static PreciseMapColor mapColor(int rgb) {
-        PreciseMapColor closest = null;
+        return indexedColors[mapColorIndex(rgb) & 0xFF];
+    }
+
+    private static byte mapColorIndex(int rgb) {
+        final int red = (rgb >> 16) & 0xFF;
+        final int green = (rgb >> 8) & 0xFF;
+        final int blue = rgb & 0xFF;
+        final int[] candidateRgb = MapColors.candidateRgb;
+        int closest = 0;
         int closestDistance = Integer.MAX_VALUE;
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                final int rgbKey = PreciseMapColor.toRGB(base, m);
-                final int redKey = (rgbKey >> 16) & 0xFF;
-                final int greenKey = (rgbKey >> 8) & 0xFF;
-                final int blueKey = rgbKey & 0xFF;
-
-                final int red = (rgb >> 16) & 0xFF;
-                final int green = (rgb >> 8) & 0xFF;
-                final int blue = rgb & 0xFF;
-
-                final int dr = redKey - red;
-                final int dg = greenKey - green;
-                final int db = blueKey - blue;
-                final int dist = (dr * dr + dg * dg + db * db);
-                if (dist < closestDistance) {
-                    closest = new PreciseMapColor(base, m);
-                    closestDistance = dist;
-                }
+        for (int i = 0; i < candidateRgb.length; i++) {
+            final int rgbKey = candidateRgb[i];
+            final int dr = ((rgbKey >> 16) & 0xFF) - red;
+            final int dg = ((rgbKey >> 8) & 0xFF) - green;
+            final int db = (rgbKey & 0xFF) - blue;
+            final int dist = (dr * dr + dg * dg + db * db);
+            if (dist < closestDistance) {
+                closest = i;
+                closestDistance = dist;
             }
         }
-        return closest;
+        return candidateIndexes[closest];
     }
 
     public static class PreciseMapColor {
@@ -330,13 +395,19 @@ public enum MapColors {
 
         /**
          * All colors are already in the map after the first call. Heavy hit on the memory:
-         * (2^24) * 4 bytes at the min (~64MB)
+         * 2^24 bytes (16MB)
          */
         PRECISE,
 
         /**
          * RGB components are divided by 10 before issuing a lookup (as with the PRECISE strategy), but saves on memory usage
          */
-        APPROXIMATE
+        APPROXIMATE,
+
+        /**
+         * RGB components are reduced to 5 bits and looked up in a table computed on the first call.
+         * Light on the memory: 2^15 bytes (32KB)
+         */
+        REDUCED
     }
 }
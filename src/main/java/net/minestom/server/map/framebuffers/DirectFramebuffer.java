@@ -1,6 +1,8 @@
 package net.minestom.server.map.framebuffers;
 
 import net.minestom.server.map.Framebuffer;
+import net.minestom.server.map.FramebufferDiff;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
 
 /**
  * {@link Framebuffer} with direct access to the colors array
@@ -8,6 +10,7 @@ import net.minestom.server.map.Framebuffer;
 public class DirectFramebuffer implements Framebuffer {
 
     private final byte[] colors = new byte[WIDTH * HEIGHT];
+    private final FramebufferDiff diff = new FramebufferDiff();
 
     /**
      * Mutable colors array
@@ -31,4 +34,9 @@ public class DirectFramebuffer implements Framebuffer {
     public byte[] toMapColors() {
         return colors;
     }
+
+    @Override
+    public MapDataPacket prepareUpdatePacket(int mapId) {
+        return diff.preparePacket(mapId, colors);
+    }
 }
@@ -1,11 +1,14 @@
 package net.minestom.server.map.framebuffers;
 
 import net.minestom.server.map.Framebuffer;
+import net.minestom.server.map.FramebufferDiff;
 import net.minestom.server.map.MapColors;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
+import java.util.Arrays;
 
 /**
  * {@link Framebuffer} that embeds a BufferedImage, allowing for rendering directly via Graphics2D or its pixel array.
@@ -13,6 +16,9 @@ import java.awt.image.DataBufferInt;
 public class Graphics2DFramebuffer implements Framebuffer {
 
     private final byte[] colors = new byte[WIDTH * HEIGHT];
+    // Pixels as they were when converted to map colors
+    private final int[] convertedPixels = new int[WIDTH * HEIGHT];
+    private final FramebufferDiff diff = new FramebufferDiff();
     private final BufferedImage backingImage = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
     private final Graphics2D renderer;
     private final int[] pixels;
@@ -20,6 +26,8 @@ public class Graphics2DFramebuffer implements Framebuffer {
     public Graphics2DFramebuffer() {
         renderer = backingImage.createGraphics();
         pixels = ((DataBufferInt) backingImage.getRaster().getDataBuffer()).getData();
+        Arrays.fill(convertedPixels, -1);
+        Arrays.fill(colors, MapColors.closestColorIndex(-1));
     }
 
     public Graphics2D getRenderer() {
@@ -41,12 +49,22 @@ public class Graphics2DFramebuffer implements Framebuffer {
 
     @Override
     public byte[] toMapColors() {
-        // TODO: update subparts only
-        for (int x = 0; x < 128; x++) {
-            for (int z = 0; z < 128; z++) {
-                colors[Framebuffer.index(x, z)] = MapColors.closestColor(get(x, z)).getIndex();
+        // Only convert the pixels changed since the previous call
+        final int[] pixels = this.pixels;
+        final int[] convertedPixels = this.convertedPixels;
+        final byte[] colors = this.colors;
+        for (int i = 0; i < pixels.length; i++) {
+            final int pixel = pixels[i];
+            if (pixel != convertedPixels[i]) {
+                colors[i] = MapColors.closestColorIndex(pixel);
+                convertedPixels[i] = pixel;
             }
         }
         return colors;
     }
+
+    @Override
+    public MapDataPacket prepareUpdatePacket(int mapId) {
+        return diff.preparePacket(mapId, toMapColors());
+    }
 }
@@ -1,14 +1,17 @@
 package net.minestom.server.map.framebuffers;
 
 import net.minestom.server.map.Framebuffer;
+import net.minestom.server.map.FramebufferDiff;
 import net.minestom.server.map.LargeFramebuffer;
 import net.minestom.server.map.MapColors;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
 
 public class LargeFramebufferDefaultView implements Framebuffer {
     private final LargeFramebuffer parent;
     private final int x;
     private final int y;
     private final byte[] colors = new byte[WIDTH*HEIGHT];
+    private final FramebufferDiff diff = new FramebufferDiff();
 
     public LargeFramebufferDefaultView(LargeFramebuffer parent, int x, int y) {
         this.parent = parent;
@@ -34,4 +37,9 @@ public class LargeFramebufferDefaultView implements Framebuffer {
         }
         return colors;
     }
+
+    @Override
+    public MapDataPacket prepareUpdatePacket(int mapId) {
+        return diff.preparePacket(mapId, toMapColors());
+    }
 }
@@ -7,6 +7,7 @@ import net.minestom.server.map.MapColors;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
+import java.util.Arrays;
 
 /**
  * {@link LargeFramebuffer} that embeds a {@link BufferedImage},
@@ -17,6 +18,9 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
     private final BufferedImage backingImage;
     private final Graphics2D renderer;
     private final int[] pixels;
+    private final byte[] colors;
+    // Pixels as they were when converted to map colors
+    private final int[] convertedPixels;
     private final int width;
     private final int height;
 
@@ -26,6 +30,10 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
         backingImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         renderer = backingImage.createGraphics();
         pixels = ((DataBufferInt) backingImage.getRaster().getDataBuffer()).getData();
+        colors = new byte[width * height];
+        convertedPixels = new int[width * height];
+        Arrays.fill(convertedPixels, -1);
+        Arrays.fill(colors, MapColors.closestColorIndex(-1));
     }
 
     public Graphics2D getRenderer() {
@@ -62,6 +70,13 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
     @Override
     public byte getMapColor(int x, int y) {
-        return MapColors.closestColor(get(x, y)).getIndex();
+        final int index = x + y * width;
+        final int pixel = pixels[index];
+        if (pixel != convertedPixels[index]) {
+            // Pixel changed since its last conversion
+            colors[index] = MapColors.closestColorIndex(pixel);
+            convertedPixels[index] = pixel;
+        }
+        return colors[index];
     }
 }
@@ -4,10 +4,25 @@ public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final long outboundBytes;
+    private final long tickedEntities;
+    private final long skippedEntities;
 
-    public TickMonitor(double tickTime, double acquisitionTime) {
+    public TickMonitor(double tickTime, double acquisitionTime, long outboundBytes,
+                       long tickedEntities, long skippedEntities) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.outboundBytes = outboundBytes;
+        this.tickedEntities = tickedEntities;
+        this.skippedEntities = skippedEntities;
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, long outboundBytes) {
+        this(tickTime, acquisitionTime, outboundBytes, 0, 0);
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, 0);
     }
 
     public double getTickTime() {
@@ -17,4 +32,32 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the number of bytes written to the player connections since the previous tick.
+     *
+     * @return the outbound bytes of the tick
+     */
+    public long getOutboundBytes() {
+        return outboundBytes;
+    }
+
+    /**
+     * Gets the number of entities ticked during the tick, only counted in the instances with activation ranges.
+     *
+     * @return the ticked entities
+     */
+    public long getTickedEntities() {
+        return tickedEntities;
+    }
+
+    /**
+     * Gets the number of entity ticks skipped during the tick because the entity was dormant.
+     *
+     * @return the skipped entities
+     * @see net.minestom.server.entity.EntityActivation
+     */
+    public long getSkippedEntities() {
+        return skippedEntities;
+    }
 }
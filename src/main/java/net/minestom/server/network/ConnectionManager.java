@@ -18,13 +18,15 @@ import net.minestom.server.utils.debug.DebugUtils;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -34,10 +36,23 @@ public final class ConnectionManager {
     private static final long KEEP_ALIVE_DELAY = 10_000;
     private static final long KEEP_ALIVE_KICK = 30_000;
     private static final Component TIMEOUT_TEXT = Component.text("Timeout", NamedTextColor.RED);
+    public static final int MAX_ADMISSIONS_PER_TICK = Integer.getInteger("minestom.login-admissions-per-tick", 32);
 
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
-    private final Set<Player> players = new CopyOnWriteArraySet<>();
-    private final Set<Player> unmodifiablePlayers = Collections.unmodifiableSet(players);
+    private volatile PlayerRegistry registry = PlayerRegistry.concurrent();
+
+    // Login metrics, indexed by stage ordinal
+    private final LongAdder[] stageCounts = new LongAdder[LoginMetrics.Stage.values().length];
+    private final LongAdder[] stageTimes = new LongAdder[LoginMetrics.Stage.values().length];
+    private final LongAccumulator[] stageMaxTimes = new LongAccumulator[LoginMetrics.Stage.values().length];
+
+    {
+        for (int i = 0; i < stageCounts.length; i++) {
+            this.stageCounts[i] = new LongAdder();
+            this.stageTimes[i] = new LongAdder();
+            this.stageMaxTimes[i] = new LongAccumulator(Math::max, 0);
+        }
+    }
     private final Map<PlayerConnection, Player> connectionPlayerMap = new ConcurrentHashMap<>();
 
     // The uuid provider once a player login
@@ -61,11 +76,13 @@ public final class ConnectionManager {
      * @return an unmodifiable collection containing all the online players
      */
     public @NotNull Collection<@NotNull Player> getOnlinePlayers() {
-        return unmodifiablePlayers;
+        return registry.players();
     }
 
     /**
      * Finds the closest player matching a given username.
+     * <p>
+     * Players whose username starts with {@code username} are preferred over the other online players.
      *
      * @param username the player username (can be partial)
      * @return the closest match, null if no players are online
@@ -75,14 +92,16 @@ public final class ConnectionManager {
         if (exact != null) return exact;
         final String username1 = username.toLowerCase(Locale.ROOT);
 
-        Function<Player, Double> distanceFunction = player -> {
+        Function<Player, Double> scoreFunction = player -> {
             final String username2 = player.getUsername().toLowerCase(Locale.ROOT);
             return StringUtils.jaroWinklerScore(username1, username2);
         };
-        return getOnlinePlayers()
+        Collection<Player> candidates = registry.findByPrefix(username);
+        if (candidates.isEmpty()) candidates = getOnlinePlayers();
+        return candidates
                 .stream()
-                .min(Comparator.comparingDouble(distanceFunction::apply))
-                .filter(player -> distanceFunction.apply(player) > 0)
+                .max(Comparator.comparingDouble(scoreFunction::apply))
+                .filter(player -> scoreFunction.apply(player) > 0)
                 .orElse(null);
     }
 
@@ -95,11 +114,7 @@ public final class ConnectionManager {
      * @return the first player who validate the username condition, null if none was found
      */
     public @Nullable Player getPlayer(@NotNull String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
-        return null;
+        return registry.getByUsername(username);
     }
 
     /**
@@ -111,11 +126,30 @@ public final class ConnectionManager {
      * @return the first player who validate the UUID condition, null if none was found
      */
     public @Nullable Player getPlayer(@NotNull UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
-        }
-        return null;
+        return registry.getByUuid(uuid);
+    }
+
+    /**
+     * Gets an online player by its entity id.
+     *
+     * @param entityId the player entity id
+     * @return the player with this entity id, null if none was found
+     */
+    public @Nullable Player getPlayer(int entityId) {
+        return registry.getByEntityId(entityId);
+    }
+
+    /**
+     * Changes the index used to store the online players and to look them up.
+     * <p>
+     * Can only be changed while no player is registered.
+     *
+     * @param registry the new registry, null to use {@link PlayerRegistry#concurrent()}
+     */
+    @ApiStatus.Experimental
+    public synchronized void setPlayerRegistry(@Nullable PlayerRegistry registry) {
+        Check.stateCondition(!this.registry.players().isEmpty(), "The registry cannot be changed while players are online");
+        this.registry = registry != null ? registry : PlayerRegistry.concurrent();
     }
 
     /**
@@ -166,10 +200,21 @@ public final class ConnectionManager {
     }
 
     public synchronized void registerPlayer(@NotNull Player player) {
-        this.players.add(player);
+        this.registry.add(player);
         this.connectionPlayerMap.put(player.getPlayerConnection(), player);
     }
 
+    /**
+     * Refreshes the lookup indexes of a player after a change of its username or UUID.
+     *
+     * @param player the player
+     */
+    @ApiStatus.Internal
+    public synchronized void refreshPlayer(@NotNull Player player) {
+        if (connectionPlayerMap.get(player.getPlayerConnection()) != player) return;
+        this.registry.update(player);
+    }
+
     /**
      * Removes a {@link Player} from the players list.
      * <p>
@@ -181,7 +226,7 @@ public final class ConnectionManager {
     public synchronized void removePlayer(@NotNull PlayerConnection connection) {
         final Player player = this.connectionPlayerMap.remove(connection);
         if (player == null) return;
-        this.players.remove(player);
+        this.registry.remove(player);
     }
 
     /**
@@ -196,6 +241,7 @@ public final class ConnectionManager {
     public CompletableFuture<Void> startPlayState(@NotNull Player player, boolean register) {
         return AsyncUtils.runAsync(() -> {
             final PlayerConnection playerConnection = player.getPlayerConnection();
+            recordLoginStage(playerConnection, LoginMetrics.Stage.AUTHENTICATION);
             // Compression
             if (playerConnection instanceof PlayerSocketConnection socketConnection) {
                 final int threshold = MinecraftServer.getCompressionThreshold();
@@ -222,6 +268,7 @@ public final class ConnectionManager {
             playerConnection.sendPacket(loginSuccessPacket);
             playerConnection.setConnectionState(ConnectionState.PLAY);
             if (register) registerPlayer(player);
+            recordLoginStage(playerConnection, LoginMetrics.Stage.PRE_LOGIN);
             this.waitingPlayers.relaxedOffer(player);
         });
     }
@@ -245,27 +292,57 @@ public final class ConnectionManager {
      * Shutdowns the connection manager by kicking all the currently connected players.
      */
     public synchronized void shutdown() {
-        this.players.clear();
+        this.registry.clear();
         this.connectionPlayerMap.clear();
     }
 
     /**
-     * Connects waiting players.
+     * Connects waiting players, at most {@link #MAX_ADMISSIONS_PER_TICK} per call.
+     * The others keep waiting for the next tick.
      */
     public void updateWaitingPlayers() {
         this.waitingPlayers.drain(waitingPlayer -> {
+            final PlayerConnection connection = waitingPlayer.getPlayerConnection();
+            recordLoginStage(connection, LoginMetrics.Stage.ADMISSION);
             PlayerLoginEvent loginEvent = new PlayerLoginEvent(waitingPlayer);
             EventDispatcher.call(loginEvent);
             final Instance spawningInstance = loginEvent.getSpawningInstance();
             Check.notNull(spawningInstance, "You need to specify a spawning instance in the PlayerLoginEvent");
             // Spawn the player at Player#getRespawnPoint
+            final CompletableFuture<Void> spawnFuture = waitingPlayer.UNSAFE_init(spawningInstance)
+                    .thenRun(() -> recordLoginStage(connection, LoginMetrics.Stage.SPAWN));
             if (DebugUtils.INSIDE_TEST) {
                 // Required to get the exact moment the player spawns
-                waitingPlayer.UNSAFE_init(spawningInstance).join();
-            } else {
-                waitingPlayer.UNSAFE_init(spawningInstance);
+                spawnFuture.join();
             }
-        });
+        }, MAX_ADMISSIONS_PER_TICK);
+    }
+
+    /**
+     * Gets the latency of the login stages since the server start.
+     *
+     * @return the login metrics
+     */
+    @ApiStatus.Experimental
+    public @NotNull LoginMetrics loginMetrics() {
+        Map<LoginMetrics.Stage, LoginMetrics.StageMetrics> stages = new EnumMap<>(LoginMetrics.Stage.class);
+        for (LoginMetrics.Stage stage : LoginMetrics.Stage.values()) {
+            final int index = stage.ordinal();
+            final long count = stageCounts[index].sum();
+            final double averageTime = count != 0 ? stageTimes[index].sum() / 1e6D / count : 0;
+            stages.put(stage, new LoginMetrics.StageMetrics(count, averageTime, stageMaxTimes[index].get() / 1e6D));
+        }
+        return new LoginMetrics(waitingPlayers.size(), stages);
+    }
+
+    private void recordLoginStage(PlayerConnection connection, LoginMetrics.Stage stage) {
+        if (connection == null) return;
+        final long time = System.nanoTime();
+        final long duration = time - connection.swapLoginStageTime(time);
+        final int index = stage.ordinal();
+        this.stageCounts[index].increment();
+        this.stageTimes[index].add(duration);
+        this.stageMaxTimes[index].accumulate(duration);
     }
 
     /**
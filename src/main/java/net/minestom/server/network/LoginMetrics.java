@@ -0,0 +1,50 @@
+package net.minestom.server.network;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Latency of the login stages, retrieved from {@link ConnectionManager#loginMetrics()}.
+ *
+ * @param waiting the number of players waiting to be admitted in the server
+ * @param stages  the metrics of each stage
+ */
+@ApiStatus.Experimental
+public record LoginMetrics(int waiting, @NotNull Map<Stage, StageMetrics> stages) {
+    public LoginMetrics {
+        stages = Map.copyOf(stages);
+    }
+
+    public @NotNull StageMetrics stage(@NotNull Stage stage) {
+        return stages.get(stage);
+    }
+
+    public enum Stage {
+        /**
+         * From the login start to the resolved profile, including the encryption handshake and the session server request.
+         */
+        AUTHENTICATION,
+        /**
+         * Compression, {@link net.minestom.server.event.player.AsyncPlayerPreLoginEvent} and login success.
+         */
+        PRE_LOGIN,
+        /**
+         * Time spent waiting for a tick with an admission slot.
+         */
+        ADMISSION,
+        /**
+         * From the admission to the player spawn in its instance.
+         */
+        SPAWN
+    }
+
+    /**
+     * @param count         the number of players who completed the stage
+     * @param averageTimeMs the average time spent in the stage
+     * @param maxTimeMs     the longest time spent in the stage
+     */
+    public record StageMetrics(long count, double averageTimeMs, double maxTimeMs) {
+    }
+}
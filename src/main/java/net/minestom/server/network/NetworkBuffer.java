@@ -261,6 +261,15 @@ public final class NetworkBuffer {
         this.nioBuffer.get(srcOffset, dest, destOffset, length);
     }
 
+    public void copyTo(int srcOffset, @NotNull ByteBuffer dest, int destOffset, int length) {
+        dest.put(destOffset, nioBuffer, srcOffset, length);
+    }
+
+    @ApiStatus.Internal
+    public @NotNull ByteBuffer asByteBuffer(int index, int length) {
+        return nioBuffer.slice(index, length);
+    }
+
     public byte @NotNull [] extractBytes(@NotNull Consumer<@NotNull NetworkBuffer> extractor) {
         final int startingPosition = readIndex();
         extractor.accept(this);
@@ -275,6 +284,21 @@ public final class NetworkBuffer {
         this.readIndex = 0;
     }
 
+    /**
+     * Makes this buffer read from another nio buffer, starting at its position.
+     * Used to decode consecutive packets without allocating a buffer for each of them.
+     *
+     * @param buffer the new backing buffer
+     */
+    @ApiStatus.Internal
+    public void wrap(@NotNull ByteBuffer buffer) {
+        this.nioBuffer = buffer.order(ByteOrder.BIG_ENDIAN);
+        this.writeIndex = buffer.position();
+        this.readIndex = buffer.position();
+        this.nbtWriter = null;
+        this.nbtReader = null;
+    }
+
     public int writeIndex() {
         return writeIndex;
     }
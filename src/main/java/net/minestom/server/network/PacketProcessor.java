@@ -7,6 +7,7 @@ import net.minestom.server.network.packet.client.ClientPreplayPacket;
 import net.minestom.server.network.packet.client.handshake.HandshakePacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.utils.binary.BinaryReader;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
@@ -27,7 +28,22 @@ public record PacketProcessor(@NotNull ClientPacketsHandler statusHandler,
     }
 
     public @NotNull ClientPacket create(@NotNull ConnectionState connectionState, int packetId, ByteBuffer body) {
-        NetworkBuffer buffer = new NetworkBuffer(body);
+        return create(connectionState, packetId, body, new NetworkBuffer(body));
+    }
+
+    /**
+     * Creates a packet using a reusable buffer, wrapped around {@code body} before reading.
+     *
+     * @param connectionState the state of the connection
+     * @param packetId        the id of the packet
+     * @param body            the packet payload, its position is moved after the read bytes
+     * @param buffer          the buffer used to read the payload
+     * @return the read packet
+     */
+    @ApiStatus.Internal
+    public @NotNull ClientPacket create(@NotNull ConnectionState connectionState, int packetId,
+                                        @NotNull ByteBuffer body, @NotNull NetworkBuffer buffer) {
+        buffer.wrap(body);
         final ClientPacket clientPacket = switch (connectionState) {
             case PLAY -> playHandler.create(packetId, buffer);
             case LOGIN -> loginHandler.create(packetId, buffer);
@@ -42,7 +58,13 @@ public record PacketProcessor(@NotNull ClientPacketsHandler statusHandler,
     }
 
     public ClientPacket process(@NotNull PlayerConnection connection, int packetId, ByteBuffer body) {
-        final ClientPacket packet = create(connection.getConnectionState(), packetId, body);
+        return process(connection, packetId, body, new NetworkBuffer(body));
+    }
+
+    @ApiStatus.Internal
+    public ClientPacket process(@NotNull PlayerConnection connection, int packetId,
+                                @NotNull ByteBuffer body, @NotNull NetworkBuffer buffer) {
+        final ClientPacket packet = create(connection.getConnectionState(), packetId, body, buffer);
         if (packet instanceof ClientPreplayPacket prePlayPacket) {
             prePlayPacket.process(connection);
         } else {
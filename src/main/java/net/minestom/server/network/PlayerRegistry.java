@@ -0,0 +1,70 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Index of the online players, used by the {@link ConnectionManager} lookups.
+ * <p>
+ * Implementations must be thread-safe, lookups are done concurrently with the registrations.
+ * Registrations are never done concurrently with each other.
+ *
+ * @see ConnectionManager#setPlayerRegistry(PlayerRegistry)
+ */
+@ApiStatus.Experimental
+public interface PlayerRegistry {
+
+    /**
+     * Creates the default registry, backed by concurrent maps indexed by UUID, lower-cased username and entity id.
+     *
+     * @return a new registry
+     */
+    static @NotNull PlayerRegistry concurrent() {
+        return new PlayerRegistryImpl();
+    }
+
+    void add(@NotNull Player player);
+
+    void remove(@NotNull Player player);
+
+    /**
+     * Refreshes the indexes of a registered player after a change of its username or UUID.
+     *
+     * @param player the registered player
+     */
+    void update(@NotNull Player player);
+
+    void clear();
+
+    /**
+     * Gets the registered players.
+     *
+     * @return an unmodifiable view of the registered players
+     */
+    @NotNull Collection<@NotNull Player> players();
+
+    @Nullable Player getByUuid(@NotNull UUID uuid);
+
+    /**
+     * Gets a player by its username, ignoring the case.
+     *
+     * @param username the username
+     * @return a player with this username, null if none
+     */
+    @Nullable Player getByUsername(@NotNull String username);
+
+    @Nullable Player getByEntityId(int entityId);
+
+    /**
+     * Gets the players whose username starts with a prefix, ignoring the case.
+     *
+     * @param prefix the username prefix
+     * @return the matching players
+     */
+    @NotNull Collection<@NotNull Player> findByPrefix(@NotNull String prefix);
+}
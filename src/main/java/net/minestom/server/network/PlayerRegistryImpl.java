@@ -0,0 +1,100 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import space.vectrix.flare.fastutil.Int2ObjectSyncMap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+final class PlayerRegistryImpl implements PlayerRegistry {
+    // Registered player -> indexed keys, to remove the previous keys on update
+    private final Map<Player, Keys> players = new ConcurrentHashMap<>();
+    private final Set<Player> unmodifiablePlayers = Collections.unmodifiableSet(players.keySet());
+    private final Map<UUID, Player> byUuid = new ConcurrentHashMap<>();
+    private final Int2ObjectSyncMap<Player> byEntityId = Int2ObjectSyncMap.hashmap();
+    // Lower-cased username followed by the entity id, sorted for prefix lookups and allowing duplicate usernames
+    private final ConcurrentNavigableMap<String, Player> byUsername = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void add(@NotNull Player player) {
+        final Keys keys = new Keys(player.getUuid(), usernameKey(player));
+        if (players.putIfAbsent(player, keys) != null) return;
+        index(player, keys);
+    }
+
+    @Override
+    public void remove(@NotNull Player player) {
+        final Keys keys = players.remove(player);
+        if (keys == null) return;
+        unindex(player, keys);
+    }
+
+    @Override
+    public void update(@NotNull Player player) {
+        final Keys keys = new Keys(player.getUuid(), usernameKey(player));
+        final Keys previous = players.replace(player, keys);
+        if (previous == null || previous.equals(keys)) return;
+        unindex(player, previous);
+        index(player, keys);
+    }
+
+    @Override
+    public void clear() {
+        this.players.clear();
+        this.byUuid.clear();
+        this.byEntityId.clear();
+        this.byUsername.clear();
+    }
+
+    @Override
+    public @NotNull Collection<@NotNull Player> players() {
+        return unmodifiablePlayers;
+    }
+
+    @Override
+    public @Nullable Player getByUuid(@NotNull UUID uuid) {
+        return byUuid.get(uuid);
+    }
+
+    @Override
+    public @Nullable Player getByUsername(@NotNull String username) {
+        final String prefix = username.toLowerCase(Locale.ROOT) + '\0';
+        final Map.Entry<String, Player> entry = byUsername.ceilingEntry(prefix);
+        return entry != null && entry.getKey().startsWith(prefix) ? entry.getValue() : null;
+    }
+
+    @Override
+    public @Nullable Player getByEntityId(int entityId) {
+        return byEntityId.get(entityId);
+    }
+
+    @Override
+    public @NotNull Collection<@NotNull Player> findByPrefix(@NotNull String prefix) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        return Collections.unmodifiableCollection(byUsername.subMap(lowerPrefix, true,
+                lowerPrefix + Character.MAX_VALUE, false).values());
+    }
+
+    private void index(Player player, Keys keys) {
+        this.byUuid.put(keys.uuid(), player);
+        this.byEntityId.put(player.getEntityId(), player);
+        this.byUsername.put(keys.username(), player);
+    }
+
+    private void unindex(Player player, Keys keys) {
+        this.byUuid.remove(keys.uuid(), player);
+        this.byEntityId.remove(player.getEntityId(), player);
+        this.byUsername.remove(keys.username(), player);
+    }
+
+    private static String usernameKey(Player player) {
+        return player.getUsername().toLowerCase(Locale.ROOT) + '\0' + player.getEntityId();
+    }
+
+    private record Keys(UUID uuid, String username) {
+    }
+}
@@ -28,6 +28,8 @@ import static net.minestom.server.network.NetworkBuffer.BYTE_ARRAY;
 public record EncryptionResponsePacket(byte[] sharedSecret,
                                        byte[] encryptedVerifyToken) implements ClientPreplayPacket {
     private static final Gson GSON = new Gson();
+    // Shared by all the logins, a client owns its own connection pool and selector thread
+    private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
 
     public EncryptionResponsePacket(@NotNull NetworkBuffer reader) {
         this(reader.read(BYTE_ARRAY), reader.read(BYTE_ARRAY));
@@ -53,7 +55,8 @@ public record EncryptionResponsePacket(byte[] sharedSecret,
                 return;
             }
 
-            final byte[] digestedData = MojangCrypt.digestData("", MojangAuth.getKeyPair().getPublic(), getSecretKey());
+            final SecretKey secretKey = getSecretKey();
+            final byte[] digestedData = MojangCrypt.digestData("", MojangAuth.getKeyPair().getPublic(), secretKey);
             if (digestedData == null) {
                 // Incorrect key, probably because of the client
                 MinecraftServer.LOGGER.error("Connection {} failed initializing encryption.", socketConnection.getRemoteAddress());
@@ -67,9 +70,8 @@ public record EncryptionResponsePacket(byte[] sharedSecret,
             final String url = String.format(MojangAuth.AUTH_URL, username, serverId);
             // TODO: Add ability to add ip query tag. See: https://wiki.vg/Protocol_Encryption#Authentication
 
-            final HttpClient client = HttpClient.newHttpClient();
             final HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
-            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, throwable) -> {
+            HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, throwable) -> {
                 if (throwable != null) {
                     MinecraftServer.getExceptionManager().handleException(throwable);
                     //todo disconnect with reason
@@ -82,7 +84,7 @@ public record EncryptionResponsePacket(byte[] sharedSecret,
                         //todo disconnect with reason
                         return;
                     }
-                    socketConnection.setEncryptionKey(getSecretKey());
+                    socketConnection.setEncryptionKey(secretKey);
                     UUID profileUUID = java.util.UUID.fromString(gameProfile.get("id").getAsString()
                             .replaceFirst("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
                     final String profileName = gameProfile.get("name").getAsString();
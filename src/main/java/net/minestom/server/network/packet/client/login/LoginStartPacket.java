@@ -32,6 +32,8 @@ public record LoginStartPacket(@NotNull String username,
 
     @Override
     public void process(@NotNull PlayerConnection connection) {
+        // Start of the authentication stage
+        connection.swapLoginStageTime(System.nanoTime());
         final boolean isSocketConnection = connection instanceof PlayerSocketConnection;
         // Proxy support (only for socket clients) and cache the login username
         if (isSocketConnection) {
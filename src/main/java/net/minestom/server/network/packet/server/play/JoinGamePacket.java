@@ -1,5 +1,7 @@
 package net.minestom.server.network.packet.server.play;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minestom.server.entity.GameMode;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.ServerPacket;
@@ -18,6 +20,10 @@ public record JoinGamePacket(int entityId, boolean isHardcore, GameMode gameMode
                              long hashedSeed, int maxPlayers, int viewDistance, int simulationDistance,
                              boolean reducedDebugInfo, boolean enableRespawnScreen, boolean isDebug, boolean isFlat,
                              DeathLocation deathLocation) implements ServerPacket {
+    // Registry codecs are shared by all the joining players, and are by far the largest part of the packet
+    private static final Cache<NBTCompound, byte[]> ENCODED_CODECS = Caffeine.newBuilder()
+            .weakKeys().maximumSize(16).build();
+
     public JoinGamePacket {
         worlds = List.copyOf(worlds);
     }
@@ -42,7 +48,8 @@ public record JoinGamePacket(int entityId, boolean isHardcore, GameMode gameMode
         }
 
         writer.writeCollection(STRING, worlds);
-        writer.write(NBT, dimensionCodec);
+        writer.write(RAW_BYTES, ENCODED_CODECS.get(dimensionCodec,
+                codec -> NetworkBuffer.makeArray(buffer -> buffer.write(NBT, codec))));
 
         writer.write(STRING, dimensionType);
         writer.write(STRING, world);
@@ -0,0 +1,56 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defines what happens to the packets sent to a {@link PlayerSocketConnection}
+ * once its pending bytes exceed {@code minestom.max-pending-bytes}, usually because the client cannot keep up.
+ * <p>
+ * Defaults to {@link #NONE}, the other policies always disconnect the connections once twice the limit is reached.
+ *
+ * @see PlayerSocketConnection#setBackpressurePolicy(BackpressurePolicy)
+ */
+@ApiStatus.Experimental
+public enum BackpressurePolicy {
+    /**
+     * Writes every packet, the pending bytes are not limited.
+     */
+    NONE,
+    /**
+     * Disconnects the connection as soon as the limit is exceeded.
+     */
+    DISCONNECT,
+    /**
+     * Drops cosmetic packets such as particles, sounds and animations.
+     */
+    DROP,
+    /**
+     * Drops cosmetic packets, and only keeps the latest packet of each absolute state
+     * (time, health, experience, head rotation and velocity of an entity) until the pending bytes are below the limit.
+     */
+    COALESCE;
+
+    static boolean isDroppable(ServerPacket packet) {
+        return packet instanceof ParticlePacket || packet instanceof SoundEffectPacket ||
+                packet instanceof EntitySoundEffectPacket || packet instanceof EntityAnimationPacket ||
+                packet instanceof BlockBreakAnimationPacket;
+    }
+
+    static @Nullable Object coalescingKey(ServerPacket packet) {
+        if (packet instanceof TimeUpdatePacket || packet instanceof UpdateHealthPacket ||
+                packet instanceof SetExperiencePacket) {
+            return packet.getClass();
+        } else if (packet instanceof EntityHeadLookPacket headLookPacket) {
+            return new EntityKey(EntityHeadLookPacket.class, headLookPacket.entityId());
+        } else if (packet instanceof EntityVelocityPacket velocityPacket) {
+            return new EntityKey(EntityVelocityPacket.class, velocityPacket.entityId());
+        }
+        return null;
+    }
+
+    private record EntityKey(Class<?> type, int entityId) {
+    }
+}
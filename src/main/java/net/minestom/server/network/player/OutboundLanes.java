@@ -0,0 +1,245 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerSocketConnection.LaneMetrics;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Packets of a {@link PlayerSocketConnection} waiting for the socket to catch up, split by {@link PacketPriority}.
+ * <p>
+ * Only used by the worker thread of the connection, the metrics can be read from any thread.
+ * The queued packets are appended to pooled buffers, returned to the pool once written or cleared.
+ */
+final class OutboundLanes {
+    private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
+    // Chunk index of raw buffers, which may contain packets of any chunk and thus follow all the bulk packets
+    private static final long ANY_CHUNK = Long.MAX_VALUE;
+
+    private final Sink sink;
+    private final Lane[] lanes;
+    private long queuedBytes;
+    private long lastBarrier = -1; // Sequence of the last queued barrier, -1 if none
+
+    OutboundLanes(int gameplayThreshold, int bulkBudget, @NotNull Sink sink) {
+        this.sink = sink;
+        this.lanes = new Lane[]{null, new Lane(gameplayThreshold), new Lane(bulkBudget)};
+    }
+
+    /**
+     * Checks if a packet can skip its lane, and writes the queued packets which must precede it.
+     *
+     * @param packet   the packet, null for raw buffers handled as gameplay packets following all the queued bulk packets
+     * @param sequence the sequence of the packet, increasing with each written packet
+     * @return true if the packet can be written to the socket buffers, false if it must be queued
+     */
+    boolean prepareDirectWrite(@Nullable ServerPacket packet, long sequence) {
+        final PacketPriority priority = packet != null ? PacketPriority.of(packet) : PacketPriority.GAMEPLAY;
+        if (priority == PacketPriority.CRITICAL) {
+            // Critical packets may depend on a queued barrier (e.g. health after a respawn)
+            if (lastBarrier != -1) releaseBarriers();
+            return true;
+        }
+        final Lane lane = lanes[priority.ordinal()];
+        if (!lane.isEmpty() || unsentBytes() >= lane.threshold) return false;
+        if (priority == PacketPriority.GAMEPLAY) {
+            final long chunkIndex = packet != null ? PacketPriority.chunkIndex(packet) : ANY_CHUNK;
+            releaseBulk(sequence, chunkIndex, packet != null && PacketPriority.isBarrier(packet));
+        }
+        return true;
+    }
+
+    /**
+     * Queues a packet refused by {@link #prepareDirectWrite(ServerPacket, long)}.
+     */
+    void queue(@Nullable ServerPacket packet, long sequence, @NotNull ByteBuffer buffer, int index, int length) {
+        final PacketPriority priority = packet != null ? PacketPriority.of(packet) : PacketPriority.GAMEPLAY;
+        final long chunkIndex = packet != null ? PacketPriority.chunkIndex(packet) : ANY_CHUNK;
+        final boolean barrier = packet != null && PacketPriority.isBarrier(packet);
+        lanes[priority.ordinal()].add(buffer, index, new LaneEntry(length, sequence, chunkIndex, barrier, System.nanoTime()));
+        this.queuedBytes += length;
+        if (barrier) this.lastBarrier = sequence;
+    }
+
+    /**
+     * Moves the queued packets to the socket buffers while below the lane thresholds.
+     */
+    void release() {
+        for (int i = PacketPriority.GAMEPLAY.ordinal(); i < lanes.length; i++) {
+            final Lane lane = lanes[i];
+            while (!lane.isEmpty() && unsentBytes() < lane.threshold) {
+                if (i == PacketPriority.GAMEPLAY.ordinal()) {
+                    writeGameplay();
+                } else {
+                    writeEntry(lane, lane.poll());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of bytes waiting in the lanes.
+     */
+    long queuedBytes() {
+        return queuedBytes;
+    }
+
+    void clear() {
+        for (Lane lane : lanes) {
+            if (lane != null) lane.clear();
+        }
+        this.queuedBytes = 0;
+        this.lastBarrier = -1;
+    }
+
+    @NotNull Map<PacketPriority, LaneMetrics> metrics() {
+        Map<PacketPriority, LaneMetrics> metrics = new EnumMap<>(PacketPriority.class);
+        for (PacketPriority priority : PacketPriority.values()) {
+            final Lane lane = lanes[priority.ordinal()];
+            metrics.put(priority, lane != null ? lane.metrics() : new LaneMetrics(0, 0, 0, 0));
+        }
+        return Map.copyOf(metrics);
+    }
+
+    private long unsentBytes() {
+        return sink.pendingBytes() - queuedBytes;
+    }
+
+    /**
+     * Writes the queued gameplay packets up to the last barrier, and the bulk packets preceding them.
+     */
+    private void releaseBarriers() {
+        while (lastBarrier != -1) writeGameplay();
+    }
+
+    private void writeGameplay() {
+        final Lane gameplay = lanes[PacketPriority.GAMEPLAY.ordinal()];
+        final LaneEntry entry = gameplay.poll();
+        releaseBulk(entry.sequence(), entry.chunkIndex(), entry.barrier());
+        if (entry.sequence() == lastBarrier) this.lastBarrier = -1;
+        writeEntry(gameplay, entry);
+    }
+
+    /**
+     * Writes the queued bulk packets which must precede a gameplay packet.
+     */
+    private void releaseBulk(long sequence, long chunkIndex, boolean barrier) {
+        if (!barrier && chunkIndex == PacketPriority.NO_CHUNK) return;
+        final Lane bulk = lanes[PacketPriority.BULK.ordinal()];
+        if (bulk.isEmpty()) return;
+        int count = 0, index = 0;
+        for (LaneEntry entry : bulk.entries) {
+            if (entry.sequence() > sequence) break;
+            index++;
+            if (barrier || chunkIndex == ANY_CHUNK || entry.chunkIndex() == chunkIndex) count = index;
+        }
+        for (int i = 0; i < count; i++) writeEntry(bulk, bulk.poll());
+    }
+
+    private void writeEntry(Lane lane, LaneEntry entry) {
+        this.queuedBytes -= entry.length();
+        lane.write(entry, sink);
+    }
+
+    /**
+     * Destination of the released packets.
+     */
+    interface Sink {
+        /**
+         * Gets the number of bytes not yet sent to the socket, including the queued packets.
+         */
+        long pendingBytes();
+
+        /**
+         * Writes a released packet to the socket buffers, its bytes are already counted as pending.
+         */
+        void write(@NotNull ByteBuffer buffer, int index, int length);
+    }
+
+    private record LaneEntry(int length, long sequence, long chunkIndex, boolean barrier, long time) {
+    }
+
+    private static final class Lane {
+        private final int threshold;
+        private final ArrayDeque<LaneEntry> entries = new ArrayDeque<>();
+        private final ArrayDeque<BinaryBuffer> chunks = new ArrayDeque<>(); // Bytes of the entries, in order
+        // Only modified by the worker thread
+        private volatile int queuedPackets;
+        private volatile long queuedBytes;
+        private volatile long delayCount;
+        private volatile long delaySum;
+        private volatile long maxDelay;
+
+        Lane(int threshold) {
+            this.threshold = threshold;
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        void add(ByteBuffer buffer, int index, LaneEntry entry) {
+            final int length = entry.length();
+            int offset = 0;
+            while (offset < length) {
+                BinaryBuffer chunk = chunks.peekLast();
+                if (chunk == null || chunk.writerOffset() == chunk.capacity()) {
+                    chunk = POOL.get();
+                    this.chunks.add(chunk);
+                }
+                final int count = Math.min(length - offset, chunk.capacity() - chunk.writerOffset());
+                chunk.write(buffer, index + offset, count);
+                offset += count;
+            }
+            this.entries.add(entry);
+            this.queuedPackets++;
+            this.queuedBytes += length;
+        }
+
+        LaneEntry poll() {
+            return entries.poll();
+        }
+
+        /**
+         * Writes the bytes of a polled entry to the sink, the entries must be written in order.
+         */
+        void write(LaneEntry entry, Sink sink) {
+            int remaining = entry.length();
+            while (remaining > 0) {
+                final BinaryBuffer chunk = chunks.peek();
+                final int count = Math.min(remaining, chunk.readableBytes());
+                sink.write(chunk.asByteBuffer(), chunk.readerOffset(), count);
+                chunk.readerOffset(chunk.readerOffset() + count);
+                remaining -= count;
+                if (chunk.readableBytes() == 0) POOL.add(chunks.poll());
+            }
+            final long delay = System.nanoTime() - entry.time();
+            this.queuedPackets--;
+            this.queuedBytes -= entry.length();
+            this.delayCount++;
+            this.delaySum += delay;
+            if (delay > maxDelay) this.maxDelay = delay;
+        }
+
+        void clear() {
+            this.entries.clear();
+            for (BinaryBuffer chunk : chunks) POOL.add(chunk);
+            this.chunks.clear();
+            this.queuedPackets = 0;
+            this.queuedBytes = 0;
+        }
+
+        LaneMetrics metrics() {
+            final long count = delayCount;
+            final double averageDelay = count != 0 ? delaySum / 1e6D / count : 0;
+            return new LaneMetrics(queuedPackets, queuedBytes, averageDelay, maxDelay / 1e6D);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Outbound lane of a packet sent to a {@link PlayerSocketConnection}.
+ * <p>
+ * The order of the packets is kept within a lane, but the lanes can overtake each other
+ * once the socket cannot keep up: {@link #CRITICAL} packets are written immediately, {@link #GAMEPLAY} packets
+ * wait once {@code minestom.gameplay-lane-threshold} bytes are pending, and {@link #BULK} packets are interleaved
+ * by writing at most {@code minestom.bulk-lane-budget} bytes ahead of the other lanes.
+ * <p>
+ * Gameplay packets depending on bulk packets (block changes of a queued chunk, respawn, teleport, view position)
+ * are still written after them, and critical packets are written after the queued respawns and teleports.
+ */
+@ApiStatus.Experimental
+public enum PacketPriority {
+    /**
+     * Latency sensitive packets such as keep-alives, chat and health.
+     */
+    CRITICAL,
+    /**
+     * Every packet not part of another lane.
+     */
+    GAMEPLAY,
+    /**
+     * Large packets whose latency matters less, such as chunks and maps.
+     */
+    BULK;
+
+    static final long NO_CHUNK = Long.MIN_VALUE;
+
+    private static final Set<Class<?>> CRITICAL_PACKETS = Set.of(KeepAlivePacket.class, PingPacket.class,
+            DisconnectPacket.class, SystemChatPacket.class, PlayerChatMessagePacket.class,
+            UpdateHealthPacket.class, AcknowledgeBlockChangePacket.class);
+    private static final Set<Class<?>> BULK_PACKETS = Set.of(ChunkDataPacket.class, UpdateLightPacket.class,
+            MapDataPacket.class);
+    private static final Set<Class<?>> BARRIER_PACKETS = Set.of(JoinGamePacket.class, RespawnPacket.class,
+            PlayerPositionAndLookPacket.class, UpdateViewPositionPacket.class, UpdateViewDistancePacket.class);
+
+    private static final ClassValue<PacketPriority> PRIORITIES = new ClassValue<>() {
+        @Override
+        protected PacketPriority computeValue(@NotNull Class<?> type) {
+            if (CRITICAL_PACKETS.contains(type)) return CRITICAL;
+            if (BULK_PACKETS.contains(type)) return BULK;
+            return GAMEPLAY;
+        }
+    };
+
+    /**
+     * Gets the lane of a packet.
+     *
+     * @param packet the packet
+     * @return the lane of the packet
+     */
+    public static @NotNull PacketPriority of(@NotNull ServerPacket packet) {
+        return PRIORITIES.get(packet.getClass());
+    }
+
+    /**
+     * Gets whether all the bulk packets sent before must be written before this packet.
+     */
+    static boolean isBarrier(@NotNull ServerPacket packet) {
+        return BARRIER_PACKETS.contains(packet.getClass());
+    }
+
+    /**
+     * Gets the chunk a packet applies to, used to keep the order between a chunk and its modifications.
+     *
+     * @return the chunk index, {@link #NO_CHUNK} if the packet is not bound to a chunk
+     */
+    static long chunkIndex(@NotNull ServerPacket packet) {
+        if (packet instanceof ChunkDataPacket chunkPacket) {
+            return ChunkUtils.getChunkIndex(chunkPacket.chunkX(), chunkPacket.chunkZ());
+        } else if (packet instanceof UpdateLightPacket lightPacket) {
+            return ChunkUtils.getChunkIndex(lightPacket.chunkX(), lightPacket.chunkZ());
+        } else if (packet instanceof UnloadChunkPacket unloadPacket) {
+            return ChunkUtils.getChunkIndex(unloadPacket.chunkX(), unloadPacket.chunkZ());
+        } else if (packet instanceof BlockChangePacket blockPacket) {
+            return chunkIndex(blockPacket.blockPosition());
+        } else if (packet instanceof BlockEntityDataPacket blockPacket) {
+            return chunkIndex(blockPacket.blockPosition());
+        } else if (packet instanceof BlockActionPacket blockPacket) {
+            return chunkIndex(blockPacket.blockPosition());
+        } else if (packet instanceof MultiBlockChangePacket blockPacket) {
+            final long position = blockPacket.chunkSectionPosition();
+            return ChunkUtils.getChunkIndex((int) (position >> 42), (int) (position << 22 >> 42));
+        }
+        return NO_CHUNK;
+    }
+
+    private static long chunkIndex(Point blockPosition) {
+        return ChunkUtils.getChunkIndex(blockPosition.chunkX(), blockPosition.chunkZ());
+    }
+}
@@ -23,12 +23,26 @@ public abstract class PlayerConnection {
     private volatile ConnectionState connectionState;
     private PlayerPublicKey playerPublicKey;
     volatile boolean online;
+    private volatile long loginStageTime = System.nanoTime();
 
     public PlayerConnection() {
         this.online = true;
         this.connectionState = ConnectionState.UNKNOWN;
     }
 
+    /**
+     * Starts a new login stage.
+     *
+     * @param time the start of the new stage in nanoseconds
+     * @return the start of the previous stage
+     */
+    @ApiStatus.Internal
+    public long swapLoginStageTime(long time) {
+        final long previous = this.loginStageTime;
+        this.loginStageTime = time;
+        return previous;
+    }
+
     /**
      * Returns a printable identifier for this connection, will be the player username
      * or the connection remote address.
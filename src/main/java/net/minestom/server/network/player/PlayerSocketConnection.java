@@ -9,6 +9,7 @@ import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.*;
@@ -36,6 +37,8 @@ import java.nio.channels.SocketChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.zip.DataFormatException;
 
 /**
@@ -47,6 +50,13 @@ import java.util.zip.DataFormatException;
 public class PlayerSocketConnection extends PlayerConnection {
     private final static Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
     private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
+    private static final LongAdder OUTBOUND_BYTES = new LongAdder();
+    private static final int MIN_CACHE_SIZE = 1024;
+    private static final long MAX_PENDING_BYTES = Integer.getInteger("minestom.max-pending-bytes", 8_388_608);
+    private static final int GAMEPLAY_LANE_THRESHOLD = Math.max(1, Integer.getInteger("minestom.gameplay-lane-threshold", 262_144));
+    private static final int BULK_LANE_BUDGET = Math.max(1, Integer.getInteger("minestom.bulk-lane-budget", 65_536));
+    private static final BackpressurePolicy BACKPRESSURE_POLICY =
+            BackpressurePolicy.valueOf(System.getProperty("minestom.backpressure-policy", BackpressurePolicy.NONE.name()));
 
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
@@ -57,6 +67,9 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     //Could be null. Only used for Mojang Auth
     private volatile EncryptionContext encryptionContext;
+    // Outbound bytes are encrypted in place before being sent, only used by the worker thread
+    private Cipher encryptCipher;
+    private int encryptedOffset;
     private byte[] nonce = new byte[4];
 
     // Data from client packets
@@ -72,7 +85,40 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
-    private BinaryBuffer cacheBuffer;
+    private BinaryBuffer cacheBuffer; // Reused for the incomplete packets
+    private int cachedBytes;
+    private PacketProcessor packetProcessor;
+    private final BiConsumer<Integer, ByteBuffer> packetConsumer = this::processPacket;
+    private volatile long pendingBytes; // Only modified by the worker thread, including the queued packets
+    private boolean flushScheduled;
+
+    // Packets waiting for the socket to catch up
+    private final OutboundLanes lanes = new OutboundLanes(GAMEPLAY_LANE_THRESHOLD, BULK_LANE_BUDGET, new OutboundLanes.Sink() {
+        @Override
+        public long pendingBytes() {
+            return pendingBytes;
+        }
+
+        @Override
+        public void write(@NotNull ByteBuffer buffer, int index, int length) {
+            writeBufferSync(buffer, index, length);
+            // Already counted when queued
+            PlayerSocketConnection.this.pendingBytes -= length;
+        }
+    });
+    private long sequence;
+
+    // Backpressure, only modified by the worker thread
+    private volatile BackpressurePolicy backpressurePolicy = BACKPRESSURE_POLICY;
+    private final Map<Object, ServerPacket> coalescedPackets = new LinkedHashMap<>();
+    private volatile long droppedPackets;
+    private volatile long coalescedCount;
+
+    // Time between the first pending byte and the last one being sent
+    private long pendingSince;
+    private volatile long flushCount;
+    private volatile long flushLatencySum;
+    private volatile long maxFlushLatency;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
@@ -85,11 +131,12 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     public void processPackets(BinaryBuffer readBuffer, PacketProcessor packetProcessor) {
-        // Decrypt data
+        // Decrypt data, the cached bytes have already been decrypted
         {
             final EncryptionContext encryptionContext = this.encryptionContext;
             if (encryptionContext != null) {
-                ByteBuffer input = readBuffer.asByteBuffer(0, readBuffer.writerOffset());
+                final int start = readBuffer.readerOffset() + cachedBytes;
+                ByteBuffer input = readBuffer.asByteBuffer(start, readBuffer.writerOffset() - start);
                 try {
                     encryptionContext.decrypt().update(input, input.duplicate());
                 } catch (ShortBufferException e) {
@@ -99,34 +146,51 @@ public class PlayerSocketConnection extends PlayerConnection {
             }
         }
         // Read all packets
+        this.packetProcessor = packetProcessor;
         try {
-            this.cacheBuffer = PacketUtils.readPackets(readBuffer, compressed,
-                    (id, payload) -> {
-                        if (!isOnline())
-                            return; // Prevent packet corruption
-                        ClientPacket packet = null;
-                        try {
-                            packet = packetProcessor.process(this, id, payload);
-                        } catch (Exception e) {
-                            // Error while reading the packet
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        } finally {
-                            if (payload.position() != payload.limit()) {
-                                LOGGER.warn("WARNING: Packet 0x{} not fully read ({}) {}", Integer.toHexString(id), payload, packet);
-                            }
-                        }
-                    });
+            PacketUtils.readPackets(readBuffer, compressed,
+                    worker.inflater(), worker.decompressionBuffer(), packetConsumer);
         } catch (DataFormatException e) {
             MinecraftServer.getExceptionManager().handleException(e);
             disconnect();
+            return;
+        }
+        // Keep the incomplete packet for the next read
+        final int remaining = readBuffer.readableBytes();
+        if (remaining > 0) {
+            BinaryBuffer cache = this.cacheBuffer;
+            if (cache == null || cache.capacity() < remaining) {
+                cache = BinaryBuffer.ofSize(Math.max(remaining, MIN_CACHE_SIZE));
+                this.cacheBuffer = cache;
+            }
+            cache.write(readBuffer);
+        }
+    }
+
+    private void processPacket(int id, ByteBuffer payload) {
+        if (!isOnline())
+            return; // Prevent packet corruption
+        ClientPacket packet = null;
+        try {
+            packet = packetProcessor.process(this, id, payload, worker.networkBuffer());
+        } catch (Exception e) {
+            // Error while reading the packet
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            if (payload.position() != payload.limit()) {
+                LOGGER.warn("WARNING: Packet 0x{} not fully read ({}) {}", Integer.toHexString(id), payload, packet);
+            }
         }
     }
 
     public void consumeCache(BinaryBuffer buffer) {
         final BinaryBuffer cache = this.cacheBuffer;
-        if (cache != null) {
+        if (cache != null && cache.readableBytes() > 0) {
+            this.cachedBytes = cache.readableBytes();
             buffer.write(cache);
-            this.cacheBuffer = null;
+            cache.clear();
+        } else {
+            this.cachedBytes = 0;
         }
     }
 
@@ -138,7 +202,14 @@ public class PlayerSocketConnection extends PlayerConnection {
      */
     public void setEncryptionKey(@NotNull SecretKey secretKey) {
         Check.stateCondition(encryptionContext != null, "Encryption is already enabled!");
-        this.encryptionContext = new EncryptionContext(MojangCrypt.getCipher(1, secretKey), MojangCrypt.getCipher(2, secretKey));
+        final EncryptionContext encryptionContext = new EncryptionContext(MojangCrypt.getCipher(1, secretKey), MojangCrypt.getCipher(2, secretKey));
+        this.encryptionContext = encryptionContext;
+        // Only encrypt the packets sent from now on
+        this.workerQueue.relaxedOffer(() -> {
+            final BinaryBuffer localBuffer = tickBuffer.getPlain();
+            this.encryptedOffset = localBuffer != null ? localBuffer.writerOffset() : 0;
+            this.encryptCipher = encryptionContext.encrypt();
+        });
     }
 
     /**
@@ -171,7 +242,7 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer, int index, int length) {
-        this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
+        this.workerQueue.relaxedOffer(() -> writeLaneSync(null, buffer, index, length));
     }
 
     @ApiStatus.Internal
@@ -179,6 +250,60 @@ public class PlayerSocketConnection extends PlayerConnection {
         write(buffer, buffer.position(), buffer.remaining());
     }
 
+    /**
+     * Gets the number of bytes written to this connection which have not been sent to the socket yet.
+     * <p>
+     * Packets still waiting to be processed by the worker thread are not counted.
+     *
+     * @return the number of bytes waiting to be sent
+     */
+    public long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * Gets the policy applied to the packets sent while the client cannot keep up.
+     *
+     * @return the backpressure policy
+     */
+    @ApiStatus.Experimental
+    public @NotNull BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * Changes the policy applied to the packets sent while the client cannot keep up,
+     * defaults to the {@code minestom.backpressure-policy} property.
+     *
+     * @param backpressurePolicy the new backpressure policy
+     */
+    @ApiStatus.Experimental
+    public void setBackpressurePolicy(@NotNull BackpressurePolicy backpressurePolicy) {
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
+    /**
+     * Gets a snapshot of the outbound traffic of this connection.
+     *
+     * @return the current metrics
+     */
+    public @NotNull OutboundMetrics outboundMetrics() {
+        final long flushCount = this.flushCount;
+        final double averageLatency = flushCount != 0 ? flushLatencySum / 1e6D / flushCount : 0;
+        return new OutboundMetrics(pendingBytes, averageLatency, maxFlushLatency / 1e6D,
+                droppedPackets, coalescedCount, lanes.metrics());
+    }
+
+    /**
+     * Gets the number of bytes written to all the connections since the previous call.
+     *
+     * @return the number of outbound bytes
+     */
+    @ApiStatus.Internal
+    public static long resetOutboundBytes() {
+        return OUTBOUND_BYTES.sumThenReset();
+    }
+
     @Override
     public @NotNull SocketAddress getRemoteAddress() {
         return remoteAddress;
@@ -205,6 +330,8 @@ public class PlayerSocketConnection extends PlayerConnection {
             if (tick != null) POOL.add(tick);
             for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
             this.waitingBuffers.clear();
+            this.coalescedPackets.clear();
+            this.lanes.clear();
         });
     }
 
@@ -335,6 +462,7 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private void writePacketSync(SendablePacket packet, boolean compressed) {
         if (!channel.isConnected()) return;
+        if (pendingBytes > MAX_PENDING_BYTES && !admitPacket(packet)) return;
         final Player player = getPlayer();
         // Outgoing event
         if (player != null && outgoing.hasListener()) {
@@ -348,11 +476,12 @@ public class PlayerSocketConnection extends PlayerConnection {
             writeServerPacketSync(serverPacket, compressed);
         } else if (packet instanceof FramedPacket framedPacket) {
             var buffer = framedPacket.body();
-            writeBufferSync(buffer, 0, buffer.limit());
+            writeLaneSync(framedPacket.packet(), buffer, 0, buffer.limit());
         } else if (packet instanceof CachedPacket cachedPacket) {
+            final ServerPacket serverPacket = cachedPacket.packet();
             var buffer = cachedPacket.body();
-            if (buffer != null) writeBufferSync(buffer, buffer.position(), buffer.remaining());
-            else writeServerPacketSync(cachedPacket.packet(), compressed);
+            if (buffer != null) writeLaneSync(serverPacket, buffer, buffer.position(), buffer.remaining());
+            else writeServerPacketSync(serverPacket, compressed);
         } else if (packet instanceof LazyPacket lazyPacket) {
             writeServerPacketSync(lazyPacket.packet(), compressed);
         } else {
@@ -368,34 +497,66 @@ public class PlayerSocketConnection extends PlayerConnection {
                         GlobalTranslator.render(component, Objects.requireNonNullElseGet(player.getLocale(), MinestomAdventure::getDefaultLocale)));
             }
         }
-        try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            var buffer = PacketUtils.createFramedPacket(hold.get(), serverPacket, compressed);
-            writeBufferSync(buffer, 0, buffer.limit());
+        final ServerPacket packet = serverPacket;
+        final long sequence = this.sequence++;
+        final boolean direct = lanes.prepareDirectWrite(packet, sequence);
+        // Serialized once, framed either in the tick buffer or in a pooled one
+        final NetworkBuffer content = PacketUtils.serializePacket(packet);
+        if (direct && writeFramedSync(content, compressed)) return;
+        // Did not fit in the tick buffer, or queued behind other packets of its lane
+        PacketUtils.useFramedPacket(content, compressed, buffer -> {
+            if (direct) writeBufferSync(buffer, 0, buffer.limit());
+            else queueLaneSync(packet, sequence, buffer, 0, buffer.limit());
+            return null;
+        });
+    }
+
+    /**
+     * Frames a packet directly in the remaining space of the tick buffer.
+     *
+     * @return true if the packet has been written, false if it does not fit
+     */
+    private boolean writeFramedSync(NetworkBuffer content, boolean compressed) {
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return true; // Socket is closed
+        final int start = localBuffer.writerOffset();
+        final ByteBuffer target = localBuffer.asByteBuffer(start, localBuffer.capacity() - start);
+        if (!PacketUtils.tryWriteFramedPacket(target, content, compressed)) return false;
+        localBuffer.writerOffset(start + target.position());
+        countWrittenSync(target.position());
+        return true;
+    }
+
+    /**
+     * Writes a framed packet, or queues it in its lane if the socket is behind.
+     *
+     * @param packet the written packet, null for raw buffers handled as gameplay packets
+     */
+    private void writeLaneSync(@Nullable ServerPacket packet, @NotNull ByteBuffer buffer, int index, int length) {
+        final long sequence = this.sequence++;
+        if (lanes.prepareDirectWrite(packet, sequence)) {
+            writeBufferSync(buffer, index, length);
+        } else {
+            queueLaneSync(packet, sequence, buffer, index, length);
         }
     }
 
-    private void writeBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
-        // Encrypt data
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null) { // Encryption support
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                ByteBuffer output = hold.get();
-                try {
-                    length = encryptionContext.encrypt().update(buffer.slice(index, length), output);
-                    writeBufferSync0(output, 0, length);
-                } catch (ShortBufferException e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-                return;
-            }
+    private void queueLaneSync(@Nullable ServerPacket packet, long sequence, @NotNull ByteBuffer buffer, int index, int length) {
+        this.lanes.queue(packet, sequence, buffer, index, length);
+        if (pendingBytes == 0) this.pendingSince = System.nanoTime();
+        this.pendingBytes += length;
+        if (!flushScheduled) {
+            this.flushScheduled = true;
+            this.worker.scheduleFlush(this);
         }
-        writeBufferSync0(buffer, index, length);
     }
 
-    private void writeBufferSync0(@NotNull ByteBuffer buffer, int index, int length) {
+    private void writeBufferSync(@NotNull ByteBuffer buffer, int index, int length) {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
+        countWrittenSync(length);
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
             if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
@@ -406,39 +567,168 @@ public class PlayerSocketConnection extends PlayerConnection {
                 final int sliceStart = i * capacity;
                 final int sliceLength = Math.min(length, sliceStart + capacity) - sliceStart;
                 if (!localBuffer.canWrite(sliceLength)) localBuffer = updateLocalBuffer();
-                localBuffer.write(buffer, sliceStart, sliceLength);
+                localBuffer.write(buffer, index + sliceStart, sliceLength);
             }
         }
     }
 
-    public void flushSync() throws IOException {
+    private void countWrittenSync(int length) {
+        if (pendingBytes == 0) this.pendingSince = System.nanoTime();
+        this.pendingBytes += length;
+        if (!flushScheduled) {
+            this.flushScheduled = true;
+            this.worker.scheduleFlush(this);
+        }
+        OUTBOUND_BYTES.add(length);
+    }
+
+    /**
+     * Writes as much pending data as possible to the socket.
+     *
+     * @return true if all the pending data has been written
+     * @throws IOException if the socket is closed
+     */
+    public boolean flushSync() throws IOException {
         final SocketChannel channel = this.channel;
-        final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
-        if (waitingBuffers.isEmpty()) {
-            BinaryBuffer localBuffer = tickBuffer.getPlain();
-            if (localBuffer == null)
-                return; // Socket is closed
-            localBuffer.writeChannel(channel);
-        } else {
-            // Write as much as possible from the waiting list
-            Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
-            while (iterator.hasNext()) {
-                BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
-                iterator.remove();
-                POOL.add(waitingBuffer);
+        if (!coalescedPackets.isEmpty() && pendingBytes <= MAX_PENDING_BYTES) {
+            // The client caught up, send the latest states
+            final boolean compressed = this.compressed;
+            List<ServerPacket> packets = List.copyOf(coalescedPackets.values());
+            this.coalescedPackets.clear();
+            for (ServerPacket packet : packets) writePacketSync(packet, compressed);
+        }
+        // Writes during the flush are handled by the loop
+        this.flushScheduled = true;
+        try {
+            while (true) {
+                this.lanes.release();
+                if (!flushBuffers()) return false;
+                if (lanes.queuedBytes() == 0) break;
             }
+        } finally {
+            this.flushScheduled = false;
+        }
+        if (pendingSince != 0) {
+            final long latency = System.nanoTime() - pendingSince;
+            this.pendingSince = 0;
+            this.flushCount++;
+            this.flushLatencySum += latency;
+            if (latency > maxFlushLatency) this.maxFlushLatency = latency;
+        }
+        return true;
+    }
+
+    private boolean flushBuffers() throws IOException {
+        // Write as much as possible from the waiting list
+        final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
+        Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
+        while (iterator.hasNext()) {
+            BinaryBuffer waitingBuffer = iterator.next();
+            if (!writeChannel(waitingBuffer)) return false;
+            iterator.remove();
+            POOL.add(waitingBuffer);
         }
+        BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return true; // Socket is closed
+        encrypt(localBuffer);
+        if (!writeChannel(localBuffer)) return false;
+        localBuffer.clear();
+        this.encryptedOffset = 0;
+        return true;
+    }
+
+    /**
+     * Encrypts in place the bytes of the tick buffer written since the last call.
+     */
+    private void encrypt(BinaryBuffer buffer) {
+        final Cipher cipher = this.encryptCipher;
+        final int length = buffer.writerOffset() - encryptedOffset;
+        if (cipher == null || length == 0) return;
+        ByteBuffer region = buffer.asByteBuffer(encryptedOffset, length);
+        try {
+            cipher.update(region, region.duplicate());
+        } catch (ShortBufferException e) {
+            // Cannot happen in place, the cipher is a stream cipher
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        this.encryptedOffset = buffer.writerOffset();
+    }
+
+    private boolean writeChannel(BinaryBuffer buffer) throws IOException {
+        final int readerOffset = buffer.readerOffset();
+        final boolean written = buffer.writeChannel(channel);
+        this.pendingBytes -= buffer.readerOffset() - readerOffset;
+        return written;
+    }
+
+    /**
+     * Applies the backpressure policy to a packet sent while too many bytes are pending.
+     *
+     * @return true if the packet should still be written
+     */
+    private boolean admitPacket(SendablePacket packet) {
+        final BackpressurePolicy policy = this.backpressurePolicy;
+        if (policy == BackpressurePolicy.NONE) return true;
+        if (policy == BackpressurePolicy.DISCONNECT || pendingBytes > MAX_PENDING_BYTES * 2) {
+            if (isOnline()) {
+                LOGGER.warn("Disconnecting {}, {} bytes waiting to be sent", remoteAddress, pendingBytes);
+                disconnect();
+            }
+            return false;
+        }
+        final ServerPacket serverPacket = SendablePacket.extractServerPacket(packet);
+        if (policy == BackpressurePolicy.COALESCE) {
+            final Object key = BackpressurePolicy.coalescingKey(serverPacket);
+            if (key != null) {
+                if (coalescedPackets.put(key, serverPacket) != null) this.coalescedCount++;
+                return false;
+            }
+        }
+        if (BackpressurePolicy.isDroppable(serverPacket)) {
+            this.droppedPackets++;
+            return false;
+        }
+        return true;
     }
 
     private BinaryBuffer updateLocalBuffer() {
         BinaryBuffer newBuffer = POOL.get();
-        this.waitingBuffers.add(tickBuffer.getPlain());
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        encrypt(localBuffer);
+        this.waitingBuffers.add(localBuffer);
         this.tickBuffer.setPlain(newBuffer);
+        this.encryptedOffset = 0;
         return newBuffer;
     }
 
+    /**
+     * Outbound traffic of a {@link PlayerSocketConnection}.
+     *
+     * @param pendingBytes          the number of bytes waiting to be sent
+     * @param averageFlushLatencyMs the average time between data being written and the socket being fully flushed
+     * @param maxFlushLatencyMs     the maximum time between data being written and the socket being fully flushed
+     * @param droppedPackets        the number of packets dropped by the backpressure policy
+     * @param coalescedPackets      the number of packets replaced by a newer state by the backpressure policy
+     * @param lanes                 the metrics of each outbound lane
+     */
+    public record OutboundMetrics(long pendingBytes, double averageFlushLatencyMs, double maxFlushLatencyMs,
+                                  long droppedPackets, long coalescedPackets,
+                                  @NotNull Map<PacketPriority, LaneMetrics> lanes) {
+    }
+
+    /**
+     * Activity of an outbound lane, only the packets which had to wait are counted.
+     *
+     * @param queuedPackets  the number of packets waiting in the lane
+     * @param queuedBytes    the number of bytes waiting in the lane
+     * @param averageDelayMs the average time spent by a packet in the lane
+     * @param maxDelayMs     the maximum time spent by a packet in the lane
+     */
+    public record LaneMetrics(int queuedPackets, long queuedBytes, double averageDelayMs, double maxDelayMs) {
+    }
+
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
     }
 }
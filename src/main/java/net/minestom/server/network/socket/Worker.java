@@ -1,9 +1,9 @@
 package net.minestom.server.network.socket;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.thread.MinestomThread;
-import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
@@ -12,12 +12,15 @@ import org.jetbrains.annotations.ApiStatus;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Inflater;
 
 @ApiStatus.Internal
 public final class Worker extends MinestomThread {
@@ -27,6 +30,14 @@ public final class Worker extends MinestomThread {
     private final Map<SocketChannel, PlayerSocketConnection> connectionMap = new ConcurrentHashMap<>();
     private final Server server;
     private final MpscUnboundedXaddArrayQueue<Runnable> queue = new MpscUnboundedXaddArrayQueue<>(1024);
+    // Connections written to since their last flush
+    private final ArrayDeque<PlayerSocketConnection> flushQueue = new ArrayDeque<>();
+
+    // Decoding state reused by all the connections of this worker
+    private final BinaryBuffer readBuffer = BinaryBuffer.ofSize(Server.MAX_PACKET_SIZE);
+    private final ByteBuffer decompressionBuffer = ByteBuffer.allocateDirect(Server.MAX_PACKET_SIZE);
+    private final Inflater inflater = new Inflater();
+    private final NetworkBuffer networkBuffer = new NetworkBuffer(decompressionBuffer);
 
     Worker(Server server) {
         super("Ms-worker-" + COUNTER.getAndIncrement());
@@ -47,19 +58,13 @@ public final class Worker extends MinestomThread {
                 } catch (Exception e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
-                // Flush all connections if needed
-                for (PlayerSocketConnection connection : connectionMap.values()) {
-                    try {
-                        connection.flushSync();
-                    } catch (Exception e) {
-                        connection.disconnect();
-                    }
-                }
+                // Flush the connections written to, slow ones wait for the socket to be writable
+                PlayerSocketConnection flushed;
+                while ((flushed = flushQueue.poll()) != null) flush(flushed);
                 // Wait for an event
                 this.selector.select(key -> {
                     final SocketChannel channel = (SocketChannel) key.channel();
                     if (!channel.isOpen()) return;
-                    if (!key.isReadable()) return;
                     final PlayerSocketConnection connection = connectionMap.get(channel);
                     if (connection == null) {
                         try {
@@ -69,15 +74,15 @@ public final class Worker extends MinestomThread {
                         }
                         return;
                     }
+                    if (key.isWritable()) flush(connection);
+                    if (!key.isReadable()) return;
                     try {
-                        try (var holder = ObjectPool.PACKET_POOL.hold()) {
-                            BinaryBuffer readBuffer = BinaryBuffer.wrap(holder.get());
-                            // Consume last incomplete packet
-                            connection.consumeCache(readBuffer);
-                            // Read & process
-                            readBuffer.readChannel(channel);
-                            connection.processPackets(readBuffer, server.packetProcessor());
-                        }
+                        BinaryBuffer readBuffer = this.readBuffer.clear();
+                        // Consume last incomplete packet
+                        connection.consumeCache(readBuffer);
+                        // Read & process
+                        readBuffer.readChannel(channel);
+                        connection.processPackets(readBuffer, server.packetProcessor());
                     } catch (IOException e) {
                         // TODO print exception? (should ignore disconnection)
                         connection.disconnect();
@@ -90,6 +95,33 @@ public final class Worker extends MinestomThread {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
         }
+        this.inflater.end();
+    }
+
+    /**
+     * Flushes a connection after the pending tasks, called by the connection when it has been written to.
+     *
+     * @param connection the connection to flush
+     */
+    public void scheduleFlush(PlayerSocketConnection connection) {
+        assert Thread.currentThread() == this;
+        this.flushQueue.add(connection);
+    }
+
+    private void flush(PlayerSocketConnection connection) {
+        final SocketChannel channel = connection.getChannel();
+        if (!channel.isOpen()) return;
+        try {
+            final boolean flushed = connection.flushSync();
+            // Only wait for the socket to be writable while data remains
+            final SelectionKey key = channel.keyFor(selector);
+            if (key != null && key.isValid()) {
+                final int interest = flushed ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+                if (key.interestOps() != interest) key.interestOps(interest);
+            }
+        } catch (Exception e) {
+            connection.disconnect();
+        }
     }
 
     public void disconnect(PlayerSocketConnection connection, SocketChannel channel) {
@@ -123,4 +155,16 @@ public final class Worker extends MinestomThread {
     public MessagePassingQueue<Runnable> queue() {
         return queue;
     }
+
+    public Inflater inflater() {
+        return inflater;
+    }
+
+    public ByteBuffer decompressionBuffer() {
+        return decompressionBuffer.clear();
+    }
+
+    public NetworkBuffer networkBuffer() {
+        return networkBuffer;
+    }
 }
@@ -1,6 +1,9 @@
 package net.minestom.server.recipe;
 
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareRecipesPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -9,7 +12,8 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 public class RecipeManager {
-    private DeclareRecipesPacket declareRecipesPacket = new DeclareRecipesPacket(List.of());
+    private volatile DeclareRecipesPacket declareRecipesPacket = new DeclareRecipesPacket(List.of());
+    private final CachedPacket cachedDeclareRecipesPacket = new CachedPacket(this::getDeclareRecipesPacket);
     private final Set<Recipe> recipes = new CopyOnWriteArraySet<>();
 
     public void addRecipes(@NotNull Recipe... recipe) {
@@ -40,6 +44,17 @@ public class RecipeManager {
         return declareRecipesPacket;
     }
 
+    /**
+     * Gets the recipe declarations encoded once and shared by all the joining players,
+     * invalidated when a recipe is added or removed.
+     *
+     * @return the cached {@link DeclareRecipesPacket}
+     */
+    @ApiStatus.Internal
+    public @NotNull SendablePacket getCachedDeclareRecipesPacket() {
+        return cachedDeclareRecipesPacket;
+    }
+
     private void refreshRecipesPacket() {
         List<DeclareRecipesPacket.DeclaredRecipe> recipesCache = new ArrayList<>();
         for (Recipe recipe : recipes) {
@@ -130,6 +145,7 @@ public class RecipeManager {
         }
 
         declareRecipesPacket = new DeclareRecipesPacket(recipesCache);
+        cachedDeclareRecipesPacket.invalidate();
         // TODO; refresh and update players recipes
     }
 
@@ -11,6 +11,7 @@ import net.minestom.server.entity.EquipmentSlot;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.item.Material;
 import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.collection.ObjectArray;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
@@ -28,6 +29,9 @@ import java.util.function.Supplier;
  * Use at your own risk.
  */
 public final class Registry {
+    // Load the data precompiled by the build when available, the json resources are used if missing
+    private static final boolean BINARY_DATA = PropertyUtils.getBoolean("minestom.registry-binary", true);
+
     @ApiStatus.Internal
     public static BlockEntry block(String namespace, @NotNull Properties main) {
         return new BlockEntry(namespace, main, null);
@@ -55,6 +59,32 @@ public final class Registry {
 
     @ApiStatus.Internal
     public static Map<String, Map<String, Object>> load(Resource resource) {
+        if (BINARY_DATA) {
+            final Map<String, Map<String, Object>> map = loadBinary(resource);
+            if (map != null) return map;
+        }
+        return loadJson(resource);
+    }
+
+    /**
+     * Loads the registry data precompiled by the build.
+     * <p>
+     * The data is generated from the json resources of the same build (which are not read here),
+     * {@code RegistryDataTest} checks that both are identical.
+     *
+     * @return the loaded entries, null if the resource has not been precompiled or uses another format version
+     */
+    static @Nullable Map<String, Map<String, Object>> loadBinary(Resource resource) {
+        try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(resource.binaryName)) {
+            if (resourceStream == null) return null;
+            return RegistryData.read(resourceStream.readAllBytes());
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    static Map<String, Map<String, Object>> loadJson(Resource resource) {
         Map<String, Map<String, Object>> map = new HashMap<>();
         try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(resource.name)) {
             Check.notNull(resourceStream, "Resource {0} does not exist!", resource);
@@ -150,9 +180,11 @@ public final class Registry {
         ITEM_TAGS("tags/item_tags.json");
 
         private final String name;
+        private final String binaryName;
 
         Resource(String name) {
             this.name = name;
+            this.binaryName = "registry/" + name.replace(".json", ".bin");
         }
     }
 
@@ -172,7 +204,8 @@ public final class Registry {
         private final String blockEntity;
         private final int blockEntityId;
         private final Supplier<Material> materialSupplier;
-        private final Shape shape;
+        private final String collisionShape;
+        private volatile Shape shape;
         private final Properties custom;
 
         private BlockEntry(String namespace, Properties main, Properties custom) {
@@ -203,10 +236,8 @@ public final class Registry {
                 final String materialNamespace = main.getString("correspondingItem", null);
                 this.materialSupplier = materialNamespace != null ? () -> Material.fromNamespaceId(materialNamespace) : () -> null;
             }
-            {
-                final String string = main.getString("collisionShape");
-                this.shape = CollisionUtils.parseBlockShape(string, this);
-            }
+            // Parsed on first use
+            this.collisionShape = main.getString("collisionShape");
         }
 
         public @NotNull NamespaceID namespace() {
@@ -274,6 +305,8 @@ public final class Registry {
         }
 
         public Shape collisionShape() {
+            Shape shape = this.shape;
+            if (shape == null) this.shape = shape = CollisionUtils.parseBlockShape(collisionShape, this);
             return shape;
         }
 
@@ -0,0 +1,103 @@
+package net.minestom.server.registry;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the registry data precompiled by the code generators, values are the same as the ones read from json:
+ * {@link HashMap}, {@link ArrayList}, {@link String}, {@link Long}, {@link Double} and {@link Boolean}.
+ * <p>
+ * Strings are deduplicated using a table at the start of the file, see {@code RegistryDataGenerator} for the format.
+ */
+final class RegistryData {
+    private static final int MAGIC = 0x4D524547; // MREG
+    private static final int VERSION = 3;
+
+    private static final byte OBJECT = 0;
+    private static final byte ARRAY = 1;
+    private static final byte STRING = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+
+    private final ByteBuffer buffer;
+    private final String[] strings;
+
+    private RegistryData(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.strings = new String[(int) readVarLong()];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = (int) readVarLong();
+            this.strings[i] = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Reads precompiled registry data.
+     *
+     * @param bytes the precompiled data
+     * @return the entries, null if the data uses another format version
+     */
+    @SuppressWarnings("unchecked")
+    static @Nullable Map<String, Map<String, Object>> read(byte @NotNull [] bytes) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final int magic = buffer.getInt();
+            if (magic != MAGIC) throw new IllegalStateException("Invalid registry data, magic " + Integer.toHexString(magic));
+            if (buffer.getInt() != VERSION) return null;
+            final RegistryData data = new RegistryData(buffer);
+            return (Map<String, Map<String, Object>>) data.readValue();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | ClassCastException e) {
+            throw new IllegalStateException("Corrupted registry data", e);
+        }
+    }
+
+    private Object readValue() {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case OBJECT -> {
+                final int size = (int) readVarLong();
+                Map<String, Object> map = new HashMap<>((int) (size / 0.75f) + 1);
+                for (int i = 0; i < size; i++) map.put(strings[(int) readVarLong()], readValue());
+                yield map;
+            }
+            case ARRAY -> {
+                final int size = (int) readVarLong();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue());
+                yield list;
+            }
+            case STRING -> strings[(int) readVarLong()];
+            case LONG -> {
+                final long value = readVarLong();
+                yield (value >>> 1) ^ -(value & 1);
+            }
+            case DOUBLE -> buffer.getDouble();
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            default -> throw new IllegalStateException("Invalid tag: " + tag);
+        };
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -24,4 +24,9 @@ public sealed interface ServerSnapshot extends Snapshot
     static ServerSnapshot update() {
         return SnapshotUpdater.update(MinecraftServer.process());
     }
+
+    @ApiStatus.Experimental
+    static ServerSnapshot updatePersistent() {
+        return SnapshotUpdater.updatePersistent(MinecraftServer.process());
+    }
 }
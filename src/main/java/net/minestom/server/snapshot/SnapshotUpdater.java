@@ -33,9 +33,32 @@ public sealed interface SnapshotUpdater permits SnapshotUpdaterImpl {
      * @return the new updated snapshot
      */
     static <T extends Snapshot> @NotNull T update(@NotNull Snapshotable snapshotable) {
-        return SnapshotUpdaterImpl.update(snapshotable);
+        return SnapshotUpdaterImpl.update(snapshotable, false);
     }
 
+    /**
+     * Updates the snapshot of the given snapshotable, keeping the copied state of the snapshotables
+     * (e.g. chunk sections) to be shared with the next snapshots until they are modified.
+     * <p>
+     * Meant for snapshots taken repeatedly (e.g. every tick), the cost is then proportional to the changes
+     * at the expense of the retained copies.
+     *
+     * @param snapshotable the snapshot container
+     * @param <T>          the snapshot type
+     * @return the new updated snapshot
+     * @see #update(Snapshotable)
+     */
+    static <T extends Snapshot> @NotNull T updatePersistent(@NotNull Snapshotable snapshotable) {
+        return SnapshotUpdaterImpl.update(snapshotable, true);
+    }
+
+    /**
+     * Gets if the snapshotables should keep their copied state for the next snapshots.
+     *
+     * @return true if created using {@link #updatePersistent(Snapshotable)}
+     */
+    boolean persistent();
+
     <T extends Snapshot> @NotNull AtomicReference<T> reference(@NotNull Snapshotable snapshotable);
 
     @Contract("!null -> !null")
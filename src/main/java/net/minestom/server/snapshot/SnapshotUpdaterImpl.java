@@ -11,9 +11,14 @@ final class SnapshotUpdaterImpl implements SnapshotUpdater {
     private final IdentityHashMap<Snapshotable, AtomicReference<Snapshot>> referenceMap = new IdentityHashMap<>();
     private IdentityHashMap<Snapshotable, AtomicReference<Snapshot>> readOnlyReferenceMap;
     private List<Entry> queue = new ArrayList<>();
+    private final boolean persistent;
 
-    static <T extends Snapshot> @NotNull T update(@NotNull Snapshotable snapshotable) {
-        var updater = new SnapshotUpdaterImpl();
+    private SnapshotUpdaterImpl(boolean persistent) {
+        this.persistent = persistent;
+    }
+
+    static <T extends Snapshot> @NotNull T update(@NotNull Snapshotable snapshotable, boolean persistent) {
+        var updater = new SnapshotUpdaterImpl(persistent);
         var ref = updater.reference(snapshotable);
         updater.update();
         return (T) ref.get();
@@ -37,6 +42,11 @@ final class SnapshotUpdaterImpl implements SnapshotUpdater {
         }
     }
 
+    @Override
+    public boolean persistent() {
+        return persistent;
+    }
+
     record Entry(Snapshotable snapshotable, AtomicReference<Snapshot> ref) {
     }
 
@@ -3,10 +3,33 @@ package net.minestom.server.thread;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.function.Supplier;
+
 @ApiStatus.Internal
 @ApiStatus.NonExtendable
 public class MinestomThread extends Thread {
+    // Caches of the object pools, indexed by pool
+    private Object[] poolCaches = new Object[0];
+
     public MinestomThread(@NotNull String name) {
         super(name);
     }
+
+    /**
+     * Gets the cache of an object pool for this thread, must be called from this thread.
+     *
+     * @param index    the index of the pool
+     * @param supplier the supplier of the cache if absent
+     * @return the cache of the pool
+     */
+    @ApiStatus.Internal
+    public @NotNull Object poolCache(int index, @NotNull Supplier<?> supplier) {
+        assert Thread.currentThread() == this;
+        Object[] caches = this.poolCaches;
+        if (index >= caches.length) this.poolCaches = caches = Arrays.copyOf(caches, index + 1);
+        Object cache = caches[index];
+        if (cache == null) caches[index] = cache = supplier.get();
+        return cache;
+    }
 }
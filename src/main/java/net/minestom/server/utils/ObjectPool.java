@@ -1,47 +1,106 @@
 package net.minestom.server.utils;
 
 import net.minestom.server.network.socket.Server;
+import net.minestom.server.thread.MinestomThread;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jctools.queues.MessagePassingQueue;
-import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
+import org.jctools.queues.MpmcArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.ref.Cleaner;
-import java.lang.ref.SoftReference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
-import java.util.Collection;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+/**
+ * Bounded pool of reusable objects, mostly direct buffers.
+ * <p>
+ * {@link MinestomThread Minestom threads} keep a few objects in a local cache before using the shared queue,
+ * objects returned to a full pool are left to the garbage collector.
+ * Leaks (objects collected without being returned) are logged when {@code minestom.pool-leak-detection} is enabled.
+ */
 @ApiStatus.Internal
 @ApiStatus.Experimental
 public final class ObjectPool<T> {
-    private static final int QUEUE_SIZE = 32_768;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObjectPool.class);
     private static final int BUFFER_SIZE = Integer.getInteger("minestom.pooled-buffer-size", 262_143);
+    private static final long POOL_BYTES = Long.getLong("minestom.pool-max-bytes", 67_108_864);
+    private static final long THREAD_CACHE_BYTES = Long.getLong("minestom.pool-thread-cache-bytes", 4_194_304);
+    private static final int MAX_THREAD_CACHE_SIZE = 64;
+    private static final boolean LEAK_DETECTION = PropertyUtils.getBoolean("minestom.pool-leak-detection", false);
+    private static final AtomicInteger COUNTER = new AtomicInteger();
 
-    public static final ObjectPool<BinaryBuffer> BUFFER_POOL = new ObjectPool<>(() -> BinaryBuffer.ofSize(BUFFER_SIZE), BinaryBuffer::clear);
-    public static final ObjectPool<ByteBuffer> PACKET_POOL = new ObjectPool<>(() -> ByteBuffer.allocateDirect(Server.MAX_PACKET_SIZE), ByteBuffer::clear);
+    private static final int[] PACKET_SIZE_CLASSES = {8_192, 65_536, 524_288};
+    @SuppressWarnings("unchecked")
+    private static final ObjectPool<ByteBuffer>[] PACKET_POOLS = Arrays.stream(PACKET_SIZE_CLASSES)
+            .mapToObj(size -> new ObjectPool<>(() -> ByteBuffer.allocateDirect(size), ByteBuffer::clear, size))
+            .toArray(ObjectPool[]::new);
 
+    public static final ObjectPool<BinaryBuffer> BUFFER_POOL = new ObjectPool<>(() -> BinaryBuffer.ofSize(BUFFER_SIZE), BinaryBuffer::clear, BUFFER_SIZE);
+    public static final ObjectPool<ByteBuffer> PACKET_POOL = new ObjectPool<>(() -> ByteBuffer.allocateDirect(Server.MAX_PACKET_SIZE), ByteBuffer::clear, Server.MAX_PACKET_SIZE);
+
+    private final int id = COUNTER.getAndIncrement();
     private final Cleaner cleaner = Cleaner.create();
-    private final MessagePassingQueue<SoftReference<T>> pool = new MpmcUnboundedXaddArrayQueue<>(QUEUE_SIZE);
+    private final MessagePassingQueue<T> pool;
     private final Supplier<T> supplier;
     private final UnaryOperator<T> sanitizer;
+    private final int threadCacheSize;
+    private final Map<Thread, ThreadCache<T>> threadCaches = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Supplier<ThreadCache<T>> threadCacheSupplier;
+    private final LeakTracker leakTracker = LEAK_DETECTION ? new LeakTracker() : null;
+
+    // Metrics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
 
-    ObjectPool(Supplier<T> supplier, UnaryOperator<T> sanitizer) {
+    ObjectPool(Supplier<T> supplier, UnaryOperator<T> sanitizer, int objectSize) {
         this.supplier = supplier;
         this.sanitizer = sanitizer;
+        this.pool = new MpmcArrayQueue<>((int) Math.max(4, Math.min(POOL_BYTES / objectSize, 65_536)));
+        this.threadCacheSize = (int) Math.max(1, Math.min(THREAD_CACHE_BYTES / objectSize, MAX_THREAD_CACHE_SIZE));
+        this.threadCacheSupplier = () -> {
+            ThreadCache<T> cache = new ThreadCache<>(threadCacheSize);
+            this.threadCaches.put(Thread.currentThread(), cache);
+            return cache;
+        };
+    }
+
+    /**
+     * Gets the pool of the smallest buffers able to contain a packet.
+     *
+     * @param size the minimum size of the buffers
+     * @return the pool of the smallest size class, {@link #PACKET_POOL} for the largest packets
+     */
+    public static @NotNull ObjectPool<ByteBuffer> packetPool(int size) {
+        for (int i = 0; i < PACKET_SIZE_CLASSES.length; i++) {
+            if (size <= PACKET_SIZE_CLASSES[i]) return PACKET_POOLS[i];
+        }
+        return PACKET_POOL;
     }
 
     public @NotNull T get() {
-        T result;
-        SoftReference<T> ref;
-        while ((ref = pool.poll()) != null) {
-            if ((result = ref.get()) != null) return result;
+        final ThreadCache<T> cache = threadCache();
+        T result = cache != null ? cache.poll() : null;
+        if (result == null) result = pool.relaxedPoll();
+        if (result != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+            result = supplier.get();
         }
-        return supplier.get();
+        if (leakTracker != null) leakTracker.track(result);
+        return result;
     }
 
     public @NotNull T getAndRegister(@NotNull Object ref) {
@@ -51,16 +110,37 @@ public final class ObjectPool<T> {
     }
 
     public void add(@NotNull T object) {
+        if (leakTracker != null) leakTracker.untrack(object);
         object = sanitizer.apply(object);
-        this.pool.offer(new SoftReference<>(object));
+        final ThreadCache<T> cache = threadCache();
+        if (cache != null && cache.offer(object)) return;
+        if (!pool.relaxedOffer(object)) this.dropped.increment();
     }
 
+    /**
+     * Removes the pooled objects from the shared queue and the cache of the current thread.
+     */
     public void clear() {
         this.pool.clear();
+        final ThreadCache<T> cache = threadCache();
+        if (cache != null) cache.clear();
     }
 
     public int count() {
-        return pool.size();
+        int count = pool.size();
+        synchronized (threadCaches) {
+            for (ThreadCache<T> cache : threadCaches.values()) count += cache.size;
+        }
+        return count;
+    }
+
+    /**
+     * Gets a snapshot of the pool activity.
+     *
+     * @return the current metrics
+     */
+    public @NotNull Metrics metrics() {
+        return new Metrics(hits.sum(), misses.sum(), dropped.sum(), count());
     }
 
     public void register(@NotNull Object ref, @NotNull AtomicReference<T> objectRef) {
@@ -88,6 +168,23 @@ public final class ObjectPool<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private ThreadCache<T> threadCache() {
+        if (!(Thread.currentThread() instanceof MinestomThread thread)) return null;
+        return (ThreadCache<T>) thread.poolCache(id, threadCacheSupplier);
+    }
+
+    /**
+     * Activity of an {@link ObjectPool}.
+     *
+     * @param hits    the number of objects reused
+     * @param misses  the number of objects allocated because the pool was empty
+     * @param dropped the number of objects discarded because the pool was full
+     * @param pooled  the number of objects currently in the pool
+     */
+    public record Metrics(long hits, long misses, long dropped, int pooled) {
+    }
+
     private record BufferRefCleaner<T>(ObjectPool<T> pool, AtomicReference<T> objectRef) implements Runnable {
         @Override
         public void run() {
@@ -111,6 +208,84 @@ public final class ObjectPool<T> {
         }
     }
 
+    /**
+     * Objects cached by a single thread, only accessed by this thread except for the size.
+     */
+    private static final class ThreadCache<T> {
+        private final Object[] objects;
+        private volatile int size;
+
+        ThreadCache(int capacity) {
+            this.objects = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        T poll() {
+            final int size = this.size;
+            if (size == 0) return null;
+            final T object = (T) objects[size - 1];
+            this.objects[size - 1] = null;
+            this.size = size - 1;
+            return object;
+        }
+
+        boolean offer(T object) {
+            final int size = this.size;
+            if (size == objects.length) return false;
+            this.objects[size] = object;
+            this.size = size + 1;
+            return true;
+        }
+
+        void clear() {
+            Arrays.fill(objects, null);
+            this.size = 0;
+        }
+    }
+
+    /**
+     * Keeps track of the borrowed objects to report those collected without being returned.
+     */
+    private static final class LeakTracker {
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final Map<Integer, List<Tracked>> tracked = new HashMap<>();
+
+        synchronized void track(Object object) {
+            reportLeaks();
+            this.tracked.computeIfAbsent(System.identityHashCode(object), hash -> new ArrayList<>(1))
+                    .add(new Tracked(object, queue, new Throwable("Borrowed from the pool")));
+        }
+
+        synchronized void untrack(Object object) {
+            final int hash = System.identityHashCode(object);
+            final List<Tracked> references = tracked.get(hash);
+            if (references == null) return;
+            references.removeIf(reference -> reference.get() == object);
+            if (references.isEmpty()) this.tracked.remove(hash);
+        }
+
+        private void reportLeaks() {
+            Tracked reference;
+            while ((reference = (Tracked) queue.poll()) != null) {
+                final List<Tracked> references = tracked.get(reference.hash);
+                if (references == null || !references.remove(reference)) continue;
+                if (references.isEmpty()) this.tracked.remove(reference.hash);
+                LOGGER.warn("A pooled object has been collected without being returned", reference.origin);
+            }
+        }
+
+        private static final class Tracked extends WeakReference<Object> {
+            private final int hash;
+            private final Throwable origin;
+
+            Tracked(Object referent, ReferenceQueue<Object> queue, Throwable origin) {
+                super(referent, queue);
+                this.hash = System.identityHashCode(referent);
+                this.origin = origin;
+            }
+        }
+    }
+
     public final class Holder implements AutoCloseable {
         private final T object;
         private boolean closed;
@@ -5,7 +5,11 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
@@ -15,22 +19,35 @@ import net.minestom.server.Viewable;
 import net.minestom.server.adventure.ComponentHolder;
 import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityUpdateLod;
 import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.block.Block;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.*;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.server.utils.block.BlockUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
@@ -46,13 +63,19 @@ import java.util.zip.Inflater;
  */
 public final class PacketUtils {
     private static final ThreadLocal<Deflater> LOCAL_DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    // Packets are serialized once in this growable buffer before being framed
+    private static final ThreadLocal<NetworkBuffer> LOCAL_CONTENT = ThreadLocal.withInitial(() -> new NetworkBuffer(8_192));
 
     public static final boolean GROUPED_PACKET = PropertyUtils.getBoolean("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = PropertyUtils.getBoolean("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = PropertyUtils.getBoolean("minestom.viewable-packet", true);
+    public static final boolean COALESCED_BLOCK_CHANGE = PropertyUtils.getBoolean("minestom.coalesced-block-change", false);
+    public static final int BLOCK_CHANGE_RESEND_THRESHOLD = Integer.getInteger("minestom.block-change-resend-threshold", 4096);
 
     // Viewable packets
     private static final Cache<Viewable, ViewableStorage> VIEWABLE_STORAGE_MAP = Caffeine.newBuilder().weakKeys().build();
+    // Block changes
+    private static final Cache<Chunk, BlockChangeStorage> BLOCK_CHANGE_STORAGE_MAP = Caffeine.newBuilder().weakKeys().build();
 
     private PacketUtils() {
     }
@@ -170,7 +193,7 @@ public final class PacketUtils {
         }
         final Player exception = entity instanceof Player ? (Player) entity : null;
         ViewableStorage storage = VIEWABLE_STORAGE_MAP.get(viewable, (unused) -> new ViewableStorage());
-        storage.append(viewable, serverPacket, exception);
+        storage.append(viewable, serverPacket, exception, null, 0);
     }
 
     @ApiStatus.Experimental
@@ -178,8 +201,63 @@ public final class PacketUtils {
         prepareViewablePacket(viewable, serverPacket, null);
     }
 
+    /**
+     * Prepares a packet only sent to the viewers in the {@link EntityUpdateLod} band {@code band} of {@code entity}.
+     *
+     * @see Entity#getUpdateLodBand(Player)
+     */
+    @ApiStatus.Internal
+    public static void prepareViewablePacket(@NotNull Viewable viewable, @NotNull ServerPacket serverPacket,
+                                             @NotNull Entity entity, int band) {
+        if (!entity.hasPredictableViewers() || !VIEWABLE_PACKET) {
+            final Collection<Player> viewers = entity.hasPredictableViewers() ? viewable.getViewers() : entity.getViewers();
+            sendGroupedPacket(viewers, serverPacket, viewer -> viewer != entity && entity.getUpdateLodBand(viewer) == band);
+            return;
+        }
+        final Player exception = entity instanceof Player ? (Player) entity : null;
+        ViewableStorage storage = VIEWABLE_STORAGE_MAP.get(viewable, (unused) -> new ViewableStorage());
+        storage.append(viewable, serverPacket, exception, entity, band);
+    }
+
+    /**
+     * Sends the current state of a changed block to the chunk viewers.
+     * <p>
+     * With {@code minestom.coalesced-block-change} enabled, the state is sent during the next {@link #flush()}
+     * and changes are grouped by section, sending a single {@link MultiBlockChangePacket} for each modified section
+     * or the whole chunk once {@link #BLOCK_CHANGE_RESEND_THRESHOLD} is exceeded.
+     *
+     * @param chunk the chunk containing the block
+     * @param x     the block X
+     * @param y     the block Y
+     * @param z     the block Z
+     */
+    @ApiStatus.Experimental
+    public static void prepareBlockChange(@NotNull Chunk chunk, int x, int y, int z) {
+        if (!COALESCED_BLOCK_CHANGE) {
+            final Vec blockPosition = new Vec(x, y, z);
+            final Block block = chunk.getBlock(blockPosition);
+            chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
+            final BlockEntityDataPacket blockEntityPacket = blockEntityPacket(blockPosition, block);
+            if (blockEntityPacket != null) chunk.sendPacketToViewers(blockEntityPacket);
+            return;
+        }
+        BLOCK_CHANGE_STORAGE_MAP.asMap().compute(chunk, (c, storage) -> {
+            if (storage == null) storage = new BlockChangeStorage();
+            storage.append(x, y, z);
+            return storage;
+        });
+    }
+
     @ApiStatus.Internal
     public static void flush() {
+        if (COALESCED_BLOCK_CHANGE) {
+            final var blockChanges = BLOCK_CHANGE_STORAGE_MAP.asMap();
+            blockChanges.keySet().parallelStream().forEach(chunk -> {
+                // Removal ensures that concurrent changes are kept for the next flush
+                final BlockChangeStorage storage = blockChanges.remove(chunk);
+                if (storage != null) storage.process(chunk);
+            });
+        }
         if (VIEWABLE_PACKET) {
             VIEWABLE_STORAGE_MAP.asMap().entrySet().parallelStream().forEach(entry ->
                     entry.getValue().process(entry.getKey()));
@@ -189,8 +267,32 @@ public final class PacketUtils {
     @ApiStatus.Internal
     public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
                                                      BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
-        BinaryBuffer remaining = null;
         ByteBuffer pool = ObjectPool.PACKET_POOL.get();
+        Inflater inflater = new Inflater();
+        try {
+            readPackets(readBuffer, compressed, inflater, pool, payloadConsumer);
+        } finally {
+            inflater.end();
+            ObjectPool.PACKET_POOL.add(pool);
+        }
+        return readBuffer.readableBytes() > 0 ? BinaryBuffer.copy(readBuffer) : null;
+    }
+
+    /**
+     * Reads all the complete packets of a buffer, the reader offset is then
+     * at the start of the first incomplete packet.
+     *
+     * @param readBuffer          the buffer to read from
+     * @param compressed          true if the packets use the compressed format
+     * @param inflater            the inflater used for compressed packets, reset before each use
+     * @param decompressionBuffer the buffer containing the decompressed packet given to the consumer
+     * @param payloadConsumer     the consumer of the packet ids and payloads
+     * @throws DataFormatException if a packet is invalid
+     */
+    @ApiStatus.Internal
+    public static void readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
+                                   @NotNull Inflater inflater, @NotNull ByteBuffer decompressionBuffer,
+                                   @NotNull BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
         while (readBuffer.readableBytes() > 0) {
             final var beginMark = readBuffer.mark();
             try {
@@ -215,12 +317,11 @@ public final class PacketUtils {
                         decompressedSize = payloadLength;
                     } else {
                         // Decompress to content buffer
-                        content = BinaryBuffer.wrap(pool);
+                        content = BinaryBuffer.wrap(decompressionBuffer);
                         decompressedSize = dataLength;
-                        Inflater inflater = new Inflater(); // TODO: Pool?
+                        inflater.reset();
                         inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
                         inflater.inflate(content.asByteBuffer(0, dataLength));
-                        inflater.reset();
                     }
                 }
                 // Slice packet
@@ -235,12 +336,9 @@ public final class PacketUtils {
                 readBuffer.readerOffset(readerStart + packetLength);
             } catch (BufferUnderflowException e) {
                 readBuffer.reset(beginMark);
-                remaining = BinaryBuffer.copy(readBuffer);
                 break;
             }
         }
-        ObjectPool.PACKET_POOL.add(pool);
-        return remaining;
     }
 
     public static void writeFramedPacket(@NotNull ByteBuffer buffer,
@@ -254,44 +352,152 @@ public final class PacketUtils {
                                          int id,
                                          @NotNull NetworkBuffer.Writer writer,
                                          int compressionThreshold) {
-        NetworkBuffer networkBuffer = new NetworkBuffer(buffer, false);
+        if (!writeFramedPacket(buffer, serializePacket(id, writer), compressionThreshold)) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    /**
+     * Writes a framed packet if it fits in the remaining space of the buffer.
+     *
+     * @param buffer      the buffer to write to
+     * @param packet      the packet to write
+     * @param compression true to use the compressed format
+     * @return true if the packet has been written, false if the buffer is left unchanged
+     */
+    @ApiStatus.Internal
+    public static boolean tryWriteFramedPacket(@NotNull ByteBuffer buffer, @NotNull ServerPacket packet, boolean compression) {
+        return tryWriteFramedPacket(buffer, serializePacket(packet), compression);
+    }
+
+    /**
+     * Writes a packet serialized by {@link #serializePacket(ServerPacket)} if it is guaranteed to fit
+     * in the remaining space of the buffer, packets which may not fit are not compressed.
+     *
+     * @param buffer      the buffer to write to
+     * @param content     the serialized packet
+     * @param compression true to use the compressed format
+     * @return true if the packet has been written, false if the buffer is left unchanged
+     */
+    @ApiStatus.Internal
+    public static boolean tryWriteFramedPacket(@NotNull ByteBuffer buffer, @NotNull NetworkBuffer content, boolean compression) {
+        final int compressionThreshold = compression ? MinecraftServer.getCompressionThreshold() : 0;
+        if (maxFramedSize(content.writeIndex(), compressionThreshold) > buffer.remaining()) return false;
+        return writeFramedPacket(buffer, content, compressionThreshold);
+    }
+
+    /**
+     * Frames a packet in the smallest pooled buffer able to contain it, the packet is serialized once
+     * and its size class is picked from its length.
+     *
+     * @param packet      the packet to frame
+     * @param compression true to use the compressed format
+     * @param function    the function applied to the framed packet, the buffer is returned to its pool afterward
+     * @return the result of the function
+     */
+    @ApiStatus.Internal
+    public static <R> R useFramedPacket(@NotNull ServerPacket packet, boolean compression,
+                                        @NotNull Function<@NotNull ByteBuffer, R> function) {
+        return useFramedPacket(serializePacket(packet), compression, function);
+    }
+
+    /**
+     * Frames a packet serialized by {@link #serializePacket(ServerPacket)} in the smallest pooled buffer able to contain it.
+     *
+     * @see #useFramedPacket(ServerPacket, boolean, Function)
+     */
+    @ApiStatus.Internal
+    public static <R> R useFramedPacket(@NotNull NetworkBuffer content, boolean compression,
+                                        @NotNull Function<@NotNull ByteBuffer, R> function) {
+        final int compressionThreshold = compression ? MinecraftServer.getCompressionThreshold() : 0;
+        final int maxSize = maxFramedSize(content.writeIndex(), compressionThreshold);
+        try (var hold = ObjectPool.packetPool(maxSize).hold()) {
+            final ByteBuffer buffer = hold.get();
+            // Only fails for packets larger than the protocol limit
+            if (!writeFramedPacket(buffer, content, compressionThreshold)) throw new BufferOverflowException();
+            return function.apply(buffer.flip());
+        }
+    }
+
+    /**
+     * Serializes the id and content of a packet in the scratch buffer of the current thread,
+     * to be framed once in the first buffer able to contain it.
+     *
+     * @return the scratch buffer, only valid until the next serialization of the current thread
+     */
+    @ApiStatus.Internal
+    public static @NotNull NetworkBuffer serializePacket(@NotNull ServerPacket packet) {
+        return serializePacket(packet.getId(), packet);
+    }
+
+    /**
+     * Serializes the id and content of a packet in the scratch buffer of the current thread.
+     *
+     * @return the scratch buffer, containing the packet from index 0 to its write index
+     */
+    private static NetworkBuffer serializePacket(int id, NetworkBuffer.Writer writer) {
+        NetworkBuffer content = LOCAL_CONTENT.get();
+        content.clear();
+        content.write(NetworkBuffer.VAR_INT, id);
+        content.write(writer);
+        return content;
+    }
+
+    /**
+     * Frames a serialized packet if it fits in the remaining space of the buffer.
+     *
+     * @return true if the packet has been written, false if the buffer is left unchanged
+     */
+    private static boolean writeFramedPacket(ByteBuffer buffer, NetworkBuffer content, int compressionThreshold) {
+        final int start = buffer.position();
+        final int packetSize = content.writeIndex();
         if (compressionThreshold <= 0) {
             // Uncompressed format https://wiki.vg/Protocol#Without_compression
-            final int lengthIndex = networkBuffer.skipWrite(3);
-            networkBuffer.write(NetworkBuffer.VAR_INT, id);
-            networkBuffer.write(writer);
-            final int finalSize = networkBuffer.writeIndex() - (lengthIndex + 3);
-            Utils.writeVarIntHeader(buffer, lengthIndex, finalSize);
-            buffer.position(networkBuffer.writeIndex());
-            return;
+            if (buffer.remaining() < 3 + packetSize) return false;
+            Utils.writeVarIntHeader(buffer, start, packetSize);
+            content.copyTo(0, buffer, start + 3, packetSize);
+            buffer.position(start + 3 + packetSize);
+            return true;
         }
         // Compressed format https://wiki.vg/Protocol#With_compression
-        final int compressedIndex = networkBuffer.skipWrite(3);
-        final int uncompressedIndex = networkBuffer.skipWrite(3);
-
-        final int contentStart = networkBuffer.writeIndex();
-        networkBuffer.write(NetworkBuffer.VAR_INT, id);
-        networkBuffer.write(writer);
-        final int packetSize = networkBuffer.writeIndex() - contentStart;
+        final int contentStart = start + 6;
+        if (buffer.remaining() < 6) return false;
         final boolean compressed = packetSize >= compressionThreshold;
+        int contentSize = packetSize;
         if (compressed) {
             // Packet large enough, compress it
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                final ByteBuffer input = hold.get().put(0, buffer, contentStart, packetSize);
-                Deflater deflater = LOCAL_DEFLATER.get();
-                deflater.setInput(input.limit(packetSize));
+            Deflater deflater = LOCAL_DEFLATER.get();
+            try {
+                deflater.setInput(content.asByteBuffer(0, packetSize));
                 deflater.finish();
                 deflater.deflate(buffer.position(contentStart));
+                contentSize = buffer.position() - contentStart;
+                if (!deflater.finished()) {
+                    // The compressed packet does not fit in the remaining space
+                    buffer.position(start);
+                    return false;
+                }
+            } finally {
                 deflater.reset();
-
-                networkBuffer.skipWrite(buffer.position() - contentStart);
             }
+        } else {
+            if (buffer.remaining() < 6 + packetSize) return false;
+            content.copyTo(0, buffer, contentStart, packetSize);
         }
         // Packet header (Packet + Data Length)
-        Utils.writeVarIntHeader(buffer, compressedIndex, networkBuffer.writeIndex() - uncompressedIndex);
-        Utils.writeVarIntHeader(buffer, uncompressedIndex, compressed ? packetSize : 0);
+        Utils.writeVarIntHeader(buffer, start, 3 + contentSize);
+        Utils.writeVarIntHeader(buffer, start + 3, compressed ? packetSize : 0);
+        buffer.position(contentStart + contentSize);
+        return true;
+    }
 
-        buffer.position(networkBuffer.writeIndex());
+    /**
+     * Gets the maximum size of a framed packet, compressed packets use the zlib bound.
+     */
+    private static int maxFramedSize(int packetSize, int compressionThreshold) {
+        if (compressionThreshold <= 0) return 3 + packetSize;
+        if (packetSize < compressionThreshold) return 6 + packetSize;
+        return 6 + packetSize + (packetSize >> 12) + (packetSize >> 14) + (packetSize >> 25) + 13;
     }
 
     @ApiStatus.Internal
@@ -307,41 +513,62 @@ public final class PacketUtils {
 
     @ApiStatus.Internal
     public static FramedPacket allocateTrimmedPacket(@NotNull ServerPacket packet) {
-        try (var hold = ObjectPool.PACKET_POOL.hold()) {
-            final ByteBuffer temp = PacketUtils.createFramedPacket(hold.get(), packet);
+        return useFramedPacket(packet, MinecraftServer.getCompressionThreshold() > 0, temp -> {
             final int size = temp.remaining();
             final ByteBuffer buffer = ByteBuffer.allocateDirect(size).put(0, temp, 0, size);
             return new FramedPacket(packet, buffer);
-        }
+        });
     }
 
     private static final class ViewableStorage {
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
+        // Entity id -> offsets of the packets only sent to the viewers in a specific level of detail band
+        private final Int2ObjectMap<LodOffsets> lodOffsets = new Int2ObjectOpenHashMap<>();
         private final BinaryBuffer buffer = ObjectPool.BUFFER_POOL.getAndRegister(this);
 
-        private synchronized void append(Viewable viewable, ServerPacket serverPacket, Player player) {
-            try (var hold = ObjectPool.PACKET_POOL.hold()) {
-                final ByteBuffer framedPacket = createFramedPacket(hold.get(), serverPacket);
+        private synchronized void append(Viewable viewable, ServerPacket serverPacket, Player player,
+                                         @Nullable Entity lodEntity, int lodBand) {
+            final boolean compression = MinecraftServer.getCompressionThreshold() > 0;
+            // Most packets are framed directly in the remaining space
+            final int start = buffer.writerOffset();
+            final ByteBuffer target = buffer.asByteBuffer(start, buffer.capacity() - start);
+            final NetworkBuffer content = serializePacket(serverPacket);
+            if (tryWriteFramedPacket(target, content, compression)) {
+                this.buffer.writerOffset(start + target.position());
+                register(start, player, lodEntity, lodBand);
+                return;
+            }
+            useFramedPacket(content, compression, framedPacket -> {
                 final int packetSize = framedPacket.limit();
                 if (packetSize >= buffer.capacity()) {
                     process(viewable);
                     for (Player viewer : viewable.getViewers()) {
-                        if (!Objects.equals(player, viewer)) {
+                        if (!Objects.equals(player, viewer) &&
+                                (lodEntity == null || lodEntity.getUpdateLodBand(viewer) == lodBand)) {
                             writeTo(viewer.getPlayerConnection(), framedPacket, 0, packetSize);
                         }
                     }
-                    return;
+                    return null;
                 }
                 if (!buffer.canWrite(packetSize)) process(viewable);
-                final int start = buffer.writerOffset();
+                final int offset = buffer.writerOffset();
                 this.buffer.write(framedPacket);
-                final int end = buffer.writerOffset();
-                if (player != null) {
-                    final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
-                    LongList list = entityIdMap.computeIfAbsent(player.getEntityId(), id -> new LongArrayList());
-                    list.add(offsets);
-                }
+                register(offset, player, lodEntity, lodBand);
+                return null;
+            });
+        }
+
+        private void register(int start, Player player, @Nullable Entity lodEntity, int lodBand) {
+            final int end = buffer.writerOffset();
+            final long offsets = (long) start << 32 | end & 0xFFFFFFFFL;
+            if (player != null) {
+                LongList list = entityIdMap.computeIfAbsent(player.getEntityId(), id -> new LongArrayList());
+                list.add(offsets);
+            }
+            if (lodEntity != null) {
+                LodOffsets lod = lodOffsets.computeIfAbsent(lodEntity.getEntityId(), id -> new LodOffsets(lodEntity));
+                lod.bands().computeIfAbsent(lodBand, band -> new LongArrayList()).add(offsets);
             }
         }
 
@@ -352,12 +579,31 @@ public final class PacketUtils {
             viewable.getViewers().forEach(player -> processPlayer(player, copy));
             this.buffer.clear();
             this.entityIdMap.clear();
+            this.lodOffsets.clear();
         }
 
         private void processPlayer(Player player, ByteBuffer buffer) {
             final int size = buffer.limit();
             final PlayerConnection connection = player.getPlayerConnection();
-            final LongArrayList pairs = entityIdMap.get(player.getEntityId());
+            LongArrayList pairs = entityIdMap.get(player.getEntityId());
+            if (!lodOffsets.isEmpty()) {
+                // Skip the packets of other level of detail bands
+                final int playerId = player.getEntityId();
+                LongArrayList skipped = null;
+                for (LodOffsets lod : lodOffsets.values()) {
+                    if (lod.entity().getEntityId() == playerId) continue;
+                    final int band = lod.entity().getUpdateLodBand(player);
+                    for (Int2ObjectMap.Entry<LongArrayList> entry : lod.bands().int2ObjectEntrySet()) {
+                        if (entry.getIntKey() == band) continue;
+                        if (skipped == null) skipped = pairs != null ? new LongArrayList(pairs) : new LongArrayList();
+                        skipped.addAll(entry.getValue());
+                    }
+                }
+                if (skipped != null) {
+                    LongArrays.unstableSort(skipped.elements(), 0, skipped.size());
+                    pairs = skipped;
+                }
+            }
             if (pairs != null) {
                 // Ensure that we skip the specified parts of the buffer
                 int lastWrite = 0;
@@ -375,6 +621,15 @@ public final class PacketUtils {
             }
         }
 
+        /**
+         * Offsets (32:32 bits) of the packets of an entity, grouped by level of detail band.
+         */
+        private record LodOffsets(Entity entity, Int2ObjectMap<LongArrayList> bands) {
+            LodOffsets(Entity entity) {
+                this(entity, new Int2ObjectOpenHashMap<>());
+            }
+        }
+
         private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
             if (connection instanceof PlayerSocketConnection socketConnection) {
                 socketConnection.write(buffer, offset, length);
@@ -383,4 +638,70 @@ public final class PacketUtils {
             // TODO for non-socket connection
         }
     }
+
+    private static @Nullable BlockEntityDataPacket blockEntityPacket(@NotNull Vec blockPosition, @NotNull Block block) {
+        final var registry = block.registry();
+        if (!registry.isBlockEntity()) return null;
+        return new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), BlockUtils.extractClientNbt(block));
+    }
+
+    private static final class BlockChangeStorage {
+        // Section Y -> section relative positions (x << 8 | z << 4 | y)
+        private final Int2ObjectMap<ShortSet> sections = new Int2ObjectOpenHashMap<>();
+        private int count;
+
+        private void append(int x, int y, int z) {
+            if (count > BLOCK_CHANGE_RESEND_THRESHOLD) return; // Chunk will be resent
+            ShortSet positions = sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), s -> new ShortOpenHashSet());
+            final short position = (short) (ChunkUtils.toSectionRelativeCoordinate(x) << 8 |
+                    ChunkUtils.toSectionRelativeCoordinate(z) << 4 |
+                    ChunkUtils.toSectionRelativeCoordinate(y));
+            if (positions.add(position) && ++count > BLOCK_CHANGE_RESEND_THRESHOLD) {
+                this.sections.clear();
+            }
+        }
+
+        private void process(Chunk chunk) {
+            if (!chunk.isLoaded()) return;
+            if (count > BLOCK_CHANGE_RESEND_THRESHOLD) {
+                chunk.sendChunk();
+                return;
+            }
+            final int chunkX = chunk.getChunkX();
+            final int chunkZ = chunk.getChunkZ();
+            List<ServerPacket> packets = new ArrayList<>(sections.size());
+            List<ServerPacket> blockEntityPackets = null;
+            synchronized (chunk) {
+                for (Int2ObjectMap.Entry<ShortSet> entry : sections.int2ObjectEntrySet()) {
+                    final int sectionY = entry.getIntKey();
+                    final ShortSet positions = entry.getValue();
+                    final long[] blocks = new long[positions.size()];
+                    int index = 0;
+                    for (ShortIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+                        final short position = iterator.nextShort();
+                        final Vec blockPosition = new Vec(chunkX * Chunk.CHUNK_SIZE_X + (position >> 8 & 0xF),
+                                sectionY * Chunk.CHUNK_SECTION_SIZE + (position & 0xF),
+                                chunkZ * Chunk.CHUNK_SIZE_Z + (position >> 4 & 0xF));
+                        final Block block = chunk.getBlock(blockPosition);
+                        if (blocks.length == 1) {
+                            packets.add(new BlockChangePacket(blockPosition, block.stateId()));
+                        } else {
+                            blocks[index++] = (long) block.stateId() << 12 | position;
+                        }
+                        final BlockEntityDataPacket blockEntityPacket = blockEntityPacket(blockPosition, block);
+                        if (blockEntityPacket != null) {
+                            if (blockEntityPackets == null) blockEntityPackets = new ArrayList<>();
+                            blockEntityPackets.add(blockEntityPacket);
+                        }
+                    }
+                    if (blocks.length > 1) {
+                        packets.add(new MultiBlockChangePacket(chunkX, sectionY, chunkZ, false, blocks));
+                    }
+                }
+            }
+            // Block entities must be sent after their block
+            if (blockEntityPackets != null) packets.addAll(blockEntityPackets);
+            for (ServerPacket packet : packets) chunk.sendPacketToViewers(packet);
+        }
+    }
 }
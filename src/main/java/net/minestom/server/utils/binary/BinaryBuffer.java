@@ -43,7 +43,7 @@ public final class BinaryBuffer {
     public static BinaryBuffer copy(BinaryBuffer buffer) {
         final int size = buffer.readableBytes();
         final var temp = ByteBuffer.allocateDirect(size)
-                .put(buffer.asByteBuffer(0, size));
+                .put(buffer.asByteBuffer(buffer.readerOffset, size));
         BinaryBuffer newBuffer = new BinaryBuffer(temp);
         newBuffer.writerOffset = size;
         return newBuffer;
@@ -113,6 +113,10 @@ public final class BinaryBuffer {
         return writerOffset;
     }
 
+    public void writerOffset(int offset) {
+        this.writerOffset = offset;
+    }
+
     public int readableBytes() {
         return writerOffset - readerOffset;
     }
@@ -19,6 +19,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public final class DimensionTypeManager {
 
     private final List<DimensionType> dimensionTypes = new CopyOnWriteArrayList<>();
+    private volatile NBTCompound nbt;
 
     public DimensionTypeManager() {
         addDimension(DimensionType.OVERWORLD);
@@ -32,6 +33,7 @@ public final class DimensionTypeManager {
     public void addDimension(@NotNull DimensionType dimensionType) {
         dimensionType.registered = true;
         this.dimensionTypes.add(dimensionType);
+        this.nbt = null;
     }
 
     /**
@@ -42,7 +44,9 @@ public final class DimensionTypeManager {
      */
     public boolean removeDimension(@NotNull DimensionType dimensionType) {
         dimensionType.registered = false;
-        return dimensionTypes.remove(dimensionType);
+        final boolean removed = dimensionTypes.remove(dimensionType);
+        this.nbt = null;
+        return removed;
     }
 
     /**
@@ -83,11 +87,17 @@ public final class DimensionTypeManager {
     /**
      * Creates the {@link NBTCompound} containing all the registered dimensions.
      * <p>
-     * Used when a player connects.
+     * Used when a player connects, the same compound is returned until the dimensions change.
      *
      * @return an nbt compound containing the registered dimensions
      */
     public @NotNull NBTCompound toNBT() {
+        NBTCompound nbt = this.nbt;
+        if (nbt == null) this.nbt = nbt = createNBT();
+        return nbt;
+    }
+
+    private NBTCompound createNBT() {
         return NBT.Compound(dimensions -> {
             dimensions.setString("type", "minecraft:dimension_type");
             dimensions.set("value", NBT.List(
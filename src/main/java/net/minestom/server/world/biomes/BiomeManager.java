@@ -19,6 +19,7 @@ import java.util.Map;
  */
 public final class BiomeManager {
     private final Int2ObjectMap<Biome> biomes = new Int2ObjectOpenHashMap<>();
+    private NBTCompound nbt;
 
     public BiomeManager() {
         addBiome(Biome.PLAINS);
@@ -31,6 +32,7 @@ public final class BiomeManager {
      */
     public synchronized void addBiome(Biome biome) {
         this.biomes.put(biome.id(), biome);
+        this.nbt = null;
     }
 
     /**
@@ -40,6 +42,7 @@ public final class BiomeManager {
      */
     public synchronized void removeBiome(Biome biome) {
         this.biomes.remove(biome.id());
+        this.nbt = null;
     }
 
     /**
@@ -72,9 +75,19 @@ public final class BiomeManager {
         return biome;
     }
 
+    /**
+     * Creates the {@link NBTCompound} containing all the registered biomes,
+     * the same compound is returned until the biomes change.
+     *
+     * @return an nbt compound containing the registered biomes
+     */
     public synchronized NBTCompound toNBT() {
-        return NBT.Compound(Map.of(
-                "type", NBT.String("minecraft:worldgen/biome"),
-                "value", NBT.List(NBTType.TAG_Compound, biomes.values().stream().map(Biome::toNbt).toList())));
+        NBTCompound nbt = this.nbt;
+        if (nbt == null) {
+            this.nbt = nbt = NBT.Compound(Map.of(
+                    "type", NBT.String("minecraft:worldgen/biome"),
+                    "value", NBT.List(NBTType.TAG_Compound, biomes.values().stream().map(Biome::toNbt).toList())));
+        }
+        return nbt;
     }
 }
@@ -3,10 +3,10 @@ package net.minestom.server;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ServerProcessTest {
 
@@ -27,4 +27,18 @@ public class ServerProcessTest {
         assertDoesNotThrow(() -> ticker.tick(System.currentTimeMillis()));
         assertDoesNotThrow(process::stop);
     }
+
+    @Test
+    public void startupTimings() {
+        var process = MinecraftServer.updateProcess();
+        var timings = process.startupTimings();
+        assertTrue(timings.keySet().containsAll(List.of("blocks", "materials", "tags", "managers", "construction")));
+        assertFalse(timings.containsKey("start"));
+
+        process.start(new InetSocketAddress("localhost", 0));
+        timings = process.startupTimings();
+        assertEquals("start", List.copyOf(timings.keySet()).get(timings.size() - 1));
+        assertTrue(timings.get("start").compareTo(timings.get("bind")) >= 0);
+        assertDoesNotThrow(process::stop);
+    }
 }
@@ -1,9 +1,11 @@
 package net.minestom.server.command;
 
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,6 +47,31 @@ public class CommandManagerTest {
         assertTrue(check.get());
     }
 
+    @Test
+    public void testDeclareCommandsPacketCache() {
+        var manager = new CommandManager();
+        var first = new Player(UUID.randomUUID(), "first", null);
+        var second = new Player(UUID.randomUUID(), "second", null);
+        var third = new Player(UUID.randomUUID(), "third", null);
+
+        var command = new Command("foo");
+        command.setCondition((sender, commandString) -> sender != third);
+        manager.register(command);
+
+        var packet = manager.getDeclareCommandsPacket(first);
+        assertSame(packet, manager.getDeclareCommandsPacket(second));
+        assertNotSame(packet, manager.getDeclareCommandsPacket(third));
+
+        // Modifying a registered command must invalidate the cache
+        command.addSubcommand(new Command("bar"));
+        assertNotSame(packet, manager.getDeclareCommandsPacket(first));
+        assertEquals(3, manager.createDeclareCommandsPacket(first).nodes().size());
+
+        packet = manager.getDeclareCommandsPacket(first);
+        manager.register(new Command("baz"));
+        assertNotSame(packet, manager.getDeclareCommandsPacket(first));
+    }
+
     private static void assertNodeEquals(DeclareCommandsPacket.Node node, byte flags, int[] children, int redirectedNode,
                                          String name, String parser, byte[] properties, String suggestionsType) {
         assertEquals(flags, node.flags);
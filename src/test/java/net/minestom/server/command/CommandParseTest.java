@@ -68,6 +68,24 @@ public class CommandParseTest {
         assertUnknown(foo, "add");
     }
 
+    @Test
+    public void manyLiteralsWithFallback() {
+        final AtomicBoolean literal = new AtomicBoolean();
+        final AtomicBoolean fallback = new AtomicBoolean();
+        var builder = Graph.builder(Literal("foo"));
+        for (int i = 0; i < 50; i++) {
+            builder.append(Literal("sub" + i), x -> x.append(Literal("end"), createExecutor(literal)));
+        }
+        builder.append(Word("name"), createExecutor(fallback));
+        var foo = Graph.merge(builder.build());
+        assertValid(foo, "foo sub25 end", literal);
+        assertValid(foo, "foo sub49 end", literal);
+        assertValid(foo, "foo sub50", fallback);
+        assertValid(foo, "foo sub25", fallback);
+        assertSyntaxError(foo, "foo sub25 other");
+        assertSyntaxError(foo, "foo sub25 end other");
+    }
+
     @Test
     public void singleCommandOptionalArgs() {
         final AtomicBoolean b = new AtomicBoolean();
@@ -0,0 +1,60 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityActivationIntegrationTest {
+
+    @Test
+    public void dormant(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        instance.setEntityActivation(EntityType.ZOMBIE, new EntityActivation(32, 0));
+        var near = new Entity(EntityType.ZOMBIE);
+        near.setNoGravity(true);
+        near.setInstance(instance, new Pos(8, 40, 0)).join();
+        var far = new Entity(EntityType.ZOMBIE);
+        far.setNoGravity(true);
+        far.setInstance(instance, new Pos(48, 40, 0)).join();
+
+        for (int i = 0; i < EntityActivation.CHECK_INTERVAL; i++) env.tick();
+        assertFalse(near.isDormant());
+        assertTrue(far.isDormant());
+
+        final long nearTicks = near.getAliveTicks();
+        final long farTicks = far.getAliveTicks();
+        for (int i = 0; i < 5; i++) env.tick();
+        assertEquals(nearTicks + 5, near.getAliveTicks());
+        assertEquals(farTicks, far.getAliveTicks());
+
+        far.wake();
+        assertFalse(far.isDormant());
+        env.tick();
+        assertEquals(farTicks + 1, far.getAliveTicks());
+    }
+
+    @Test
+    public void reducedRate(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        instance.setEntityActivation(EntityType.ZOMBIE, new EntityActivation(16, 5));
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setInstance(instance, new Pos(48, 40, 0)).join();
+        for (int i = 0; i < EntityActivation.CHECK_INTERVAL; i++) env.tick();
+        assertTrue(entity.isDormant());
+
+        final long ticks = entity.getAliveTicks();
+        for (int i = 0; i < 10; i++) env.tick();
+        assertEquals(ticks + 2, entity.getAliveTicks());
+    }
+}
@@ -0,0 +1,34 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.entity.EntityTickEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityTickEventIntegrationTest {
+
+    @Test
+    public void lateListener(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        // Tick without any listener
+        env.tick();
+
+        List<EntityTickEvent> events = new ArrayList<>();
+        entity.eventNode().addListener(EntityTickEvent.class, events::add);
+        env.tick();
+        env.tick();
+        assertEquals(2, events.size());
+        assertSame(entity, events.get(0).getEntity());
+        assertSame(events.get(0), events.get(1), "The tick event should be reused");
+    }
+}
@@ -0,0 +1,61 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityUpdateLodIntegrationTest {
+
+    @Test
+    public void band() {
+        var lod = EntityUpdateLod.of(new EntityUpdateLod.Band(16, 2), new EntityUpdateLod.Band(32, 4));
+        assertEquals(0, lod.band(0));
+        assertEquals(0, lod.band(15 * 15));
+        assertEquals(1, lod.band(16 * 16));
+        assertEquals(1, lod.band(31 * 31));
+        assertEquals(2, lod.band(100 * 100));
+        assertThrows(IllegalArgumentException.class, () -> EntityUpdateLod.of(new EntityUpdateLod.Band(32, 2),
+                new EntityUpdateLod.Band(16, 4)));
+    }
+
+    @Test
+    public void farViewers(Env env) {
+        var instance = env.createFlatInstance();
+        var nearConnection = env.createConnection();
+        nearConnection.connect(instance, new Pos(0, 40, 0)).join();
+        var farConnection = env.createConnection();
+        farConnection.connect(instance, new Pos(40, 40, 0)).join();
+
+        var entity = new Entity(EntityTypes.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.updateViewableRule(player -> true);
+        entity.setUpdateLod(EntityUpdateLod.of(new EntityUpdateLod.Band(16, 4)));
+        entity.setInstance(instance, new Pos(0, 40, 2)).join();
+        env.tick();
+        env.tick();
+
+        var nearMoves = nearConnection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var nearTeleports = nearConnection.trackIncoming(EntityTeleportPacket.class);
+        var farMoves = farConnection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var farTeleports = farConnection.trackIncoming(EntityTeleportPacket.class);
+        Pos position = entity.getPosition();
+        for (int i = 0; i < 8; i++) {
+            position = position.add(0.1, 0, 0);
+            entity.refreshPosition(position);
+            env.tick();
+        }
+
+        nearMoves.assertCount(8);
+        nearTeleports.assertEmpty();
+        farMoves.assertEmpty();
+        var teleports = farTeleports.collect();
+        assertEquals(2, teleports.size());
+        assertEquals(entity.getEntityId(), teleports.get(1).entityId());
+    }
+}
@@ -0,0 +1,88 @@
+package net.minestom.server.entity.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.MovementCoalescing;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.packet.server.play.DisconnectPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerMovementCoalescingIntegrationTest {
+
+    @Test
+    public void coalesce(Env env) {
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        player.setMovementCoalescing(MovementCoalescing.ALWAYS);
+        List<Pos> moves = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerMoveEvent.class, event -> moves.add(event.getNewPosition()));
+
+        player.addPacketToQueue(new ClientTeleportConfirmPacket(player.getLastSentTeleportId()));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        player.addPacketToQueue(new ClientPlayerRotationPacket(90, 10, false));
+        player.interpretPacketQueue();
+
+        assertEquals(List.of(new Pos(0.4, 40, 0, 90, 10)), moves);
+        assertEquals(new Pos(0.4, 40, 0, 90, 10), player.getPosition());
+        assertFalse(player.isOnGround());
+    }
+
+    @Test
+    public void order(Env env) {
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        player.setMovementCoalescing(MovementCoalescing.ALWAYS);
+        List<Pos> moves = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerMoveEvent.class, event -> moves.add(event.getNewPosition()));
+
+        player.addPacketToQueue(new ClientTeleportConfirmPacket(player.getLastSentTeleportId()));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        player.addPacketToQueue(new ClientHeldItemChangePacket((short) 1));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        player.interpretPacketQueue();
+
+        assertEquals(List.of(new Pos(0.2, 40, 0), new Pos(0.4, 40, 0)), moves);
+        assertEquals(1, player.getHeldSlot());
+    }
+
+    @Test
+    public void withoutListeners(Env env) {
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        player.setMovementCoalescing(MovementCoalescing.WITHOUT_LISTENERS);
+        List<Pos> moves = new ArrayList<>();
+        env.process().eventHandler().addListener(PlayerMoveEvent.class, event -> moves.add(event.getNewPosition()));
+
+        player.addPacketToQueue(new ClientTeleportConfirmPacket(player.getLastSentTeleportId()));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        player.interpretPacketQueue();
+
+        // Every packet is processed to keep the event semantics
+        assertEquals(List.of(new Pos(0.2, 40, 0), new Pos(0.4, 40, 0)), moves);
+    }
+
+    @Test
+    public void flood(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        Player player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        var tracker = connection.trackIncoming(DisconnectPacket.class);
+
+        for (int i = 0; i < 1001; i++) {
+            player.addPacketToQueue(new ClientPlayerPacket(true));
+        }
+        player.interpretPacketQueue();
+        tracker.assertSingle();
+    }
+}
@@ -0,0 +1,99 @@
+package net.minestom.server.instance;
+
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.PacketUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Run by the {@code coalescedBlockChangeTest} task, with {@code minestom.coalesced-block-change} enabled.
+ */
+@EnvTest
+public class BlockChangeCoalescingIntegrationTest {
+
+    @BeforeEach
+    public void coalescing() {
+        assumeTrue(PacketUtils.COALESCED_BLOCK_CHANGE, "Block change coalescing disabled");
+    }
+
+    @Test
+    public void flush(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var tracker = connection.trackIncoming(BlockChangePacket.class);
+        instance.setBlock(0, 41, 0, Block.STONE);
+        tracker.assertEmpty(); // Sent during flush
+        env.tick();
+        tracker.assertSingle(packet -> {
+            assertEquals(new Vec(0, 41, 0), packet.blockPosition());
+            assertEquals(Block.STONE.stateId(), packet.blockStateId());
+        });
+    }
+
+    @Test
+    public void coalesceSection(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var singleTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        instance.setBlock(0, 41, 0, Block.STONE);
+        instance.setBlock(1, 41, 0, Block.STONE);
+        instance.setBlock(1, 41, 0, Block.DIAMOND_BLOCK); // Only the last state is sent
+        instance.setBlock(0, 50, 0, Block.STONE); // Next section
+        env.tick();
+        singleTracker.assertSingle(packet -> {
+            assertEquals(new Vec(0, 50, 0), packet.blockPosition());
+            assertEquals(Block.STONE.stateId(), packet.blockStateId());
+        });
+        multiTracker.assertSingle(packet -> {
+            assertEquals(2, packet.blocks().length);
+            for (long entry : packet.blocks()) {
+                final int position = (int) (entry & 0xFFF);
+                final int expected = position == 9 ? Block.STONE.stateId() :
+                        position == (1 << 8 | 9) ? Block.DIAMOND_BLOCK.stateId() : -1;
+                assertEquals(expected, (int) (entry >>> 12));
+            }
+        });
+    }
+
+    @Test
+    public void coalesceResend(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        var blockTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        int count = 0;
+        for (int y = 41; y < 100 && count <= PacketUtils.BLOCK_CHANGE_RESEND_THRESHOLD; y++) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    instance.setBlock(x, y, z, Block.STONE);
+                    count++;
+                }
+            }
+        }
+        assertTrue(count > PacketUtils.BLOCK_CHANGE_RESEND_THRESHOLD);
+        env.tick();
+        assertEquals(1, chunkTracker.collect().stream()
+                .filter(packet -> packet.chunkX() == 0 && packet.chunkZ() == 0).count());
+        blockTracker.assertEmpty();
+        multiTracker.assertEmpty();
+    }
+}
@@ -52,6 +52,20 @@ public class BlockTest {
         assertNotEquals(block.withProperty("facing", "north"), block.withProperty("facing", "south"));
     }
 
+    @Test
+    public void stateTable() {
+        for (Block block : Block.values()) {
+            for (var possible : block.possibleStates()) {
+                assertSame(possible, Block.fromStateId((short) possible.stateId()));
+                assertEquals(possible, block.withProperties(possible.properties()));
+                for (var property : possible.properties().entrySet()) {
+                    assertSame(possible, block.withProperty(property.getKey(), property.getValue())
+                            .withProperties(possible.properties()));
+                }
+            }
+        }
+    }
+
     @Test
     public void invalidProperties() {
         Block block = Block.CHEST;
@@ -0,0 +1,166 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GenerationUnit;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkGenerationPoolIntegrationTest {
+
+    @Test
+    public void batch(Env env) {
+        var pool = new ChunkGenerationPool(1, 4);
+        var instance = env.process().instance().createInstanceContainer();
+        instance.setGenerationPool(pool);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> batches = new CopyOnWriteArrayList<>();
+        instance.setGenerator(new Generator() {
+            @Override
+            public void generate(@NotNull GenerationUnit unit) {
+                unit.modifier().fill(Block.STONE);
+            }
+
+            @Override
+            public void generateAll(@NotNull Collection<@NotNull GenerationUnit> units) {
+                batches.add(units.size());
+                await(latch);
+                Generator.super.generateAll(units);
+            }
+        });
+
+        var first = instance.loadChunk(0, 0);
+        awaitQueued(pool, 0, 1);
+        List<CompletableFuture<Chunk>> futures = List.of(instance.loadChunk(1, 0), instance.loadChunk(2, 0),
+                instance.loadChunk(3, 0), instance.loadChunk(4, 0));
+        awaitQueued(pool, 4, 1);
+        latch.countDown();
+
+        first.join();
+        futures.forEach(CompletableFuture::join);
+        assertEquals(List.of(1, 4), batches);
+        assertEquals(Block.STONE, instance.getBlock(64, 0, 0));
+        assertEquals(5, pool.metrics().generated());
+        pool.shutdown();
+    }
+
+    @Test
+    public void cancel(Env env) {
+        var pool = new ChunkGenerationPool(1, 1);
+        var instance = env.process().instance().createInstanceContainer();
+        instance.setGenerationPool(pool);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> generated = new CopyOnWriteArrayList<>();
+        instance.setGenerator(unit -> {
+            generated.add(unit.absoluteStart().chunkX());
+            await(latch);
+        });
+
+        var first = instance.loadChunk(0, 0);
+        awaitQueued(pool, 0, 1);
+        var cancelled = instance.loadChunk(1, 0);
+        awaitQueued(pool, 1, 1);
+        assertTrue(cancelled.cancel(false));
+        latch.countDown();
+
+        first.join();
+        env.tickWhile(() -> pool.metrics().queued() != 0, Duration.ofSeconds(5));
+        assertEquals(List.of(0), generated);
+        assertEquals(1, pool.metrics().cancelled());
+        assertNull(instance.getChunk(1, 0));
+        // The chunk can be requested again
+        assertNotNull(instance.loadChunk(1, 0).join());
+        assertEquals(List.of(0, 1), generated);
+        pool.shutdown();
+    }
+
+    @Test
+    public void dropUnviewed(Env env) throws InterruptedException {
+        var pool = new ChunkGenerationPool(1, 1);
+        var instance = env.process().instance().createInstanceContainer();
+        instance.setGenerationPool(pool);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> generated = new CopyOnWriteArrayList<>();
+        instance.setGenerator(unit -> {
+            generated.add(unit.absoluteStart().chunkX());
+            await(latch);
+        });
+
+        var first = instance.loadChunk(0, 0);
+        awaitQueued(pool, 0, 1);
+        // No player views the chunk, only the explicit load is kept
+        var viewed = instance.loadViewedChunk(1, 0);
+        var requested = instance.loadChunk(2, 0);
+        awaitQueued(pool, 2, 1);
+        // Wait for the next reprioritization to be due
+        Thread.sleep(100);
+        latch.countDown();
+
+        first.join();
+        requested.join();
+        assertTrue(viewed.isCompletedExceptionally());
+        assertEquals(List.of(0, 2), generated);
+        assertEquals(1, pool.metrics().cancelled());
+        assertNull(instance.getChunk(1, 0));
+        pool.shutdown();
+    }
+
+    @Test
+    public void nearestFirst(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var pool = new ChunkGenerationPool(1, 1);
+        instance.setGenerationPool(pool);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> generated = new CopyOnWriteArrayList<>();
+        instance.setGenerator(unit -> {
+            generated.add(unit.absoluteStart().chunkX());
+            await(latch);
+        });
+
+        var first = instance.loadChunk(30, 0);
+        awaitQueued(pool, 0, 1);
+        var futures = List.of(instance.loadChunk(20, 0), instance.loadChunk(12, 0), instance.loadChunk(16, 0));
+        awaitQueued(pool, 3, 1);
+        latch.countDown();
+
+        first.join();
+        futures.forEach(CompletableFuture::join);
+        assertEquals(List.of(30, 12, 16, 20), generated);
+        pool.shutdown();
+    }
+
+    private static void awaitQueued(ChunkGenerationPool pool, int queued, int generating) {
+        final long start = System.nanoTime();
+        while (pool.metrics().queued() != queued || pool.metrics().generating() != generating) {
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos(), "Timeout: " + pool.metrics());
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class ChunkViewerIntegrationTest {
@@ -60,4 +61,20 @@ public class ChunkViewerIntegrationTest {
             assertEquals(count, tracker.collect().size());
         }
     }
+
+    @Test
+    public void nearestFirst(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(ChunkDataPacket.class);
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+        var packets = tracker.collect();
+        assertEquals(ChunkUtils.getChunkCount(MinecraftServer.getChunkViewDistance()), packets.size());
+        int lastDistance = 0;
+        for (ChunkDataPacket packet : packets) {
+            final int distance = packet.chunkX() * packet.chunkX() + packet.chunkZ() * packet.chunkZ();
+            assertTrue(distance >= lastDistance, "Chunks must be sent nearest first");
+            lastDistance = distance;
+        }
+    }
 }
@@ -73,4 +73,55 @@ public class InstanceBlockIntegrationTest {
         instance.setBlock(point, Block.GRASS.withTag(tag, 8));
         assertEquals(8, instance.getBlock(point).getTag(tag));
     }
+
+    @Test
+    public void fillRegion(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        var tag = Tag.Integer("key");
+        instance.fill(new Vec(10, 45, 2), new Vec(20, 70, 4), Block.STONE.withTag(tag, 5));
+        assertEquals(Block.AIR, instance.getBlock(9, 45, 2));
+        assertEquals(Block.AIR, instance.getBlock(20, 45, 2));
+        assertEquals(Block.AIR, instance.getBlock(10, 70, 2));
+        assertEquals(Block.AIR, instance.getBlock(10, 45, 4));
+        for (int x = 10; x < 20; x++) {
+            for (int y = 45; y < 70; y++) {
+                for (int z = 2; z < 4; z++) {
+                    assertEquals(5, instance.getBlock(x, y, z).getTag(tag));
+                }
+            }
+        }
+
+        instance.fill(new Vec(0, 0, 0), new Vec(32, 100, 16), Block.AIR);
+        assertEquals(Block.AIR, instance.getBlock(0, 0, 0));
+        assertEquals(Block.AIR, instance.getBlock(15, 50, 2));
+    }
+
+    @Test
+    public void pasteRegion(Env env) {
+        var source = env.createFlatInstance();
+        source.loadChunk(0, 0).join();
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+
+        var tag = Tag.Integer("key");
+        source.setBlock(1, 50, 1, Block.GRASS);
+        source.setBlock(2, 50, 1, Block.STONE.withTag(tag, 5));
+        instance.paste(source, new Vec(0, 38, 0), new Vec(4, 52, 4), new Vec(14, 62, 0));
+        // Stone from the generator
+        assertEquals(Block.STONE, instance.getBlock(14, 62, 0));
+        assertEquals(Block.AIR, instance.getBlock(14, 64, 0));
+        assertEquals(Block.GRASS, instance.getBlock(15, 74, 1));
+        assertEquals(5, instance.getBlock(16, 74, 1).getTag(tag));
+        assertEquals(Block.AIR, instance.getBlock(18, 74, 1));
+
+        // Overlapping copy inside the same instance
+        instance.paste(instance, new Vec(14, 74, 1), new Vec(17, 75, 2), new Vec(15, 74, 1));
+        assertEquals(Block.AIR, instance.getBlock(15, 74, 1));
+        assertEquals(Block.GRASS, instance.getBlock(16, 74, 1));
+        assertEquals(5, instance.getBlock(17, 74, 1).getTag(tag));
+    }
 }
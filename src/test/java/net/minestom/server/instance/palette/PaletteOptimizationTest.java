@@ -5,8 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class PaletteOptimizationTest {
 
@@ -44,6 +43,22 @@ public class PaletteOptimizationTest {
         paletteEquals(palette.palette, palette.optimizedPalette());
     }
 
+    @Test
+    public void directShrink() {
+        var random = new Random(12345);
+        var palette = createPalette();
+        palette.setAll((x, y, z) -> random.nextInt(1000));
+        assertTrue(palette.bitsPerEntry() > palette.maxBitsPerEntry(), "Palette should use direct values");
+        paletteEquals(palette.palette, palette.optimizedPalette());
+        // Refilled with a few values, the palette is used again
+        palette.setAll((x, y, z) -> random.nextInt(2));
+        var optimized = palette.optimizedPalette();
+        paletteEquals(palette.palette, optimized);
+        assertTrue(optimized.bitsPerEntry() <= palette.maxBitsPerEntry());
+        palette.setAll((x, y, z) -> 1);
+        assertInstanceOf(FilledPalette.class, palette.optimizedPalette());
+    }
+
     AdaptivePalette createPalette() {
         return (AdaptivePalette) Palette.blocks();
     }
@@ -128,6 +128,46 @@ public class PaletteTest {
         }
     }
 
+    @Test
+    public void fillRegion() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            final int half = dimension / 2;
+            palette.fill(0, 0, 0, half, dimension, dimension, 5);
+            assertEquals(palette.maxSize() / 2, palette.count());
+            palette.getAll((x, y, z, value) -> assertEquals(x < half ? 5 : 0, value));
+
+            palette.fill(0, 0, 0, dimension, 1, dimension, 6);
+            palette.getAll((x, y, z, value) -> assertEquals(y == 0 ? 6 : x < half ? 5 : 0, value));
+
+            assertThrows(IllegalArgumentException.class, () -> palette.fill(-1, 0, 0, 1, 1, 1, 5));
+            assertThrows(IllegalArgumentException.class, () -> palette.fill(0, 0, 0, dimension + 1, 1, 1, 5));
+        }
+    }
+
+    @Test
+    public void copyRegion() {
+        var palettes = testPalettes();
+        for (Palette palette : palettes) {
+            final int dimension = palette.dimension();
+            final int half = dimension / 2;
+            Palette source = Palette.newPalette(dimension, 5, 3);
+            source.setAll((x, y, z) -> x + y + z + 1);
+
+            palette.copyFrom(source, 0, 0, 0, half, 0, 0, half, dimension, dimension);
+            palette.getAll((x, y, z, value) -> assertEquals(x >= half ? x - half + y + z + 1 : 0, value));
+
+            palette.copyFrom(source, 0, 0, 0, 0, 0, 0, dimension, dimension, dimension);
+            palette.getAll((x, y, z, value) -> assertEquals(x + y + z + 1, value));
+            assertEquals(palette.maxSize(), palette.count());
+
+            // Overlapping copy
+            palette.copyFrom(palette, 0, 0, 0, 1, 0, 0, dimension - 1, dimension, dimension);
+            palette.getAll((x, y, z, value) -> assertEquals(x == 0 ? y + z + 1 : x + y + z, value));
+        }
+    }
+
     @Test
     public void bulk() {
         var palettes = testPalettes();
@@ -0,0 +1,50 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.map.framebuffers.Graphics2DFramebuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FramebufferDiffTest {
+
+    @Test
+    public void changedRectangle() {
+        var framebuffer = new DirectFramebuffer();
+        var full = framebuffer.prepareUpdatePacket(1).colorContent();
+        assertEquals(Framebuffer.WIDTH * Framebuffer.HEIGHT, full.data().length);
+        assertNull(framebuffer.prepareUpdatePacket(1));
+
+        framebuffer.set(10, 20, (byte) 5);
+        framebuffer.set(12, 22, (byte) 6);
+        var content = framebuffer.prepareUpdatePacket(1).colorContent();
+        assertEquals(10, content.x());
+        assertEquals(20, content.z());
+        assertEquals(3, content.columns());
+        assertEquals(3, content.rows());
+        assertEquals(5, content.data()[0]);
+        assertEquals(6, content.data()[8]);
+        assertNull(framebuffer.prepareUpdatePacket(1));
+    }
+
+    @Test
+    public void graphicsConversion() {
+        var framebuffer = new Graphics2DFramebuffer();
+        assertEquals(MapColors.closestColor(0).getIndex(), framebuffer.toMapColors()[0]);
+        framebuffer.set(3, 4, 0xFF0000);
+        assertEquals(MapColors.closestColor(0xFF0000).getIndex(), framebuffer.toMapColors()[Framebuffer.index(3, 4)]);
+        framebuffer.prepareUpdatePacket(1);
+        framebuffer.set(3, 4, 0x00FF00);
+        var content = framebuffer.prepareUpdatePacket(1).colorContent();
+        assertEquals(1, content.columns());
+        assertEquals(1, content.rows());
+        assertEquals(MapColors.closestColor(0x00FF00).getIndex(), content.data()[0]);
+    }
+
+    @Test
+    public void closestColorIndex() {
+        for (int rgb : new int[]{0, 0xFFFFFF, 0x7FB238, 0x123456}) {
+            assertEquals(MapColors.closestColor(rgb).getIndex(), MapColors.closestColorIndex(rgb));
+        }
+    }
+}
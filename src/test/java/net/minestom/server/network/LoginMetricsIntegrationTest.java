@@ -0,0 +1,73 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerLoginEvent;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LoginMetricsIntegrationTest {
+
+    @Test
+    public void stages(Env env) {
+        var instance = env.createFlatInstance();
+        env.createConnection().connect(instance, new Pos(0, 40, 0)).join();
+        env.createConnection().connect(instance, new Pos(0, 40, 0)).join();
+
+        var metrics = env.process().connection().loginMetrics();
+        assertEquals(0, metrics.waiting());
+        for (LoginMetrics.Stage stage : LoginMetrics.Stage.values()) {
+            final LoginMetrics.StageMetrics stageMetrics = metrics.stage(stage);
+            assertEquals(2, stageMetrics.count(), stage.name());
+            assertTrue(stageMetrics.averageTimeMs() >= 0, stage.name());
+            assertTrue(stageMetrics.maxTimeMs() >= stageMetrics.averageTimeMs(), stage.name());
+        }
+    }
+
+    @Test
+    public void admissionLimit(Env env) {
+        var instance = env.createFlatInstance();
+        env.process().eventHandler().addListener(PlayerLoginEvent.class, event -> {
+            event.setSpawningInstance(instance);
+            event.getPlayer().setRespawnPoint(new Pos(0, 40, 0));
+        });
+        var connectionManager = env.process().connection();
+        final int count = ConnectionManager.MAX_ADMISSIONS_PER_TICK + 1;
+        for (int i = 0; i < count; i++) {
+            var player = new Player(UUID.randomUUID(), "Player" + i, new PlayerConnection() {
+                @Override
+                public void sendPacket(@NotNull SendablePacket packet) {
+                    // nothing
+                }
+
+                @Override
+                public @NotNull SocketAddress getRemoteAddress() {
+                    return new InetSocketAddress("localhost", 25565);
+                }
+            });
+            connectionManager.startPlayState(player, true).join();
+        }
+        assertEquals(count, connectionManager.loginMetrics().waiting());
+
+        // The last player waits for the next tick
+        connectionManager.updateWaitingPlayers();
+        assertEquals(1, connectionManager.loginMetrics().waiting());
+        assertEquals(count - 1, connectionManager.loginMetrics().stage(LoginMetrics.Stage.ADMISSION).count());
+        assertEquals(count - 1, instance.getPlayers().size());
+
+        connectionManager.updateWaitingPlayers();
+        assertEquals(0, connectionManager.loginMetrics().waiting());
+        assertEquals(count, instance.getPlayers().size());
+    }
+}
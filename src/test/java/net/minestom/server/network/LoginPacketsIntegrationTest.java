@@ -0,0 +1,49 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.play.JoinGamePacket;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.world.DimensionType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LoginPacketsIntegrationTest {
+
+    @Test
+    public void sharedRegistryCodec(Env env) {
+        var instance = env.createFlatInstance();
+        final NBTCompound first = joinCodec(env, instance);
+        assertSame(first, joinCodec(env, instance));
+
+        // Encoding is unchanged
+        var packet = new JoinGamePacket(1, false, GameMode.SURVIVAL, null,
+                List.of("minecraft:overworld"), first, "minecraft:overworld", "minecraft:overworld",
+                0, 0, 8, 8, false, true, false, false, null);
+        var buffer = new NetworkBuffer();
+        packet.write(buffer);
+        assertEquals(first, new JoinGamePacket(buffer).dimensionCodec());
+
+        var dimension = DimensionType.builder(NamespaceID.from("minestom:shared_codec")).build();
+        env.process().dimension().addDimension(dimension);
+        final NBTCompound updated = joinCodec(env, instance);
+        assertNotSame(first, updated);
+        assertNotEquals(first, updated);
+    }
+
+    private static NBTCompound joinCodec(Env env, Instance instance) {
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(JoinGamePacket.class);
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+        tracker.assertSingle();
+        return tracker.collect().get(0).dimensionCodec();
+    }
+}
@@ -0,0 +1,80 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerRegistryTest {
+
+    @Test
+    public void lookup() {
+        var registry = PlayerRegistry.concurrent();
+        var alice = new Player(UUID.randomUUID(), "Alice", null);
+        var bob = new Player(UUID.randomUUID(), "Bob", null);
+        registry.add(alice);
+        registry.add(bob);
+
+        assertEquals(Set.of(alice, bob), Set.copyOf(registry.players()));
+        assertSame(alice, registry.getByUuid(alice.getUuid()));
+        assertSame(bob, registry.getByUsername("bOB"));
+        assertSame(alice, registry.getByEntityId(alice.getEntityId()));
+        assertNull(registry.getByUsername("Bo"));
+        assertNull(registry.getByUuid(UUID.randomUUID()));
+
+        registry.remove(alice);
+        assertEquals(List.of(bob), List.copyOf(registry.players()));
+        assertNull(registry.getByUuid(alice.getUuid()));
+        assertNull(registry.getByUsername("alice"));
+        assertNull(registry.getByEntityId(alice.getEntityId()));
+    }
+
+    @Test
+    public void prefix() {
+        var registry = PlayerRegistry.concurrent();
+        var first = new Player(UUID.randomUUID(), "TheMode", null);
+        var second = new Player(UUID.randomUUID(), "themodel", null);
+        var third = new Player(UUID.randomUUID(), "Other", null);
+        registry.add(first);
+        registry.add(second);
+        registry.add(third);
+
+        assertEquals(Set.of(first, second), Set.copyOf(registry.findByPrefix("themo")));
+        assertEquals(List.of(second), List.copyOf(registry.findByPrefix("THEMODE" + "l")));
+        assertEquals(List.of(third), List.copyOf(registry.findByPrefix("o")));
+        assertTrue(registry.findByPrefix("x").isEmpty());
+    }
+
+    @Test
+    public void duplicateUsername() {
+        var registry = PlayerRegistry.concurrent();
+        var first = new Player(UUID.randomUUID(), "name", null);
+        var second = new Player(UUID.randomUUID(), "Name", null);
+        registry.add(first);
+        registry.add(second);
+        assertEquals(2, registry.findByPrefix("name").size());
+
+        registry.remove(first);
+        assertSame(second, registry.getByUsername("name"));
+    }
+
+    @Test
+    public void update() {
+        var registry = PlayerRegistry.concurrent();
+        var player = new Player(UUID.randomUUID(), "before", null);
+        registry.add(player);
+        final UUID previousUuid = player.getUuid();
+
+        player.setUsernameField("after");
+        player.setUuid(UUID.randomUUID());
+        registry.update(player);
+        assertNull(registry.getByUsername("before"));
+        assertNull(registry.getByUuid(previousUuid));
+        assertSame(player, registry.getByUsername("after"));
+        assertSame(player, registry.getByUuid(player.getUuid()));
+    }
+}
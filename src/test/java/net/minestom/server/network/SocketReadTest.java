@@ -12,7 +12,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,6 +89,7 @@ public class SocketReadTest {
                 (integer, payload) -> packets.add(Pair.of(integer, payload)));
         assertNotNull(remaining);
         assertEquals(Utils.getVarIntSize(200), remaining.readableBytes());
+        assertEquals(200, remaining.readVarInt());
 
         assertEquals(1, packets.size());
         var rawPacket = packets.get(0);
@@ -123,4 +126,39 @@ public class SocketReadTest {
         assertEquals("channel", readPacket.channel());
         assertEquals(2000, readPacket.data().length);
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void reusedInflater(boolean compressed) throws DataFormatException {
+        // Read packets in multiple steps with the same decoding state
+        var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
+        final int firstLength = buffer.position();
+        PacketUtils.writeFramedPacket(buffer, 0x0A, packet, compressed ? 256 : 0);
+
+        var wrapper = BinaryBuffer.wrap(buffer);
+        var inflater = new Inflater();
+        var decompressionBuffer = ByteBuffer.allocateDirect(4096);
+        List<Integer> sizes = new ArrayList<>();
+        BiConsumer<Integer, ByteBuffer> consumer = (integer, payload) -> {
+            var readPacket = new ClientPluginMessagePacket(new NetworkBuffer(payload));
+            sizes.add(readPacket.data().length);
+        };
+
+        // First packet and part of the second
+        wrapper.reset(0, firstLength + 10);
+        PacketUtils.readPackets(wrapper, compressed, inflater, decompressionBuffer, consumer);
+        assertEquals(List.of(2000), sizes);
+        assertEquals(firstLength, wrapper.readerOffset());
+        assertEquals(10, wrapper.readableBytes());
+
+        // Rest of the second packet
+        wrapper.reset(firstLength, buffer.position());
+        PacketUtils.readPackets(wrapper, compressed, inflater, decompressionBuffer, consumer);
+        assertEquals(List.of(2000, 2000), sizes);
+        assertEquals(0, wrapper.readableBytes());
+        inflater.end();
+    }
 }
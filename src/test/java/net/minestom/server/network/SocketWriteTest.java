@@ -7,12 +7,12 @@ import net.minestom.server.utils.Utils;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import static net.minestom.server.network.NetworkBuffer.INT;
 import static net.minestom.server.network.NetworkBuffer.STRING;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SocketWriteTest {
 
@@ -105,4 +105,41 @@ public class SocketWriteTest {
         // The 3 bytes var-int length is hardcoded for performance purpose, could change in the future
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.position(), "Invalid buffer position");
     }
+
+    @Test
+    public void tryWriteOverflow() {
+        var packet = new IntPacket(5);
+        var buffer = ByteBuffer.allocate(10);
+
+        assertTrue(PacketUtils.tryWriteFramedPacket(buffer, packet, false));
+        assertEquals(3 + 1 + 4, buffer.position());
+        // Not enough space left, the buffer is left unchanged
+        assertFalse(PacketUtils.tryWriteFramedPacket(buffer, packet, false));
+        assertEquals(3 + 1 + 4, buffer.position());
+    }
+
+    @Test
+    public void serializedFallback() {
+        var packet = new CompressiblePacket("a".repeat(100));
+        var expected = ByteBuffer.allocate(200);
+        PacketUtils.writeFramedPacket(expected, packet, false);
+        expected.flip();
+
+        // Framed in a pooled buffer from the same content when the target is too small
+        var content = PacketUtils.serializePacket(packet);
+        assertFalse(PacketUtils.tryWriteFramedPacket(ByteBuffer.allocate(50), content, false));
+        var framed = PacketUtils.useFramedPacket(content, false, buffer -> ByteBuffer.allocate(buffer.remaining()).put(buffer).flip());
+        assertEquals(expected, framed);
+    }
+
+    @Test
+    public void framedSizeClasses() {
+        var small = PacketUtils.useFramedPacket(new IntPacket(5), false, buffer -> buffer.capacity());
+        assertEquals(8_192, small);
+        var large = PacketUtils.useFramedPacket(new CompressiblePacket("a".repeat(10_000)), false, buffer -> {
+            assertEquals(3 + 1 + 2 + 10_000, buffer.remaining());
+            return buffer.capacity();
+        });
+        assertEquals(65_536, large);
+    }
 }
@@ -0,0 +1,31 @@
+package net.minestom.server.network.player;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.network.packet.server.play.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BackpressurePolicyTest {
+
+    @Test
+    public void droppable() {
+        assertTrue(BackpressurePolicy.isDroppable(new EntityAnimationPacket(1, EntityAnimationPacket.Animation.SWING_MAIN_ARM)));
+        assertFalse(BackpressurePolicy.isDroppable(new SystemChatPacket(Component.text("Hey"), false)));
+        assertFalse(BackpressurePolicy.isDroppable(new KeepAlivePacket(1)));
+    }
+
+    @Test
+    public void coalescingKey() {
+        assertEquals(BackpressurePolicy.coalescingKey(new TimeUpdatePacket(0, 0)),
+                BackpressurePolicy.coalescingKey(new TimeUpdatePacket(20, 20)));
+        assertEquals(BackpressurePolicy.coalescingKey(new EntityHeadLookPacket(1, 0)),
+                BackpressurePolicy.coalescingKey(new EntityHeadLookPacket(1, 90)));
+        assertNotEquals(BackpressurePolicy.coalescingKey(new EntityHeadLookPacket(1, 0)),
+                BackpressurePolicy.coalescingKey(new EntityHeadLookPacket(2, 0)));
+        assertNotEquals(BackpressurePolicy.coalescingKey(new EntityHeadLookPacket(1, 0)),
+                BackpressurePolicy.coalescingKey(new EntityVelocityPacket(1, (short) 0, (short) 0, (short) 0)));
+        // Relative movements cannot be replaced
+        assertNull(BackpressurePolicy.coalescingKey(new EntityPositionPacket(1, (short) 1, (short) 0, (short) 0, true)));
+    }
+}
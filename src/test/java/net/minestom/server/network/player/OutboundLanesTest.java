@@ -0,0 +1,112 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OutboundLanesTest {
+    private static final RespawnPacket RESPAWN = new RespawnPacket("minecraft:overworld", "minecraft:world",
+            0, GameMode.SURVIVAL, GameMode.SURVIVAL, false, false, false, null);
+    private static final PlayerPositionAndLookPacket TELEPORT = new PlayerPositionAndLookPacket(Pos.ZERO, (byte) 0, 1, false);
+
+    @Test
+    public void respawnTeleportOrder() {
+        var sink = new TestSink();
+        var lanes = new OutboundLanes(10, 10, sink);
+        sink.pendingBytes = 10; // Socket behind
+        sink.send(lanes, RESPAWN, 1);
+        sink.send(lanes, TELEPORT, 2);
+        assertEquals(List.of(), sink.written);
+        // Socket caught up
+        sink.pendingBytes = lanes.queuedBytes();
+        lanes.release();
+        assertEquals(List.of(1, 2), sink.written);
+    }
+
+    @Test
+    public void criticalAfterBarrier() {
+        var sink = new TestSink();
+        var lanes = new OutboundLanes(10, 10, sink);
+        sink.pendingBytes = 10;
+        sink.send(lanes, new ChunkDataPacket(0, 0, null, null), 1);
+        sink.send(lanes, RESPAWN, 2);
+        sink.send(lanes, TELEPORT, 3);
+        sink.send(lanes, new EntityHeadLookPacket(1, 0), 4);
+        // Health must not overtake the respawn and the teleport, nor the chunk preceding them
+        sink.send(lanes, new UpdateHealthPacket(20, 20, 5), 5);
+        assertEquals(List.of(1, 2, 3, 5), sink.written);
+        sink.pendingBytes = lanes.queuedBytes();
+        lanes.release();
+        assertEquals(List.of(1, 2, 3, 5, 4), sink.written);
+    }
+
+    @Test
+    public void rawAfterChunk() {
+        var sink = new TestSink();
+        var lanes = new OutboundLanes(20, 10, sink);
+        sink.pendingBytes = 10; // Only the bulk lane is behind
+        sink.send(lanes, new ChunkDataPacket(0, 0, null, null), 1);
+        // Raw buffers (e.g. viewable broadcasts) may spawn entities in the queued chunk
+        sink.send(lanes, null, 2);
+        assertEquals(List.of(1, 2), sink.written);
+        assertEquals(0, lanes.queuedBytes());
+    }
+
+    @Test
+    public void largePacket() {
+        var sink = new TestSink();
+        var lanes = new OutboundLanes(10, 10, sink);
+        sink.pendingBytes = 10;
+        // Spans several pooled buffers
+        byte[] bytes = new byte[600_000];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) i;
+        lanes.queue(null, sink.sequence++, ByteBuffer.wrap(bytes), 0, bytes.length);
+        sink.send(lanes, new EntityHeadLookPacket(1, 0), 1);
+        sink.pendingBytes = lanes.queuedBytes();
+        lanes.release();
+        assertEquals(0, lanes.queuedBytes());
+        assertArrayEquals(bytes, Arrays.copyOf(sink.bytes.toByteArray(), bytes.length));
+        assertEquals(1, sink.written.get(sink.written.size() - 1));
+    }
+
+    private static final class TestSink implements OutboundLanes.Sink {
+        final List<Integer> written = new ArrayList<>();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long pendingBytes;
+        long sequence;
+
+        void send(OutboundLanes lanes, ServerPacket packet, int marker) {
+            final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) marker});
+            final long sequence = this.sequence++;
+            if (lanes.prepareDirectWrite(packet, sequence)) {
+                this.written.add(marker);
+            } else {
+                lanes.queue(packet, sequence, buffer, 0, 1);
+                this.pendingBytes++;
+            }
+        }
+
+        @Override
+        public long pendingBytes() {
+            return pendingBytes;
+        }
+
+        @Override
+        public void write(@NotNull ByteBuffer buffer, int index, int length) {
+            this.written.add((int) buffer.get(index));
+            for (int i = 0; i < length; i++) this.bytes.write(buffer.get(index + i));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketPriorityTest {
+
+    @Test
+    public void lanes() {
+        assertEquals(PacketPriority.CRITICAL, PacketPriority.of(new KeepAlivePacket(1)));
+        assertEquals(PacketPriority.GAMEPLAY, PacketPriority.of(new EntityHeadLookPacket(1, 0)));
+        assertEquals(PacketPriority.BULK, PacketPriority.of(new MapDataPacket(1, (byte) 0, false, false, List.of(), null)));
+        // Ordered with the chunks through its chunk index instead
+        assertEquals(PacketPriority.GAMEPLAY, PacketPriority.of(new UnloadChunkPacket(0, 0)));
+    }
+
+    @Test
+    public void chunkIndex() {
+        final long index = ChunkUtils.getChunkIndex(-2, 3);
+        assertEquals(index, PacketPriority.chunkIndex(new UnloadChunkPacket(-2, 3)));
+        assertEquals(index, PacketPriority.chunkIndex(new BlockChangePacket(new Vec(-17, 40, 50), 1)));
+        assertEquals(index, PacketPriority.chunkIndex(new MultiBlockChangePacket(-2, 2, 3, false, new long[0])));
+        assertEquals(PacketPriority.NO_CHUNK, PacketPriority.chunkIndex(new KeepAlivePacket(1)));
+    }
+
+    @Test
+    public void barrier() {
+        assertTrue(PacketPriority.isBarrier(new UpdateViewPositionPacket(0, 0)));
+        assertTrue(PacketPriority.isBarrier(new PlayerPositionAndLookPacket(Pos.ZERO, (byte) 0, 1, false)));
+        assertFalse(PacketPriority.isBarrier(new BlockChangePacket(Vec.ZERO, 1)));
+    }
+}
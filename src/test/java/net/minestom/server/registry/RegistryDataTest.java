@@ -0,0 +1,18 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistryDataTest {
+
+    @Test
+    public void binaryMatchesJson() {
+        // Run by the build, fails if the precompiled data is missing or stale
+        for (Registry.Resource resource : Registry.Resource.values()) {
+            var binary = Registry.loadBinary(resource);
+            assertNotNull(binary, "Registry data not precompiled: " + resource.name());
+            assertEquals(Registry.loadJson(resource), binary, resource.name());
+        }
+    }
+}
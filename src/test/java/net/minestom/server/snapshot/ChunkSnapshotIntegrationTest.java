@@ -5,7 +5,7 @@ import net.minestom.testing.EnvTest;
 import net.minestom.server.instance.block.Block;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class ChunkSnapshotIntegrationTest {
@@ -23,4 +23,28 @@ public class ChunkSnapshotIntegrationTest {
         var chunk = inst.chunks().iterator().next();
         assertEquals(Block.STONE, chunk.getBlock(0, 0, 0));
     }
+
+    @Test
+    public void reuseUnchanged(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setBlock(0, 0, 0, Block.STONE);
+        var chunk1 = (SnapshotImpl.Chunk) ServerSnapshot.updatePersistent().instances().iterator().next().chunk(0, 0);
+        var chunk2 = (SnapshotImpl.Chunk) ServerSnapshot.updatePersistent().instances().iterator().next().chunk(0, 0);
+        assertSame(chunk1.sections(), chunk2.sections(), "Unchanged chunk should share its sections");
+
+        instance.setBlock(0, 0, 0, Block.GRASS_BLOCK);
+        var chunk3 = (SnapshotImpl.Chunk) ServerSnapshot.updatePersistent().instances().iterator().next().chunk(0, 0);
+        assertNotSame(chunk2.sections(), chunk3.sections());
+        assertEquals(Block.STONE, chunk2.getBlock(0, 0, 0));
+        assertEquals(Block.GRASS_BLOCK, chunk3.getBlock(0, 0, 0));
+    }
+
+    @Test
+    public void oneOffNotRetained(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setBlock(0, 0, 0, Block.STONE);
+        var chunk1 = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        var chunk2 = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        assertNotSame(chunk1.sections(), chunk2.sections(), "Only persistent snapshots should keep the chunk copy");
+    }
 }
@@ -6,8 +6,7 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class EntitySnapshotIntegrationTest {
@@ -36,4 +35,23 @@ public class EntitySnapshotIntegrationTest {
         assertNull(ent.getVehicle());
         assertNull(entity.vehicle());
     }
+
+    @Test
+    public void reuseUnchanged(Env env) {
+        var instance = env.createFlatInstance();
+        var ent = new Entity(EntityType.ZOMBIE);
+        ent.setInstance(instance).join();
+        var entity1 = (SnapshotImpl.Entity) ServerSnapshot.update().entity(ent.getEntityId());
+        var entity2 = (SnapshotImpl.Entity) ServerSnapshot.update().entity(ent.getEntityId());
+        assertSame(entity1.viewersId(), entity2.viewersId(), "Unchanged viewers should be shared");
+        assertSame(entity1.passengersId(), entity2.passengersId(), "Unchanged passengers should be shared");
+
+        var passenger = new Entity(EntityType.ZOMBIE);
+        passenger.setInstance(instance).join();
+        ent.addPassenger(passenger);
+        var entity3 = (SnapshotImpl.Entity) ServerSnapshot.update().entity(ent.getEntityId());
+        assertNotSame(entity2.passengersId(), entity3.passengersId());
+        assertEquals(0, entity2.passengers().size());
+        assertEquals(1, entity3.passengers().size());
+    }
 }
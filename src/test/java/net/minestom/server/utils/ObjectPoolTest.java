@@ -1,10 +1,13 @@
 package net.minestom.server.utils;
 
+import net.minestom.server.network.socket.Server;
+import net.minestom.server.thread.MinestomThread;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,4 +47,51 @@ public class ObjectPoolTest {
         }
         assertEquals(1, pool.count());
     }
+
+    @Test
+    public void bounded() {
+        var pool = new ObjectPool<>(Object::new, UnaryOperator.identity(), Integer.MAX_VALUE);
+        for (int i = 0; i < 4; i++) pool.add(new Object());
+        pool.add(new Object());
+        assertEquals(4, pool.count());
+        assertEquals(1, pool.metrics().dropped());
+
+        for (int i = 0; i < 5; i++) pool.get();
+        assertEquals(0, pool.count());
+        assertEquals(4, pool.metrics().hits());
+        assertEquals(1, pool.metrics().misses());
+    }
+
+    @Test
+    public void threadCache() throws InterruptedException {
+        var pool = new ObjectPool<>(Object::new, UnaryOperator.identity(), 1024);
+        var object = new Object();
+        // Asserted after join, a failed assertion in the thread would not fail the test
+        var thread = new MinestomThread("test") {
+            int count;
+            Object cached;
+
+            @Override
+            public void run() {
+                pool.add(object);
+                this.count = pool.count();
+                this.cached = pool.get();
+                pool.add(object);
+            }
+        };
+        thread.start();
+        thread.join();
+        assertEquals(1, thread.count);
+        assertSame(object, thread.cached);
+        // Kept in the cache of the thread
+        assertEquals(1, pool.count());
+        assertNotSame(object, pool.get());
+    }
+
+    @Test
+    public void sizeClasses() {
+        assertEquals(8_192, ObjectPool.packetPool(100).get().capacity());
+        assertEquals(65_536, ObjectPool.packetPool(8_193).get().capacity());
+        assertSame(ObjectPool.PACKET_POOL, ObjectPool.packetPool(Server.MAX_PACKET_SIZE));
+    }
 }